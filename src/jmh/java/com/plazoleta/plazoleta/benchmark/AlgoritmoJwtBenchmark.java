@@ -0,0 +1,95 @@
+package com.plazoleta.plazoleta.benchmark;
+
+import com.plazoleta.plazoleta.infraestructure.security.ClavesJwks;
+import com.plazoleta.plazoleta.infraestructure.security.FuenteJwks;
+import com.plazoleta.plazoleta.infraestructure.security.JjwtVerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import com.plazoleta.plazoleta.infrastructure.security.JwksDePrueba;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de verificación de tokens con jjwt según el algoritmo de firma: HS256 con la clave
+ * compartida y RS256/ES256 con claves públicas resueltas por {@code kid} desde un JWKS local.
+ * Se ejecuta con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class AlgoritmoJwtBenchmark {
+
+    private static final String SECRETO = "benchmark-secret-key-of-at-least-256-bits!";
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algoritmo;
+
+    private Path archivoJwks;
+    private ClavesJwks claves;
+    private JjwtVerificadorToken verificador;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SecretKey hmac = Keys.hmacShaKeyFor(SECRETO.getBytes(StandardCharsets.UTF_8));
+        KeyPair rsa = JwksDePrueba.rsa();
+        KeyPair ec = JwksDePrueba.ec();
+        archivoJwks = Files.createTempFile("jwks", ".json");
+        Files.writeString(archivoJwks, JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa),
+                JwksDePrueba.jwk("ec-1", ec)));
+        claves = new ClavesJwks(FuenteJwks.desde(archivoJwks.toString()), hmac, Duration.ofMinutes(1),
+                Duration.ofSeconds(30));
+        verificador = new JjwtVerificadorToken(claves);
+
+        Instant ahora = Instant.now();
+        var builder = Jwts.builder()
+                .subject("12345")
+                .claim("role", "PROPIETARIO")
+                .issuedAt(Date.from(ahora))
+                .expiration(Date.from(ahora.plus(Duration.ofDays(1))));
+        token = switch (algoritmo) {
+            case "RS256" -> builder.header().keyId("rsa-1").and().signWith(rsa.getPrivate(), Jwts.SIG.RS256).compact();
+            case "ES256" -> builder.header().keyId("ec-1").and().signWith(ec.getPrivate(), Jwts.SIG.ES256).compact();
+            default -> builder.signWith(hmac, Jwts.SIG.HS256).compact();
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        claves.close();
+        Files.deleteIfExists(archivoJwks);
+    }
+
+    @Benchmark
+    public TokenVerificado verificar() {
+        return verificador.verificar(token);
+    }
+}
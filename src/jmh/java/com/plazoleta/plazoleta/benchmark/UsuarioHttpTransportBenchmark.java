@@ -0,0 +1,80 @@
+package com.plazoleta.plazoleta.benchmark;
+
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.JdkHttpFeignClient;
+import com.plazoleta.plazoleta.infrastructure.out.client.stub.UsuarioServiceStubServer;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el cliente por defecto de Feign (HttpURLConnection) con el transporte sobre el HttpClient
+ * del JDK al consultar un usuario en un servidor local. Reporta throughput y distribución de latencia.
+ * Se ejecuta con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(16)
+public class UsuarioHttpTransportBenchmark {
+
+    @Param({"feign-default", "jdk"})
+    public String transporte;
+
+    private UsuarioServiceStubServer server;
+    private Client client;
+    private Request.Options options;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new UsuarioServiceStubServer(Duration.ZERO);
+        url = server.getUrl() + "/api/v1/usuarios/1";
+        options = new Request.Options(5, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+        client = "jdk".equals(transporte)
+                ? new JdkHttpFeignClient(new Http2Client(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build()), 64, Duration.ofSeconds(1), new SimpleMeterRegistry())
+                : new Client.Default(null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public byte[] getUserById() throws IOException {
+        Request request = Request.create(Request.HttpMethod.GET, url, new HashMap<>(), null, new RequestTemplate());
+        try (Response response = client.execute(request, options)) {
+            return Util.toByteArray(response.body().asInputStream());
+        }
+    }
+}
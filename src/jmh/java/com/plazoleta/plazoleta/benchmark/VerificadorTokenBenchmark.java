@@ -0,0 +1,70 @@
+package com.plazoleta.plazoleta.benchmark;
+
+import com.plazoleta.plazoleta.infraestructure.security.Hs256VerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.JjwtVerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import com.plazoleta.plazoleta.infraestructure.security.VerificadorToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la verificación de un token HS256 con jjwt y con el verificador propio, sin caché de
+ * tokens. Reporta throughput; con el profiler de GC ({@code gc.alloc.rate.norm}) reporta además los
+ * bytes asignados por verificación. Se ejecuta con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class VerificadorTokenBenchmark {
+
+    private static final String SECRETO = "benchmark-secret-key-of-at-least-256-bits!";
+
+    @Param({"jjwt", "hs256"})
+    public String verificador;
+
+    private VerificadorToken verificadorToken;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JjwtVerificadorToken jjwt = new JjwtVerificadorToken(SECRETO);
+        verificadorToken = "hs256".equals(verificador) ? new Hs256VerificadorToken(SECRETO, jjwt) : jjwt;
+        Instant ahora = Instant.now();
+        token = Jwts.builder()
+                .subject("12345")
+                .claim("role", "PROPIETARIO")
+                .claim("email", "propietario@plazoleta.com")
+                .issuedAt(Date.from(ahora))
+                .expiration(Date.from(ahora.plus(Duration.ofDays(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRETO.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public TokenVerificado verificar() {
+        return verificadorToken.verificar(token);
+    }
+}
@@ -0,0 +1,21 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AjustarPreciosRequestDto {
+    private Long restauranteId;
+    private String tipo;
+    private BigDecimal valor;
+    private String categoria;
+    private Integer precioMinimo;
+    private Integer precioMaximo;
+}
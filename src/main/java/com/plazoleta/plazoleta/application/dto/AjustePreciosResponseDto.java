@@ -0,0 +1,14 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AjustePreciosResponseDto {
+    private int platosActualizados;
+}
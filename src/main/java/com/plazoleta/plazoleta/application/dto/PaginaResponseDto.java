@@ -0,0 +1,22 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Página de un listado por cursor: para la página siguiente se envía {@code siguienteCursor} como
+ * parámetro {@code cursor}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaResponseDto<T> {
+    private List<T> elementos;
+    private String siguienteCursor;
+    private boolean haySiguiente;
+}
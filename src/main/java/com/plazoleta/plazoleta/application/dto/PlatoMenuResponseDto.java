@@ -0,0 +1,20 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlatoMenuResponseDto {
+    private Long id;
+    private String nombre;
+    private Integer precio;
+    private String descripcion;
+    private String urlImagen;
+    private String categoria;
+    private Boolean activo;
+}
@@ -0,0 +1,16 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestauranteDirectorioResponseDto {
+    private Long id;
+    private String nombre;
+    private String urlLogo;
+}
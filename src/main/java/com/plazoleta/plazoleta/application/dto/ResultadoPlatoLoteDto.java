@@ -0,0 +1,17 @@
+package com.plazoleta.plazoleta.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoPlatoLoteDto {
+    private int indice;
+    private boolean creado;
+    private Long id;
+    private String error;
+}
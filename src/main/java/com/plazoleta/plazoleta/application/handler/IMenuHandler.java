@@ -0,0 +1,10 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.PlatoMenuResponseDto;
+
+public interface IMenuHandler {
+
+    PaginaResponseDto<PlatoMenuResponseDto> listMenu(Long restauranteId, String categoria, Boolean activo,
+                                                     String cursor, Integer tamano);
+}
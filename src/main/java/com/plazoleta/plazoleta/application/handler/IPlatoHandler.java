@@ -1,11 +1,19 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.ActualizarPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustePreciosResponseDto;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteResponseDto;
 
 public interface IPlatoHandler {
 
     void createDish(CrearPlatoRequestDto dto);
 
+    CrearPlatosLoteResponseDto createDishes(CrearPlatosLoteRequestDto dto);
+
     void updateDish(Long platoId, ActualizarPlatoRequestDto dto);
-}
\ No newline at end of file
+
+    AjustePreciosResponseDto adjustPrices(AjustarPreciosRequestDto dto);
+}
@@ -1,8 +1,12 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 
 public interface IRestauranteHandler {
 
     void createRestaurante(CrearRestauranteRequestDto dto);
-}
\ No newline at end of file
+
+    PaginaResponseDto<RestauranteDirectorioResponseDto> listRestaurantes(String cursor, Integer tamano);
+}
@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.RevocarTokenRequestDto;
+
+public interface ITokenRevocadoHandler {
+
+    void revocarToken(RevocarTokenRequestDto dto);
+}
@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.InvalidarUsuariosRequestDto;
+
+public interface IUsuarioCacheHandler {
+
+    void invalidarUsuarios(InvalidarUsuariosRequestDto dto);
+}
@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.ReconstruccionIndiceResponseDto;
+import com.plazoleta.plazoleta.domain.api.ReconstruirIndicePropietariosServicePort;
+
+public class IndicePropietariosHandler implements IIndicePropietariosHandler {
+
+    private final ReconstruirIndicePropietariosServicePort reconstruirIndicePropietariosServicePort;
+
+    public IndicePropietariosHandler(ReconstruirIndicePropietariosServicePort reconstruirIndicePropietariosServicePort) {
+        this.reconstruirIndicePropietariosServicePort = reconstruirIndicePropietariosServicePort;
+    }
+
+    @Override
+    public ReconstruccionIndiceResponseDto reconstruir() {
+        return new ReconstruccionIndiceResponseDto(reconstruirIndicePropietariosServicePort.reconstruirIndicePropietarios());
+    }
+}
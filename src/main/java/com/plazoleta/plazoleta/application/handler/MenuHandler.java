@@ -0,0 +1,27 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.PlatoMenuResponseDto;
+import com.plazoleta.plazoleta.application.mapper.PlatoApplicationMapper;
+import com.plazoleta.plazoleta.domain.api.ListarMenuServicePort;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+
+public class MenuHandler implements IMenuHandler {
+
+    private final ListarMenuServicePort listarMenuServicePort;
+    private final PlatoApplicationMapper mapper;
+
+    public MenuHandler(ListarMenuServicePort listarMenuServicePort, PlatoApplicationMapper mapper) {
+        this.listarMenuServicePort = listarMenuServicePort;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public PaginaResponseDto<PlatoMenuResponseDto> listMenu(Long restauranteId, String categoria, Boolean activo,
+                                                            String cursor, Integer tamano) {
+        Pagina<PlatoMenu> pagina = listarMenuServicePort.listarMenu(restauranteId, categoria, activo, cursor, tamano);
+        return new PaginaResponseDto<>(mapper.toMenuResponseList(pagina.elementos()),
+                pagina.haySiguiente() ? pagina.siguiente().codificar() : null, pagina.haySiguiente());
+    }
+}
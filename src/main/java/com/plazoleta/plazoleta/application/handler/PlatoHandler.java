@@ -1,38 +1,67 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.ActualizarPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustePreciosResponseDto;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteResponseDto;
+import com.plazoleta.plazoleta.application.dto.ResultadoPlatoLoteDto;
 import com.plazoleta.plazoleta.application.mapper.PlatoApplicationMapper;
 import com.plazoleta.plazoleta.application.security.ICurrentUserProvider;
+import com.plazoleta.plazoleta.domain.api.AjustarPreciosServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoUpdateServicePort;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
+
+import java.util.List;
 
 public class PlatoHandler implements IPlatoHandler {
 
     private final PlatoServicePort platoServicePort;
     private final PlatoUpdateServicePort platoUpdateServicePort;
+    private final AjustarPreciosServicePort ajustarPreciosServicePort;
     private final PlatoApplicationMapper mapper;
     private final ICurrentUserProvider currentUserProvider;
 
     public PlatoHandler(PlatoServicePort platoServicePort,
                         PlatoUpdateServicePort platoUpdateServicePort,
+                        AjustarPreciosServicePort ajustarPreciosServicePort,
                         PlatoApplicationMapper mapper,
                         ICurrentUserProvider currentUserProvider) {
         this.platoServicePort = platoServicePort;
         this.platoUpdateServicePort = platoUpdateServicePort;
+        this.ajustarPreciosServicePort = ajustarPreciosServicePort;
         this.mapper = mapper;
         this.currentUserProvider = currentUserProvider;
     }
 
     @Override
     public void createDish(CrearPlatoRequestDto dto) {
-        Long propietarioId = currentUserProvider.getCurrentUserId();
-        platoServicePort.crearPlato(mapper.toDomain(dto), propietarioId);
+        platoServicePort.crearPlato(mapper.toDomain(dto), propietarioActual());
+    }
+
+    @Override
+    public CrearPlatosLoteResponseDto createDishes(CrearPlatosLoteRequestDto dto) {
+        List<ResultadoPlatoLoteDto> resultados = mapper.toDtoList(
+                platoServicePort.crearPlatos(mapper.toDomainList(dto.getPlatos()), propietarioActual()));
+        int creados = (int) resultados.stream().filter(ResultadoPlatoLoteDto::isCreado).count();
+        return new CrearPlatosLoteResponseDto(creados, resultados.size() - creados, resultados);
     }
 
     @Override
     public void updateDish(Long platoId, ActualizarPlatoRequestDto dto) {
-        Long propietarioId = currentUserProvider.getCurrentUserId();
-        platoUpdateServicePort.updateDish(platoId, dto.getPrecio(), dto.getDescripcion(), propietarioId);
+        platoUpdateServicePort.updateDish(platoId, dto.getPrecio(), dto.getDescripcion(), propietarioActual());
+    }
+
+    @Override
+    public AjustePreciosResponseDto adjustPrices(AjustarPreciosRequestDto dto) {
+        return new AjustePreciosResponseDto(
+                ajustarPreciosServicePort.ajustarPrecios(mapper.toDomain(dto), propietarioActual()));
+    }
+
+    private Long propietarioActual() {
+        UsuarioAutenticado usuario = currentUserProvider.getUsuarioActual();
+        return usuario != null ? usuario.userId() : null;
     }
 }
\ No newline at end of file
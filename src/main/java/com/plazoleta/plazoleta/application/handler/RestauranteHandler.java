@@ -1,16 +1,25 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 import com.plazoleta.plazoleta.application.mapper.RestauranteApplicationMapper;
+import com.plazoleta.plazoleta.domain.api.ListarRestaurantesServicePort;
 import com.plazoleta.plazoleta.domain.api.RestauranteServicePort;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
 
 public class RestauranteHandler implements IRestauranteHandler {
 
     private final RestauranteServicePort servicePort;
+    private final ListarRestaurantesServicePort listarRestaurantesServicePort;
     private final RestauranteApplicationMapper mapper;
 
-    public RestauranteHandler(RestauranteServicePort servicePort, RestauranteApplicationMapper mapper) {
+    public RestauranteHandler(RestauranteServicePort servicePort,
+                              ListarRestaurantesServicePort listarRestaurantesServicePort,
+                              RestauranteApplicationMapper mapper) {
         this.servicePort = servicePort;
+        this.listarRestaurantesServicePort = listarRestaurantesServicePort;
         this.mapper = mapper;
     }
 
@@ -18,4 +27,11 @@ public class RestauranteHandler implements IRestauranteHandler {
     public void createRestaurante(CrearRestauranteRequestDto dto) {
         servicePort.crearRestaurante(mapper.toDomain(dto));
     }
-}
\ No newline at end of file
+
+    @Override
+    public PaginaResponseDto<RestauranteDirectorioResponseDto> listRestaurantes(String cursor, Integer tamano) {
+        Pagina<RestauranteDirectorio> pagina = listarRestaurantesServicePort.listarRestaurantes(cursor, tamano);
+        return new PaginaResponseDto<>(mapper.toDirectorioResponseList(pagina.elementos()),
+                pagina.haySiguiente() ? pagina.siguiente().codificar() : null, pagina.haySiguiente());
+    }
+}
@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.RevocarTokenRequestDto;
+import com.plazoleta.plazoleta.domain.api.RevocarTokenServicePort;
+
+public class TokenRevocadoHandler implements ITokenRevocadoHandler {
+
+    private final RevocarTokenServicePort revocarTokenServicePort;
+
+    public TokenRevocadoHandler(RevocarTokenServicePort revocarTokenServicePort) {
+        this.revocarTokenServicePort = revocarTokenServicePort;
+    }
+
+    @Override
+    public void revocarToken(RevocarTokenRequestDto dto) {
+        revocarTokenServicePort.revocarToken(dto.getJti(), dto.getExpiraEn());
+    }
+}
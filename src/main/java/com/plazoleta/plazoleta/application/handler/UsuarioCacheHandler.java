@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.application.handler;
+
+import com.plazoleta.plazoleta.application.dto.InvalidarUsuariosRequestDto;
+import com.plazoleta.plazoleta.domain.api.InvalidarUsuariosServicePort;
+
+public class UsuarioCacheHandler implements IUsuarioCacheHandler {
+
+    private final InvalidarUsuariosServicePort invalidarUsuariosServicePort;
+
+    public UsuarioCacheHandler(InvalidarUsuariosServicePort invalidarUsuariosServicePort) {
+        this.invalidarUsuariosServicePort = invalidarUsuariosServicePort;
+    }
+
+    @Override
+    public void invalidarUsuarios(InvalidarUsuariosRequestDto dto) {
+        invalidarUsuariosServicePort.invalidarUsuarios(dto.getUserIds());
+    }
+}
@@ -1,14 +1,37 @@
 package com.plazoleta.plazoleta.application.mapper;
 
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.PlatoMenuResponseDto;
+import com.plazoleta.plazoleta.application.dto.ResultadoPlatoLoteDto;
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+import com.plazoleta.plazoleta.domain.model.ResultadoCreacionPlato;
+import com.plazoleta.plazoleta.domain.model.TipoAjustePrecio;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+import java.util.List;
+
+@Mapper(componentModel = "spring", imports = TipoAjustePrecio.class)
 public interface PlatoApplicationMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "activo", ignore = true)
     Plato toDomain(CrearPlatoRequestDto dto);
-}
\ No newline at end of file
+
+    List<Plato> toDomainList(List<CrearPlatoRequestDto> dtos);
+
+    @Mapping(target = "id", source = "platoId")
+    ResultadoPlatoLoteDto toDto(ResultadoCreacionPlato resultado);
+
+    List<ResultadoPlatoLoteDto> toDtoList(List<ResultadoCreacionPlato> resultados);
+
+    @Mapping(target = "tipo", expression = "java(TipoAjustePrecio.desdeNombre(dto.getTipo()))")
+    AjustePrecios toDomain(AjustarPreciosRequestDto dto);
+
+    PlatoMenuResponseDto toMenuResponse(PlatoMenu plato);
+
+    List<PlatoMenuResponseDto> toMenuResponseList(List<PlatoMenu> platos);
+}
@@ -1,13 +1,21 @@
 package com.plazoleta.plazoleta.application.mapper;
 
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface RestauranteApplicationMapper {
 
     @Mapping(target = "id", ignore = true)
     Restaurante toDomain(CrearRestauranteRequestDto dto);
-}
\ No newline at end of file
+
+    RestauranteDirectorioResponseDto toDirectorioResponse(RestauranteDirectorio restaurante);
+
+    List<RestauranteDirectorioResponseDto> toDirectorioResponseList(List<RestauranteDirectorio> restaurantes);
+}
@@ -1,12 +1,15 @@
 package com.plazoleta.plazoleta.application.security;
 
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
+
 /**
  * Puerto para obtener el usuario autenticado actual (desde el contexto de seguridad JWT).
  * La aplicación (handlers) usa esta interfaz para no depender de Spring Security.
  */
 public interface ICurrentUserProvider {
 
-    Long getCurrentUserId();
-
-    String getCurrentUserRole();
-}
\ No newline at end of file
+    /**
+     * Usuario autenticado de la petición actual, o null si la petición no está autenticada.
+     */
+    UsuarioAutenticado getUsuarioActual();
+}
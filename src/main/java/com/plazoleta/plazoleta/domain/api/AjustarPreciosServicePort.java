@@ -0,0 +1,11 @@
+package com.plazoleta.plazoleta.domain.api;
+
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+
+public interface AjustarPreciosServicePort {
+
+    /**
+     * @return cantidad de platos cuyo precio se ajustó
+     */
+    int ajustarPrecios(AjustePrecios ajuste, Long propietarioId);
+}
@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.domain.api;
+
+import java.util.Collection;
+
+public interface InvalidarUsuariosServicePort {
+
+    void invalidarUsuarios(Collection<Long> userIds);
+}
@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.domain.api;
+
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+
+public interface ListarMenuServicePort {
+
+    /**
+     * Platos del restaurante ordenados por categoría e id.
+     *
+     * @param categoria filtro opcional
+     * @param activo    filtro opcional
+     * @param cursor    cursor devuelto por la página anterior, o {@code null} para la primera
+     * @param tamano    platos por página, o {@code null} para el valor por defecto
+     */
+    Pagina<PlatoMenu> listarMenu(Long restauranteId, String categoria, Boolean activo, String cursor,
+                                 Integer tamano);
+}
@@ -0,0 +1,15 @@
+package com.plazoleta.plazoleta.domain.api;
+
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+
+public interface ListarRestaurantesServicePort {
+
+    /**
+     * Restaurantes en orden alfabético por nombre.
+     *
+     * @param cursor cursor devuelto por la página anterior, o {@code null} para la primera
+     * @param tamano restaurantes por página, o {@code null} para el valor por defecto
+     */
+    Pagina<RestauranteDirectorio> listarRestaurantes(String cursor, Integer tamano);
+}
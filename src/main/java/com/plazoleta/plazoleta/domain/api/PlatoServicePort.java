@@ -1,8 +1,16 @@
 package com.plazoleta.plazoleta.domain.api;
 
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.ResultadoCreacionPlato;
+
+import java.util.List;
 
 public interface PlatoServicePort {
 
     void crearPlato(Plato plato, Long propietarioId);
-}
\ No newline at end of file
+
+    /**
+     * Crea los platos válidos del lote y reporta el resultado de cada uno en el orden recibido.
+     */
+    List<ResultadoCreacionPlato> crearPlatos(List<Plato> platos, Long propietarioId);
+}
@@ -0,0 +1,6 @@
+package com.plazoleta.plazoleta.domain.api;
+
+public interface ReconstruirIndicePropietariosServicePort {
+
+    int reconstruirIndicePropietarios();
+}
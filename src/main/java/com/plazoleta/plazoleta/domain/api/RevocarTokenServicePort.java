@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.domain.api;
+
+import java.time.Instant;
+
+public interface RevocarTokenServicePort {
+
+    void revocarToken(String jti, Instant expiraEn);
+}
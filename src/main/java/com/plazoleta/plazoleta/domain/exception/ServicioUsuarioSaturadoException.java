@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.domain.exception;
+
+public class ServicioUsuarioSaturadoException extends DominioException {
+
+    public ServicioUsuarioSaturadoException(String message) {
+        super(message);
+    }
+}
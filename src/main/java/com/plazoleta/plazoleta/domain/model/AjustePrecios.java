@@ -0,0 +1,42 @@
+package com.plazoleta.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Ajuste de precio para los platos activos de un restaurante, opcionalmente limitado a una categoría
+ * y a un rango de precio actual (ambos extremos incluidos).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AjustePrecios {
+
+    private static final BigDecimal CIEN = BigDecimal.valueOf(100);
+
+    private Long restauranteId;
+    private TipoAjustePrecio tipo;
+    private BigDecimal valor;
+    private String categoria;
+    private Integer precioMinimo;
+    private Integer precioMaximo;
+
+    /**
+     * Multiplicador del precio actual: {@code 1 + valor/100} para porcentajes, 1 para valores fijos.
+     */
+    public BigDecimal getFactor() {
+        return tipo == TipoAjustePrecio.PORCENTAJE ? BigDecimal.ONE.add(valor.divide(CIEN)) : BigDecimal.ONE;
+    }
+
+    /**
+     * Valor que se suma al precio luego de aplicar el factor: el valor fijo, o 0 para porcentajes.
+     */
+    public int getIncremento() {
+        return tipo == TipoAjustePrecio.VALOR ? valor.intValueExact() : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.plazoleta.plazoleta.domain.model;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición de la última fila de una página en un recorrido ordenado por {@code (clave, id)}. Viaja al
+ * cliente como texto opaco y la página siguiente empieza justo después de ella.
+ *
+ * @param clave valor de la columna de orden de la última fila
+ * @param id    id de la última fila, para desempatar filas con la misma clave
+ */
+public record CursorPagina(String clave, long id) {
+
+    private static final char SEPARADOR = '\n';
+
+    public String codificar() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + String.valueOf(SEPARADOR) + clave).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return el cursor, o {@code null} si el texto es nulo o vacío (primera página)
+     * @throws DominioException si el texto no es un cursor emitido por {@link #codificar()}
+     */
+    public static CursorPagina decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separador = texto.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new DominioException("El cursor de paginación no es válido");
+            }
+            return new CursorPagina(texto.substring(separador + 1), Long.parseLong(texto.substring(0, separador)));
+        } catch (IllegalArgumentException e) {
+            throw new DominioException("El cursor de paginación no es válido", e);
+        }
+    }
+}
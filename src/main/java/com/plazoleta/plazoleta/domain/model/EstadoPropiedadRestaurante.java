@@ -0,0 +1,21 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Resultado de verificar si un restaurante pertenece a un propietario.
+ */
+public enum EstadoPropiedadRestaurante {
+    NO_EXISTE,
+    PROPIO,
+    AJENO;
+
+    /**
+     * @param propietarioRegistrado propietario del restaurante, o {@code null} si el restaurante no existe
+     * @param propietarioId         propietario que se quiere comprobar
+     */
+    public static EstadoPropiedadRestaurante de(Long propietarioRegistrado, Long propietarioId) {
+        if (propietarioRegistrado == null) {
+            return NO_EXISTE;
+        }
+        return propietarioRegistrado.equals(propietarioId) ? PROPIO : AJENO;
+    }
+}
@@ -0,0 +1,30 @@
+package com.plazoleta.plazoleta.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un recorrido por cursor.
+ *
+ * @param elementos filas de la página, en orden
+ * @param siguiente cursor de la página siguiente, o {@code null} si esta es la última
+ */
+public record Pagina<T>(List<T> elementos, CursorPagina siguiente) {
+
+    /**
+     * Arma la página a partir de una consulta que pidió {@code tamano + 1} filas: la fila que sobra
+     * solo indica que hay página siguiente, sin necesidad de contar el total.
+     *
+     * @param cursorDe cursor que apunta a una fila
+     */
+    public static <T> Pagina<T> de(List<T> filas, int tamano, Function<T, CursorPagina> cursorDe) {
+        if (filas.size() <= tamano) {
+            return new Pagina<>(filas, null);
+        }
+        return new Pagina<>(filas.subList(0, tamano), cursorDe.apply(filas.get(tamano - 1)));
+    }
+
+    public boolean haySiguiente() {
+        return siguiente != null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Plato tal como se muestra en el menú de un restaurante; se lee directo de la consulta, sin la entidad.
+ */
+public record PlatoMenu(Long id, String nombre, Integer precio, String descripcion, String urlImagen,
+                        String categoria, Boolean activo) {
+}
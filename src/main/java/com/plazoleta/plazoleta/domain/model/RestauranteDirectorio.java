@@ -0,0 +1,7 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Restaurante en el directorio de la plazoleta: solo lo que el cliente ve al recorrerlo.
+ */
+public record RestauranteDirectorio(Long id, String nombre, String urlLogo) {
+}
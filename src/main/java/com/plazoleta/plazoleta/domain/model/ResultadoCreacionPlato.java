@@ -0,0 +1,23 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Resultado de un plato dentro de una creación en lote.
+ *
+ * @param indice posición del plato en el lote recibido
+ * @param platoId id asignado al plato, o {@code null} si fue rechazado
+ * @param error  motivo del rechazo, o {@code null} si el plato se creó
+ */
+public record ResultadoCreacionPlato(int indice, Long platoId, String error) {
+
+    public static ResultadoCreacionPlato creado(int indice, Long platoId) {
+        return new ResultadoCreacionPlato(indice, platoId, null);
+    }
+
+    public static ResultadoCreacionPlato rechazado(int indice, String error) {
+        return new ResultadoCreacionPlato(indice, null, error);
+    }
+
+    public boolean isCreado() {
+        return error == null;
+    }
+}
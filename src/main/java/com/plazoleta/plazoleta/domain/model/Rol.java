@@ -0,0 +1,57 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Roles de usuario del sistema de plazoleta.
+ */
+public enum Rol {
+    ADMINISTRADOR(null),
+    PROPIETARIO("2"),
+    EMPLEADO(null),
+    CLIENTE(null);
+
+    private static final Rol[] VALORES = values();
+
+    /**
+     * Id numérico con el que el servicio de usuarios puede informar el rol, o {@code null} si no tiene.
+     */
+    private final String id;
+
+    Rol(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Resuelve un rol por su nombre exacto, como viene en el claim {@code role} del JWT.
+     *
+     * @return el rol, o {@code null} si el nombre no corresponde a ningún rol
+     */
+    public static Rol desdeNombre(String nombre) {
+        if (nombre == null) {
+            return null;
+        }
+        for (Rol rol : VALORES) {
+            if (rol.name().equals(nombre)) {
+                return rol;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resuelve un rol informado por el servicio de usuarios: por nombre sin distinguir mayúsculas o
+     * por su id numérico.
+     *
+     * @return el rol, o {@code null} si el valor no corresponde a ningún rol
+     */
+    public static Rol desde(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        for (Rol rol : VALORES) {
+            if (rol.name().equalsIgnoreCase(valor) || valor.equals(rol.id)) {
+                return rol;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.plazoleta.plazoleta.domain.model;
+
+/**
+ * Forma de ajustar el precio de los platos: un porcentaje sobre el precio actual o un valor fijo
+ * que se suma (o resta, si es negativo).
+ */
+public enum TipoAjustePrecio {
+    PORCENTAJE,
+    VALOR;
+
+    /**
+     * @return el tipo con ese nombre sin distinguir mayúsculas, o {@code null} si no corresponde a ninguno
+     */
+    public static TipoAjustePrecio desdeNombre(String nombre) {
+        if (nombre == null) {
+            return null;
+        }
+        for (TipoAjustePrecio tipo : values()) {
+            if (tipo.name().equalsIgnoreCase(nombre.trim())) {
+                return tipo;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.plazoleta.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocado {
+
+    private Long id;
+    private String jti;
+    private Instant expiraEn;
+
+    public TokenRevocado(String jti, Instant expiraEn) {
+        this(null, jti, expiraEn);
+    }
+}
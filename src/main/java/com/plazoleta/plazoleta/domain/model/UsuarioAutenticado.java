@@ -0,0 +1,17 @@
+package com.plazoleta.plazoleta.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Usuario autenticado de la petición, resuelto una sola vez a partir del JWT verificado.
+ *
+ * @param userId    id del usuario (claim {@code sub})
+ * @param rol       rol del claim {@code role}, o {@code null} si no viene o no es un rol conocido
+ * @param emitidoEn valor del claim {@code iat}, o {@code null} si el token no lo incluye
+ */
+public record UsuarioAutenticado(long userId, Rol rol, Instant emitidoEn) {
+
+    public boolean tieneRol(Rol esperado) {
+        return rol == esperado;
+    }
+}
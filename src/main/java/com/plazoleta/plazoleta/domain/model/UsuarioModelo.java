@@ -13,4 +13,11 @@ public class UsuarioModelo {
 
     private Long id;
     private String role;
+
+    /**
+     * Rol resuelto a partir del valor informado por el servicio de usuarios.
+     */
+    public Rol getRol() {
+        return Rol.desde(role);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.plazoleta.plazoleta.domain.spi;
+
+/**
+ * Índice en memoria de los propietarios de los restaurantes.
+ */
+public interface IndicePropietariosPort {
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * @return cantidad de restaurantes indexados
+     */
+    int reconstruir();
+}
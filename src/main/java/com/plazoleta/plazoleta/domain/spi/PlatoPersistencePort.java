@@ -1,8 +1,46 @@
 package com.plazoleta.plazoleta.domain.spi;
 
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+
+import java.util.List;
 
 public interface PlatoPersistencePort {
     Plato getById(Long platoId);
     void save(Plato plato);
-}
\ No newline at end of file
+
+    /**
+     * Guarda todos los platos en una sola transacción y los retorna, en el mismo orden, con su id.
+     */
+    List<Plato> saveAll(List<Plato> platos);
+
+    /**
+     * Actualiza precio y descripción solo si el plato pertenece a un restaurante del propietario.
+     *
+     * @return filas actualizadas: 0 si el plato no existe o no es del propietario
+     */
+    int actualizarPrecioYDescripcion(Long platoId, Integer precio, String descripcion, Long propietarioId);
+
+    /**
+     * Propiedad del restaurante al que pertenece el plato; {@code NO_EXISTE} si el plato no existe.
+     */
+    EstadoPropiedadRestaurante verificarPropiedadPlato(Long platoId, Long propietarioId);
+
+    /**
+     * Aplica el ajuste en una sola sentencia. Los platos cuyo precio resultante no sea mayor a cero, o
+     * no quepa en un entero, se dejan sin cambios.
+     *
+     * @return filas actualizadas
+     */
+    int ajustarPrecios(AjustePrecios ajuste);
+
+    /**
+     * Hasta {@code limite} platos del restaurante ordenados por {@code (categoria, id)}, después de
+     * {@code despues} (clave = categoría) si no es null. Los filtros en null no filtran.
+     */
+    List<PlatoMenu> listarMenu(Long restauranteId, String categoria, Boolean activo, CursorPagina despues,
+                               int limite);
+}
@@ -1,7 +1,17 @@
 package com.plazoleta.plazoleta.domain.spi;
 
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+
+import java.util.List;
 
 public interface RestaurantePersistencePort {
     void save(Restaurante restaurante);
-}
\ No newline at end of file
+
+    /**
+     * Hasta {@code limite} restaurantes ordenados por {@code (nombre, id)}, después de {@code despues}
+     * (clave = nombre) si no es null.
+     */
+    List<RestauranteDirectorio> listarDirectorio(CursorPagina despues, int limite);
+}
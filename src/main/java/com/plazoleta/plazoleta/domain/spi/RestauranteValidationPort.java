@@ -1,6 +1,15 @@
 package com.plazoleta.plazoleta.domain.spi;
 
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
+
 public interface RestauranteValidationPort {
-    boolean restaurantePerteneceAPropietario(Long restauranteId, Long propietarioId);
-    boolean restauranteExiste(Long restauranteId);
-}
\ No newline at end of file
+
+    /**
+     * Indica en una sola consulta si el restaurante existe y si pertenece al propietario.
+     */
+    EstadoPropiedadRestaurante verificarPropiedad(Long restauranteId, Long propietarioId);
+
+    default boolean existe(Long restauranteId) {
+        return verificarPropiedad(restauranteId, null) != EstadoPropiedadRestaurante.NO_EXISTE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.plazoleta.plazoleta.domain.spi;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocadoPersistencePort {
+
+    /**
+     * Guarda la revocación; si el jti ya estaba revocado no hace nada.
+     */
+    void guardar(TokenRevocado tokenRevocado);
+
+    /**
+     * Revocaciones con id mayor a {@code idDesde}, ordenadas por id, como máximo {@code limite}.
+     */
+    List<TokenRevocado> buscarDesde(long idDesde, int limite);
+
+    /**
+     * Elimina las revocaciones de tokens que ya expiraron y devuelve cuántas eliminó.
+     */
+    int eliminarExpirados(Instant ahora);
+}
@@ -0,0 +1,12 @@
+package com.plazoleta.plazoleta.domain.spi;
+
+import java.util.Set;
+
+/**
+ * Descarta los datos de usuarios mantenidos en memoria (roles, propiedad de restaurantes) en este
+ * nodo y en los demás nodos del servicio.
+ */
+public interface UsuarioCacheInvalidationPort {
+
+    void invalidarUsuarios(Set<Long> userIds);
+}
@@ -2,6 +2,15 @@ package com.plazoleta.plazoleta.domain.spi;
 
 import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UsuarioValidationPort {
     UsuarioModelo getUserById(Long userId);
+
+    /**
+     * Consulta varios usuarios en una sola operación. El mapa resultante contiene únicamente
+     * los usuarios encontrados, indexados por su ID; los IDs inexistentes no aparecen.
+     */
+    Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds);
 }
\ No newline at end of file
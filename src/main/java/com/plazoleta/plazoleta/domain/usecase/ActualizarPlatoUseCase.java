@@ -5,39 +5,46 @@ import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.PlatoNoEncontradoException;
 import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
-import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
+import com.plazoleta.plazoleta.domain.model.Rol;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
-import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
 import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
 
 public class ActualizarPlatoUseCase implements PlatoUpdateServicePort {
 
     private final PlatoPersistencePort platoPersistencePort;
     private final UsuarioValidationPort usuarioValidationPort;
-    private final RestauranteValidationPort restauranteValidationPort;
 
     public ActualizarPlatoUseCase(PlatoPersistencePort platoPersistencePort,
-                             UsuarioValidationPort usuarioValidationPort,
-                             RestauranteValidationPort restauranteValidationPort) {
+                             UsuarioValidationPort usuarioValidationPort) {
         this.platoPersistencePort = platoPersistencePort;
         this.usuarioValidationPort = usuarioValidationPort;
-        this.restauranteValidationPort = restauranteValidationPort;
     }
 
+    /**
+     * La propiedad se valida en la misma sentencia que actualiza el plato. Solo cuando no se actualiza
+     * ninguna fila, o los datos no son válidos, se consulta el propietario del plato: así se conserva el
+     * orden de errores 404, 403 y luego 400.
+     */
     @Override
     public void updateDish(Long platoId, Integer precio, String descripcion, Long propietarioId) {
 
         var user = usuarioValidationPort.getUserById(propietarioId);
-        if (!isOwnerRole(user.getRole())) {
+        if (user.getRol() != Rol.PROPIETARIO) {
             throw new RolNoAutorizadoException("El usuario no tiene el rol de propietario");
         }
 
-        Plato plato = platoPersistencePort.getById(platoId);
-        if (plato == null) {
-            throw new PlatoNoEncontradoException("El plato no existe");
+        boolean datosValidos = precio != null && precio > 0 && descripcion != null && !descripcion.trim().isEmpty();
+        if (datosValidos && platoPersistencePort.actualizarPrecioYDescripcion(platoId, precio, descripcion,
+                propietarioId) > 0) {
+            return;
         }
 
-        if (!restauranteValidationPort.restaurantePerteneceAPropietario(plato.getRestauranteId(), propietarioId)) {
+        EstadoPropiedadRestaurante propiedad = platoPersistencePort.verificarPropiedadPlato(platoId, propietarioId);
+        if (propiedad == EstadoPropiedadRestaurante.NO_EXISTE) {
+            throw new PlatoNoEncontradoException("El plato no existe");
+        }
+        if (propiedad != EstadoPropiedadRestaurante.PROPIO) {
             throw new RestauranteNoPerteneceException("El restaurante no pertenece al propietario");
         }
 
@@ -47,13 +54,10 @@ public class ActualizarPlatoUseCase implements PlatoUpdateServicePort {
         if (descripcion == null || descripcion.trim().isEmpty()) {
             throw new DominioException("La descripción del plato es obligatoria");
         }
-        plato.setPrecio(precio);
-        plato.setDescripcion(descripcion);
 
-        platoPersistencePort.save(plato);
-    }
-
-    private boolean isOwnerRole(String role) {
-        return "PROPIETARIO".equalsIgnoreCase(role) || "2".equals(role);
+        // El restaurante cambió de propietario entre la actualización y la consulta
+        if (platoPersistencePort.actualizarPrecioYDescripcion(platoId, precio, descripcion, propietarioId) == 0) {
+            throw new RestauranteNoPerteneceException("El restaurante no pertenece al propietario");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.AjustarPreciosServicePort;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
+import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.TipoAjustePrecio;
+import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
+import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+
+import java.math.BigDecimal;
+
+public class AjustarPreciosPlatosUseCase implements AjustarPreciosServicePort {
+
+    private static final BigDecimal PORCENTAJE_MINIMO = BigDecimal.valueOf(-100);
+    private static final BigDecimal PORCENTAJE_MAXIMO = BigDecimal.valueOf(1000);
+    private static final BigDecimal VALOR_MAXIMO = BigDecimal.valueOf(10_000_000);
+
+    private final PlatoPersistencePort platoPersistencePort;
+    private final UsuarioValidationPort usuarioValidationPort;
+    private final RestauranteValidationPort restauranteValidationPort;
+
+    public AjustarPreciosPlatosUseCase(PlatoPersistencePort platoPersistencePort,
+                                       UsuarioValidationPort usuarioValidationPort,
+                                       RestauranteValidationPort restauranteValidationPort) {
+        this.platoPersistencePort = platoPersistencePort;
+        this.usuarioValidationPort = usuarioValidationPort;
+        this.restauranteValidationPort = restauranteValidationPort;
+    }
+
+    @Override
+    public int ajustarPrecios(AjustePrecios ajuste, Long propietarioId) {
+
+        var user = usuarioValidationPort.getUserById(propietarioId);
+        if (user.getRol() != Rol.PROPIETARIO) {
+            throw new RolNoAutorizadoException("El usuario no tiene el rol de propietario");
+        }
+
+        validarAjuste(ajuste);
+
+        EstadoPropiedadRestaurante propiedad =
+                restauranteValidationPort.verificarPropiedad(ajuste.getRestauranteId(), propietarioId);
+        if (propiedad == EstadoPropiedadRestaurante.NO_EXISTE) {
+            throw new RestauranteNoEncontradoException("El restaurante especificado no existe");
+        }
+        if (propiedad != EstadoPropiedadRestaurante.PROPIO) {
+            throw new RestauranteNoPerteneceException("El restaurante no pertenece al propietario");
+        }
+
+        return platoPersistencePort.ajustarPrecios(ajuste);
+    }
+
+    private void validarAjuste(AjustePrecios ajuste) {
+        if (ajuste.getRestauranteId() == null) {
+            throw new DominioException("El ID del restaurante es obligatorio");
+        }
+        if (ajuste.getTipo() == null) {
+            throw new DominioException("El tipo de ajuste debe ser PORCENTAJE o VALOR");
+        }
+        BigDecimal valor = ajuste.getValor();
+        if (valor == null || valor.signum() == 0) {
+            throw new DominioException("El valor del ajuste debe ser distinto de cero");
+        }
+        if (ajuste.getTipo() == TipoAjustePrecio.PORCENTAJE
+                && (valor.compareTo(PORCENTAJE_MINIMO) <= 0 || valor.compareTo(PORCENTAJE_MAXIMO) > 0)) {
+            throw new DominioException("El porcentaje debe ser mayor a -100 y máximo 1000");
+        }
+        if (ajuste.getTipo() == TipoAjustePrecio.VALOR && valor.stripTrailingZeros().scale() > 0) {
+            throw new DominioException("El valor fijo del ajuste debe ser un número entero");
+        }
+        if (ajuste.getTipo() == TipoAjustePrecio.VALOR && valor.abs().compareTo(VALOR_MAXIMO) > 0) {
+            throw new DominioException("El valor fijo del ajuste debe ser máximo 10000000");
+        }
+        if (ajuste.getCategoria() != null && ajuste.getCategoria().isBlank()) {
+            ajuste.setCategoria(null);
+        }
+        Integer minimo = ajuste.getPrecioMinimo();
+        Integer maximo = ajuste.getPrecioMaximo();
+        if ((minimo != null && minimo <= 0) || (maximo != null && maximo <= 0)) {
+            throw new DominioException("El rango de precios debe ser mayor a cero");
+        }
+        if (minimo != null && maximo != null && minimo > maximo) {
+            throw new DominioException("El precio mínimo no puede ser mayor al precio máximo");
+        }
+    }
+}
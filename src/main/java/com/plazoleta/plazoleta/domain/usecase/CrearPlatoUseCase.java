@@ -5,23 +5,49 @@ import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
 import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.ResultadoCreacionPlato;
+import com.plazoleta.plazoleta.domain.model.Rol;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
 import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
 import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
 public class CrearPlatoUseCase implements PlatoServicePort {
 
+    public static final int TAMANO_MAXIMO_LOTE = 500;
+
     private final PlatoPersistencePort platoPersistencePort;
     private final UsuarioValidationPort usuarioValidationPort;
     private final RestauranteValidationPort restauranteValidationPort;
+    private final ExecutorService validacionesExecutor;
 
     public CrearPlatoUseCase(PlatoPersistencePort platoPersistencePort,
                              UsuarioValidationPort usuarioValidationPort,
                              RestauranteValidationPort restauranteValidationPort) {
+        this(platoPersistencePort, usuarioValidationPort, restauranteValidationPort, null);
+    }
+
+    /**
+     * @param validacionesExecutor si no es null, las validaciones del restaurante se ejecutan en él
+     *                             mientras se consulta el usuario en el hilo actual
+     */
+    public CrearPlatoUseCase(PlatoPersistencePort platoPersistencePort,
+                             UsuarioValidationPort usuarioValidationPort,
+                             RestauranteValidationPort restauranteValidationPort,
+                             ExecutorService validacionesExecutor) {
         this.platoPersistencePort = platoPersistencePort;
         this.usuarioValidationPort = usuarioValidationPort;
         this.restauranteValidationPort = restauranteValidationPort;
+        this.validacionesExecutor = validacionesExecutor;
     }
 
     @Override
@@ -29,29 +55,131 @@ public class CrearPlatoUseCase implements PlatoServicePort {
 
         validarCamposRequeridos(plato);
 
-        var user = usuarioValidationPort.getUserById(propietarioId);
-        if (!isOwnerRole(user.getRole())) {
-            throw new RolNoAutorizadoException("El usuario no tiene el rol de propietario");
+        TareaEnParalelo<Void> validacionRestaurante = TareaEnParalelo.iniciar(validacionesExecutor,
+                () -> validarRestaurante(plato.getRestauranteId(), propietarioId));
+
+        validarRolPropietario(propietarioId, validacionRestaurante);
+
+        validacionRestaurante.resultado();
+
+        validarPrecio(plato);
+
+        if (plato.getActivo() == null) {
+            plato.setActivo(true);
+        }
+
+        platoPersistencePort.save(plato);
+    }
+
+    /**
+     * El usuario y cada restaurante distinto se consultan una sola vez para todo el lote. Un plato
+     * inválido o de un restaurante ajeno se rechaza sin impedir que se creen los demás; los válidos
+     * se guardan juntos en una sola transacción.
+     */
+    @Override
+    public List<ResultadoCreacionPlato> crearPlatos(List<Plato> platos, Long propietarioId) {
+        if (platos == null || platos.isEmpty()) {
+            throw new DominioException("El lote debe contener al menos un plato");
+        }
+        if (platos.size() > TAMANO_MAXIMO_LOTE) {
+            throw new DominioException("El lote admite máximo " + TAMANO_MAXIMO_LOTE + " platos");
+        }
+
+        Set<Long> restauranteIds = new LinkedHashSet<>();
+        for (Plato plato : platos) {
+            if (plato != null && plato.getRestauranteId() != null) {
+                restauranteIds.add(plato.getRestauranteId());
+            }
         }
 
-        if (!restauranteValidationPort.restauranteExiste(plato.getRestauranteId())) {
+        TareaEnParalelo<Map<Long, EstadoPropiedadRestaurante>> propiedades = TareaEnParalelo.iniciar(
+                validacionesExecutor, () -> verificarRestaurantes(restauranteIds, propietarioId));
+
+        validarRolPropietario(propietarioId, propiedades);
+
+        Map<Long, EstadoPropiedadRestaurante> propiedadPorRestaurante = propiedades.resultado();
+
+        String[] errores = new String[platos.size()];
+        List<Plato> validos = new ArrayList<>(platos.size());
+        List<Integer> posiciones = new ArrayList<>(platos.size());
+        for (int i = 0; i < platos.size(); i++) {
+            Plato plato = platos.get(i);
+            try {
+                if (plato == null) {
+                    throw new DominioException("El plato es obligatorio");
+                }
+                validarCamposRequeridos(plato);
+                validarPropiedad(propiedadPorRestaurante.get(plato.getRestauranteId()));
+                validarPrecio(plato);
+            } catch (DominioException e) {
+                errores[i] = e.getMessage();
+                continue;
+            }
+            if (plato.getActivo() == null) {
+                plato.setActivo(true);
+            }
+            validos.add(plato);
+            posiciones.add(i);
+        }
+
+        Long[] ids = new Long[platos.size()];
+        if (!validos.isEmpty()) {
+            List<Plato> guardados = platoPersistencePort.saveAll(validos);
+            for (int i = 0; i < guardados.size(); i++) {
+                ids[posiciones.get(i)] = guardados.get(i).getId();
+            }
+        }
+
+        List<ResultadoCreacionPlato> resultados = new ArrayList<>(platos.size());
+        for (int i = 0; i < platos.size(); i++) {
+            resultados.add(errores[i] != null
+                    ? ResultadoCreacionPlato.rechazado(i, errores[i])
+                    : ResultadoCreacionPlato.creado(i, ids[i]));
+        }
+        return resultados;
+    }
+
+    private void validarRolPropietario(Long propietarioId, TareaEnParalelo<?> validacionEnCurso) {
+        try {
+            var user = usuarioValidationPort.getUserById(propietarioId);
+            if (user.getRol() != Rol.PROPIETARIO) {
+                throw new RolNoAutorizadoException("El usuario no tiene el rol de propietario");
+            }
+        } catch (RuntimeException e) {
+            validacionEnCurso.cancelar();
+            throw e;
+        }
+    }
+
+    private Map<Long, EstadoPropiedadRestaurante> verificarRestaurantes(Set<Long> restauranteIds,
+                                                                        Long propietarioId) {
+        Map<Long, EstadoPropiedadRestaurante> propiedades = new HashMap<>();
+        for (Long restauranteId : restauranteIds) {
+            propiedades.put(restauranteId,
+                    restauranteValidationPort.verificarPropiedad(restauranteId, propietarioId));
+        }
+        return propiedades;
+    }
+
+    private Void validarRestaurante(Long restauranteId, Long propietarioId) {
+        validarPropiedad(restauranteValidationPort.verificarPropiedad(restauranteId, propietarioId));
+        return null;
+    }
+
+    private void validarPropiedad(EstadoPropiedadRestaurante propiedad) {
+        if (propiedad == EstadoPropiedadRestaurante.NO_EXISTE) {
             throw new RestauranteNoEncontradoException("El restaurante especificado no existe");
         }
 
-        if (!restauranteValidationPort.restaurantePerteneceAPropietario(
-                plato.getRestauranteId(), propietarioId)) {
+        if (propiedad != EstadoPropiedadRestaurante.PROPIO) {
             throw new RestauranteNoPerteneceException("El restaurante no pertenece al propietario");
         }
+    }
 
+    private void validarPrecio(Plato plato) {
         if (plato.getPrecio() == null || plato.getPrecio() <= 0) {
             throw new DominioException("El precio debe ser mayor a cero");
         }
-
-        if (plato.getActivo() == null) {
-            plato.setActivo(true);
-        }
-
-        platoPersistencePort.save(plato);
     }
 
     private void validarCamposRequeridos(Plato plato) {
@@ -71,7 +199,4 @@ public class CrearPlatoUseCase implements PlatoServicePort {
             throw new DominioException("El ID del restaurante es obligatorio");
         }
     }
-    private boolean isOwnerRole(String role) {
-        return "PROPIETARIO".equalsIgnoreCase(role) || "2".equals(role);
-    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
 import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.model.Rol;
 import com.plazoleta.plazoleta.domain.spi.RestaurantePersistencePort;
 import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
 
@@ -41,14 +42,10 @@ public class CrearRestauranteUseCase implements RestauranteServicePort {
 
         UsuarioModelo user = userValidationPort.getUserById(restaurant.getPropietarioId());
 
-        if (!isOwnerRole(user.getRole())) {
+        if (user.getRol() != Rol.PROPIETARIO) {
             throw new RolNoAutorizadoException("El usuario no tiene rol de propietario");
         }
 
         persistencePort.save(restaurant);
     }
-
-    private boolean isOwnerRole(String role) {
-        return "PROPIETARIO".equalsIgnoreCase(role) || "2".equals(role);
-    }
 }
\ No newline at end of file
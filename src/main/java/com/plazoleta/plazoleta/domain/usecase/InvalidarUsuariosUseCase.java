@@ -0,0 +1,31 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.InvalidarUsuariosServicePort;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.spi.UsuarioCacheInvalidationPort;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class InvalidarUsuariosUseCase implements InvalidarUsuariosServicePort {
+
+    private final UsuarioCacheInvalidationPort usuarioCacheInvalidationPort;
+
+    public InvalidarUsuariosUseCase(UsuarioCacheInvalidationPort usuarioCacheInvalidationPort) {
+        this.usuarioCacheInvalidationPort = usuarioCacheInvalidationPort;
+    }
+
+    @Override
+    public void invalidarUsuarios(Collection<Long> userIds) {
+        Set<Long> ids = userIds == null ? Set.of() : userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            throw new DominioException("Debe indicar al menos un usuario a invalidar");
+        }
+        usuarioCacheInvalidationPort.invalidarUsuarios(ids);
+    }
+}
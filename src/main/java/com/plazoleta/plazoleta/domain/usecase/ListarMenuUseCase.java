@@ -0,0 +1,45 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.ListarMenuServicePort;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
+import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
+
+import java.util.List;
+
+public class ListarMenuUseCase implements ListarMenuServicePort {
+
+    public static final int TAMANO_POR_DEFECTO = 20;
+    public static final int TAMANO_MAXIMO = 100;
+
+    private final PlatoPersistencePort platoPersistencePort;
+    private final RestauranteValidationPort restauranteValidationPort;
+
+    public ListarMenuUseCase(PlatoPersistencePort platoPersistencePort,
+                             RestauranteValidationPort restauranteValidationPort) {
+        this.platoPersistencePort = platoPersistencePort;
+        this.restauranteValidationPort = restauranteValidationPort;
+    }
+
+    @Override
+    public Pagina<PlatoMenu> listarMenu(Long restauranteId, String categoria, Boolean activo, String cursor,
+                                        Integer tamano) {
+        int limite = tamano != null ? tamano : TAMANO_POR_DEFECTO;
+        if (limite < 1 || limite > TAMANO_MAXIMO) {
+            throw new DominioException("El tamaño de página debe estar entre 1 y " + TAMANO_MAXIMO);
+        }
+        CursorPagina despues = CursorPagina.decodificar(cursor);
+        if (!restauranteValidationPort.existe(restauranteId)) {
+            throw new RestauranteNoEncontradoException("El restaurante especificado no existe");
+        }
+
+        String filtroCategoria = categoria == null || categoria.isBlank() ? null : categoria.trim();
+        List<PlatoMenu> platos = platoPersistencePort.listarMenu(restauranteId, filtroCategoria, activo, despues,
+                limite + 1);
+        return Pagina.de(platos, limite, plato -> new CursorPagina(plato.categoria(), plato.id()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.ListarRestaurantesServicePort;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+import com.plazoleta.plazoleta.domain.spi.RestaurantePersistencePort;
+
+public class ListarRestaurantesUseCase implements ListarRestaurantesServicePort {
+
+    public static final int TAMANO_POR_DEFECTO = 20;
+    public static final int TAMANO_MAXIMO = 100;
+
+    private final RestaurantePersistencePort restaurantePersistencePort;
+
+    public ListarRestaurantesUseCase(RestaurantePersistencePort restaurantePersistencePort) {
+        this.restaurantePersistencePort = restaurantePersistencePort;
+    }
+
+    @Override
+    public Pagina<RestauranteDirectorio> listarRestaurantes(String cursor, Integer tamano) {
+        int limite = tamano != null ? tamano : TAMANO_POR_DEFECTO;
+        if (limite < 1 || limite > TAMANO_MAXIMO) {
+            throw new DominioException("El tamaño de página debe estar entre 1 y " + TAMANO_MAXIMO);
+        }
+        CursorPagina despues = CursorPagina.decodificar(cursor);
+        return Pagina.de(restaurantePersistencePort.listarDirectorio(despues, limite + 1), limite,
+                restaurante -> new CursorPagina(restaurante.nombre(), restaurante.id()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.ReconstruirIndicePropietariosServicePort;
+import com.plazoleta.plazoleta.domain.spi.IndicePropietariosPort;
+
+public class ReconstruirIndicePropietariosUseCase implements ReconstruirIndicePropietariosServicePort {
+
+    private final IndicePropietariosPort indicePropietariosPort;
+
+    public ReconstruirIndicePropietariosUseCase(IndicePropietariosPort indicePropietariosPort) {
+        this.indicePropietariosPort = indicePropietariosPort;
+    }
+
+    @Override
+    public int reconstruirIndicePropietarios() {
+        return indicePropietariosPort.reconstruir();
+    }
+}
@@ -0,0 +1,43 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.api.RevocarTokenServicePort;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+
+import java.time.Clock;
+import java.time.Instant;
+
+public class RevocarTokenUseCase implements RevocarTokenServicePort {
+
+    private static final int LARGO_MAXIMO_JTI = 100;
+
+    private final TokenRevocadoPersistencePort tokenRevocadoPersistencePort;
+    private final Clock clock;
+
+    public RevocarTokenUseCase(TokenRevocadoPersistencePort tokenRevocadoPersistencePort) {
+        this(tokenRevocadoPersistencePort, Clock.systemUTC());
+    }
+
+    public RevocarTokenUseCase(TokenRevocadoPersistencePort tokenRevocadoPersistencePort, Clock clock) {
+        this.tokenRevocadoPersistencePort = tokenRevocadoPersistencePort;
+        this.clock = clock;
+    }
+
+    @Override
+    public void revocarToken(String jti, Instant expiraEn) {
+        if (jti == null || jti.isBlank()) {
+            throw new DominioException("El identificador (jti) del token es obligatorio");
+        }
+        if (jti.length() > LARGO_MAXIMO_JTI) {
+            throw new DominioException("El identificador (jti) del token debe tener máximo 100 caracteres");
+        }
+        if (expiraEn == null) {
+            throw new DominioException("La fecha de expiración del token es obligatoria");
+        }
+        if (!expiraEn.isAfter(clock.instant())) {
+            throw new DominioException("El token ya expiró; no es necesario revocarlo");
+        }
+        tokenRevocadoPersistencePort.guardar(new TokenRevocado(jti, expiraEn));
+    }
+}
@@ -0,0 +1,62 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Validación que un caso de uso puede ejecutar en paralelo con otra. Sin executor, la tarea se
+ * ejecuta de forma diferida en el hilo que pide su resultado, conservando el orden secuencial.
+ */
+final class TareaEnParalelo<T> {
+
+    private final Supplier<T> tarea;
+    private final Future<T> futuro;
+
+    private TareaEnParalelo(Supplier<T> tarea, Future<T> futuro) {
+        this.tarea = tarea;
+        this.futuro = futuro;
+    }
+
+    static <T> TareaEnParalelo<T> iniciar(ExecutorService executor, Supplier<T> tarea) {
+        if (executor == null) {
+            return new TareaEnParalelo<>(tarea, null);
+        }
+        return new TareaEnParalelo<>(tarea, executor.submit(tarea::get));
+    }
+
+    T resultado() {
+        if (futuro == null) {
+            return tarea.get();
+        }
+        try {
+            return futuro.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futuro.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("La validación fue interrumpida", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("La validación fue cancelada", e);
+        }
+    }
+
+    /**
+     * Descarta el resultado sin interrumpir la tarea: interrumpir un hilo bloqueado en la consulta a
+     * la base de datos cierra el socket y rompe la conexión del pool.
+     */
+    void cancelar() {
+        if (futuro != null) {
+            futuro.cancel(false);
+        }
+    }
+}
@@ -1,37 +1,90 @@
 package com.plazoleta.plazoleta.infraestructure.configuration;
 
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.plazoleta.application.handler.IIndicePropietariosHandler;
+import com.plazoleta.plazoleta.application.handler.IMenuHandler;
 import com.plazoleta.plazoleta.application.handler.IPlatoHandler;
 import com.plazoleta.plazoleta.application.handler.IRestauranteHandler;
+import com.plazoleta.plazoleta.application.handler.ITokenRevocadoHandler;
+import com.plazoleta.plazoleta.application.handler.IUsuarioCacheHandler;
+import com.plazoleta.plazoleta.application.handler.IndicePropietariosHandler;
+import com.plazoleta.plazoleta.application.handler.MenuHandler;
 import com.plazoleta.plazoleta.application.handler.PlatoHandler;
 import com.plazoleta.plazoleta.application.handler.RestauranteHandler;
+import com.plazoleta.plazoleta.application.handler.TokenRevocadoHandler;
+import com.plazoleta.plazoleta.application.handler.UsuarioCacheHandler;
 import com.plazoleta.plazoleta.application.mapper.PlatoApplicationMapper;
 import com.plazoleta.plazoleta.application.mapper.RestauranteApplicationMapper;
 import com.plazoleta.plazoleta.application.security.ICurrentUserProvider;
+import com.plazoleta.plazoleta.domain.api.AjustarPreciosServicePort;
+import com.plazoleta.plazoleta.domain.api.InvalidarUsuariosServicePort;
+import com.plazoleta.plazoleta.domain.api.ListarMenuServicePort;
+import com.plazoleta.plazoleta.domain.api.ListarRestaurantesServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoUpdateServicePort;
+import com.plazoleta.plazoleta.domain.api.ReconstruirIndicePropietariosServicePort;
 import com.plazoleta.plazoleta.domain.api.RestauranteServicePort;
+import com.plazoleta.plazoleta.domain.api.RevocarTokenServicePort;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioSaturadoException;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
 import com.plazoleta.plazoleta.domain.spi.RestaurantePersistencePort;
 import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
 import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
 import com.plazoleta.plazoleta.domain.usecase.ActualizarPlatoUseCase;
+import com.plazoleta.plazoleta.domain.usecase.AjustarPreciosPlatosUseCase;
 import com.plazoleta.plazoleta.domain.usecase.CrearPlatoUseCase;
 import com.plazoleta.plazoleta.domain.usecase.CrearRestauranteUseCase;
+import com.plazoleta.plazoleta.domain.usecase.InvalidarUsuariosUseCase;
+import com.plazoleta.plazoleta.domain.usecase.ListarMenuUseCase;
+import com.plazoleta.plazoleta.domain.usecase.ListarRestaurantesUseCase;
+import com.plazoleta.plazoleta.domain.usecase.ReconstruirIndicePropietariosUseCase;
+import com.plazoleta.plazoleta.domain.usecase.RevocarTokenUseCase;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioCacheAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioCircuitBreakerAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioLimiteConcurrenciaAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioLoteDispatcher;
 import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioMicroserviceAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.client.feign.UsuarioFeignClient;
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
+import com.plazoleta.plazoleta.infraestructure.out.invalidacion.InvalidacionUsuariosBus;
+import com.plazoleta.plazoleta.infraestructure.out.invalidacion.LoopbackInvalidacionUsuariosBus;
+import com.plazoleta.plazoleta.infraestructure.out.invalidacion.UsuarioCacheInvalidationAdapter;
+import com.plazoleta.plazoleta.infraestructure.security.RegistroRevocaciones;
 import com.plazoleta.plazoleta.infraestructure.security.SpringCurrentUserProvider;
+import com.plazoleta.plazoleta.infraestructure.security.UsuarioTokenVerificationAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.client.mapper.UsuarioClientMapper;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.PlatoJpaAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.RestauranteJpaAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.RestauranteValidationJpaAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.TokenRevocadoJpaAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.PlatoEntityMapper;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.RestauranteEntityMapper;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.TokenRevocadoEntityMapper;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.PlatoRepository;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.TokenRevocadoRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
+@EnableConfigurationProperties(UsuariosProperties.class)
 public class BeanConfiguration {
 
     @Bean
@@ -42,19 +95,169 @@ public class BeanConfiguration {
 
     @Bean
     public RestaurantePersistencePort restaurantePersistencePort(RestauranteRepository restauranteRepository,
-                                                                RestauranteEntityMapper restauranteEntityMapper) {
-        return new RestauranteJpaAdapter(restauranteRepository, restauranteEntityMapper);
+                                                                RestauranteEntityMapper restauranteEntityMapper,
+                                                                IndicePropietariosRestaurante indicePropietarios) {
+        return new RestauranteJpaAdapter(restauranteRepository, restauranteEntityMapper, indicePropietarios);
+    }
+
+    /**
+     * Restaurante a propietario en memoria: las validaciones de propiedad de cada escritura de platos
+     * no consultan la base de datos salvo para restaurantes creados en otro nodo.
+     */
+    @Bean
+    public IndicePropietariosRestaurante indicePropietariosRestaurante(RestauranteRepository restauranteRepository,
+                                                                       MeterRegistry meterRegistry) {
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(restauranteRepository);
+        Gauge.builder("restaurantes.indice_propietarios.entradas", indice, IndicePropietariosRestaurante::getCantidad)
+                .register(meterRegistry);
+        Gauge.builder("restaurantes.indice_propietarios.memoria", indice, IndicePropietariosRestaurante::getBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("restaurantes.indice_propietarios.consultas_bd", indice,
+                        IndicePropietariosRestaurante::getConsultasBaseDatos)
+                .register(meterRegistry);
+        return indice;
     }
 
     @Bean
-    public RestauranteValidationPort restauranteValidationPort(RestauranteRepository restauranteRepository) {
-        return new RestauranteValidationJpaAdapter(restauranteRepository);
+    public RestauranteValidationPort restauranteValidationPort(RestauranteRepository restauranteRepository,
+                                                               IndicePropietariosRestaurante indicePropietarios,
+                                                               @Value("${plazoleta.indice-propietarios.enabled:true}") boolean indiceHabilitado) {
+        return new RestauranteValidationJpaAdapter(restauranteRepository, indiceHabilitado ? indicePropietarios : null);
+    }
+
+    @Bean
+    public ReconstruirIndicePropietariosServicePort reconstruirIndicePropietariosServicePort(
+            IndicePropietariosRestaurante indicePropietarios) {
+        return new ReconstruirIndicePropietariosUseCase(indicePropietarios);
+    }
+
+    /**
+     * Tokens revocados en memoria (filtro de Bloom y conjunto exacto) sobre la tabla token_revocado;
+     * el filtro JWT lo consulta en cada petición.
+     */
+    @Bean(destroyMethod = "close")
+    public RegistroRevocaciones registroRevocaciones(
+            TokenRevocadoRepository tokenRevocadoRepository,
+            TokenRevocadoEntityMapper tokenRevocadoEntityMapper,
+            @Value("${jwt.revocacion.capacidad-esperada:100000}") int capacidadEsperada,
+            @Value("${jwt.revocacion.probabilidad-falso-positivo:0.01}") double probabilidadFalsoPositivo,
+            @Value("${jwt.revocacion.intervalo-refresco:5s}") Duration intervaloRefresco,
+            @Value("${jwt.revocacion.intervalo-compactacion:10m}") Duration intervaloCompactacion) {
+        return new RegistroRevocaciones(new TokenRevocadoJpaAdapter(tokenRevocadoRepository, tokenRevocadoEntityMapper),
+                capacidadEsperada, probabilidadFalsoPositivo, intervaloRefresco, intervaloCompactacion);
+    }
+
+    @Bean
+    public RevocarTokenServicePort revocarTokenServicePort(RegistroRevocaciones registroRevocaciones) {
+        return new RevocarTokenUseCase(registroRevocaciones);
     }
 
     @Bean
     public UsuarioValidationPort usuarioValidationPort(UsuarioFeignClient usuarioFeignClient,
-                                                       UsuarioClientMapper usuarioClientMapper) {
-        return new UsuarioMicroserviceAdapter(usuarioFeignClient, usuarioClientMapper);
+                                                       UsuarioClientMapper usuarioClientMapper,
+                                                       MeterRegistry meterRegistry,
+                                                       ICurrentUserProvider currentUserProvider,
+                                                       UsuariosProperties usuariosProperties,
+                                                       UsuarioCacheInvalidationAdapter usuarioCacheInvalidationAdapter) {
+        UsuarioValidationPort remoto = new UsuarioMicroserviceAdapter(usuarioFeignClient, usuarioClientMapper);
+
+        UsuariosProperties.LimiteConcurrencia limiteConcurrencia = usuariosProperties.getLimiteConcurrencia();
+        if (limiteConcurrencia.isEnabled()) {
+            remoto = usuarioLimiteConcurrenciaAdapter(remoto, limiteConcurrencia, meterRegistry);
+        }
+
+        UsuariosProperties.Lote lote = usuariosProperties.getLote();
+        if (lote.isEnabled()) {
+            remoto = new UsuarioLoteDispatcher(remoto, lote.getVentana(), lote.getTamanoMaximo());
+        }
+
+        UsuariosProperties.CircuitBreaker circuitBreaker = usuariosProperties.getCircuitBreaker();
+        if (circuitBreaker.isEnabled()) {
+            UsuarioCircuitBreakerAdapter circuitBreakerAdapter =
+                    usuarioCircuitBreakerAdapter(remoto, circuitBreaker, meterRegistry);
+            usuarioCacheInvalidationAdapter.registrar(circuitBreakerAdapter::invalidar);
+            remoto = circuitBreakerAdapter;
+        }
+
+        UsuariosProperties.Cache cache = usuariosProperties.getCache();
+        if (cache.isEnabled()) {
+            UsuariosProperties.Cache.Negativos negativos = cache.getNegativos();
+            UsuarioCacheAdapter cacheAdapter = new UsuarioCacheAdapter(remoto, cache.getMaximumSize(), cache.getTtl(),
+                    negativos.isEnabled() ? negativos.getMaximumSize() : 0, negativos.getTtl(), Ticker.systemTicker());
+            CaffeineCacheMetrics.monitor(meterRegistry, cacheAdapter.getUsuarios(), "usuarios");
+            if (cacheAdapter.getNoEncontrados() != null) {
+                CaffeineCacheMetrics.monitor(meterRegistry, cacheAdapter.getNoEncontrados(), "usuarios.no_encontrados");
+            }
+            usuarioCacheInvalidationAdapter.registrar(cacheAdapter::invalidar);
+            remoto = cacheAdapter;
+        }
+
+        UsuariosProperties.VerificacionRol verificacionRol = usuariosProperties.getVerificacionRol();
+        return new UsuarioTokenVerificationAdapter(remoto, currentUserProvider, verificacionRol.getModo(),
+                verificacionRol.getHybrid().getFraccionMuestreo(), verificacionRol.getHybrid().getEdadMaximaToken());
+    }
+
+    @Bean
+    public InvalidacionUsuariosBus invalidacionUsuariosBus() {
+        return new LoopbackInvalidacionUsuariosBus();
+    }
+
+    @Bean
+    public UsuarioCacheInvalidationAdapter usuarioCacheInvalidationAdapter(InvalidacionUsuariosBus invalidacionUsuariosBus) {
+        return new UsuarioCacheInvalidationAdapter(invalidacionUsuariosBus);
+    }
+
+    @Bean
+    public InvalidarUsuariosServicePort invalidarUsuariosServicePort(
+            UsuarioCacheInvalidationAdapter usuarioCacheInvalidationAdapter) {
+        return new InvalidarUsuariosUseCase(usuarioCacheInvalidationAdapter);
+    }
+
+    private static UsuarioLimiteConcurrenciaAdapter usuarioLimiteConcurrenciaAdapter(
+            UsuarioValidationPort delegate, UsuariosProperties.LimiteConcurrencia properties, MeterRegistry meterRegistry) {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate,
+                properties.getLimiteInicial(), properties.getLimiteMinimo(), properties.getLimiteMaximo(),
+                properties.getLatenciaMaxima(), properties.getFactorReduccion());
+        Gauge.builder("usuarios.limite_concurrencia.limite", adapter, UsuarioLimiteConcurrenciaAdapter::getLimite)
+                .register(meterRegistry);
+        Gauge.builder("usuarios.limite_concurrencia.en_curso", adapter, UsuarioLimiteConcurrenciaAdapter::getEnCurso)
+                .register(meterRegistry);
+        FunctionCounter.builder("usuarios.limite_concurrencia.rechazos", adapter,
+                        UsuarioLimiteConcurrenciaAdapter::getRechazos)
+                .register(meterRegistry);
+        return adapter;
+    }
+
+    private static UsuarioCircuitBreakerAdapter usuarioCircuitBreakerAdapter(UsuarioValidationPort delegate,
+                                                                            UsuariosProperties.CircuitBreaker properties,
+                                                                            MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                .recordExceptions(ServicioUsuarioNoDisponibleException.class)
+                .ignoreExceptions(ServicioUsuarioSaturadoException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        UsuarioCircuitBreakerAdapter adapter = new UsuarioCircuitBreakerAdapter(delegate,
+                registry.circuitBreaker("user-service"),
+                properties.getUltimosConocidosMaximumSize(), properties.getUltimosConocidosTtl());
+        FunctionCounter.builder("usuarios.circuitbreaker.fallback", adapter,
+                        UsuarioCircuitBreakerAdapter::getRespuestasObsoletas)
+                .tag("resultado", "ultimo_conocido")
+                .register(meterRegistry);
+        FunctionCounter.builder("usuarios.circuitbreaker.fallback", adapter,
+                        UsuarioCircuitBreakerAdapter::getRechazos)
+                .tag("resultado", "rechazado")
+                .register(meterRegistry);
+        return adapter;
     }
 
     @Bean
@@ -63,18 +266,57 @@ public class BeanConfiguration {
         return new CrearRestauranteUseCase(restaurantePersistencePort, usuarioValidationPort);
     }
 
+    /**
+     * Hilos virtuales para las validaciones que los casos de uso de platos ejecutan en paralelo con
+     * la consulta del usuario; las tareas bloquean en I/O y no necesitan un pool acotado. Cada tarea
+     * recibe el SecurityContext (y por tanto el usuario autenticado) del hilo que la envía.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService validacionesExecutor() {
+        return new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Propaga el SecurityContext a las tareas del executor asíncrono de Spring (@Async, MVC asíncrono).
+     */
+    @Bean
+    public TaskDecorator contextoSeguridadTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+
     @Bean
     public PlatoServicePort platoServicePort(PlatoPersistencePort platoPersistencePort,
                                              UsuarioValidationPort usuarioValidationPort,
-                                             RestauranteValidationPort restauranteValidationPort) {
-        return new CrearPlatoUseCase(platoPersistencePort, usuarioValidationPort, restauranteValidationPort);
+                                             RestauranteValidationPort restauranteValidationPort,
+                                             ExecutorService validacionesExecutor,
+                                             @Value("${plazoleta.validaciones.paralelas:true}") boolean paralelas) {
+        return new CrearPlatoUseCase(platoPersistencePort, usuarioValidationPort, restauranteValidationPort,
+                paralelas ? validacionesExecutor : null);
     }
 
     @Bean
     public PlatoUpdateServicePort platoUpdateServicePort(PlatoPersistencePort platoPersistencePort,
-                                                         UsuarioValidationPort usuarioValidationPort,
-                                                         RestauranteValidationPort restauranteValidationPort) {
-        return new ActualizarPlatoUseCase(platoPersistencePort, usuarioValidationPort, restauranteValidationPort);
+                                                         UsuarioValidationPort usuarioValidationPort) {
+        return new ActualizarPlatoUseCase(platoPersistencePort, usuarioValidationPort);
+    }
+
+    @Bean
+    public AjustarPreciosServicePort ajustarPreciosServicePort(PlatoPersistencePort platoPersistencePort,
+                                                               UsuarioValidationPort usuarioValidationPort,
+                                                               RestauranteValidationPort restauranteValidationPort) {
+        return new AjustarPreciosPlatosUseCase(platoPersistencePort, usuarioValidationPort, restauranteValidationPort);
+    }
+
+    @Bean
+    public ListarRestaurantesServicePort listarRestaurantesServicePort(
+            RestaurantePersistencePort restaurantePersistencePort) {
+        return new ListarRestaurantesUseCase(restaurantePersistencePort);
+    }
+
+    @Bean
+    public ListarMenuServicePort listarMenuServicePort(PlatoPersistencePort platoPersistencePort,
+                                                       RestauranteValidationPort restauranteValidationPort) {
+        return new ListarMenuUseCase(platoPersistencePort, restauranteValidationPort);
     }
 
     @Bean
@@ -85,14 +327,40 @@ public class BeanConfiguration {
     @Bean
     public IPlatoHandler platoHandler(PlatoServicePort platoServicePort,
                                      PlatoUpdateServicePort platoUpdateServicePort,
+                                     AjustarPreciosServicePort ajustarPreciosServicePort,
                                      PlatoApplicationMapper platoApplicationMapper,
                                      ICurrentUserProvider currentUserProvider) {
-        return new PlatoHandler(platoServicePort, platoUpdateServicePort, platoApplicationMapper, currentUserProvider);
+        return new PlatoHandler(platoServicePort, platoUpdateServicePort, ajustarPreciosServicePort,
+                platoApplicationMapper, currentUserProvider);
+    }
+
+    @Bean
+    public IMenuHandler menuHandler(ListarMenuServicePort listarMenuServicePort,
+                                    PlatoApplicationMapper platoApplicationMapper) {
+        return new MenuHandler(listarMenuServicePort, platoApplicationMapper);
     }
 
     @Bean
     public IRestauranteHandler restauranteHandler(RestauranteServicePort restauranteServicePort,
+                                                 ListarRestaurantesServicePort listarRestaurantesServicePort,
                                                  RestauranteApplicationMapper restauranteApplicationMapper) {
-        return new RestauranteHandler(restauranteServicePort, restauranteApplicationMapper);
+        return new RestauranteHandler(restauranteServicePort, listarRestaurantesServicePort,
+                restauranteApplicationMapper);
+    }
+
+    @Bean
+    public IIndicePropietariosHandler indicePropietariosHandler(
+            ReconstruirIndicePropietariosServicePort reconstruirIndicePropietariosServicePort) {
+        return new IndicePropietariosHandler(reconstruirIndicePropietariosServicePort);
+    }
+
+    @Bean
+    public IUsuarioCacheHandler usuarioCacheHandler(InvalidarUsuariosServicePort invalidarUsuariosServicePort) {
+        return new UsuarioCacheHandler(invalidarUsuariosServicePort);
+    }
+
+    @Bean
+    public ITokenRevocadoHandler tokenRevocadoHandler(RevocarTokenServicePort revocarTokenServicePort) {
+        return new TokenRevocadoHandler(revocarTokenServicePort);
     }
 }
@@ -0,0 +1,50 @@
+package com.plazoleta.plazoleta.infraestructure.configuration;
+
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.BalanceadorFeignClient;
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.JdkHttpFeignClient;
+import feign.Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+
+/**
+ * Transporte HTTP de los clientes Feign. Con {@code usuarios.http.transporte=jdk} se reemplaza el
+ * cliente por defecto de Feign (HttpURLConnection, sin pool configurable) por el HttpClient del JDK.
+ * Con {@code usuarios.http.endpoints} las peticiones se reparten entre varias instancias del
+ * servicio de usuarios.
+ * <p>
+ * El tamaño del pool y el keep-alive del HttpClient del JDK son propiedades de sistema que se leen una
+ * sola vez por JVM ({@code jdk.httpclient.connectionPoolSize}, {@code jdk.httpclient.keepalive.timeout});
+ * se definen con {@code -D} al arrancar (ver {@code bootRun} en build.gradle), no desde la aplicación.
+ */
+@Configuration
+public class FeignClientConfiguration {
+
+    @Bean
+    public Client feignClient(UsuariosProperties usuariosProperties, MeterRegistry meterRegistry,
+                              @Value("${feign.client.config.user-service.url}") String urlBase) {
+        UsuariosProperties.Http http = usuariosProperties.getHttp();
+        Client transporte = "jdk".equalsIgnoreCase(http.getTransporte())
+                ? jdkClient(http, meterRegistry)
+                : new Client.Default(null, null);
+        if (http.getEndpoints().isEmpty()) {
+            return transporte;
+        }
+        return new BalanceadorFeignClient(transporte, urlBase, http.getEndpoints(),
+                http.getHedging().isEnabled(), http.getHedging().getRetrasoMinimo(), meterRegistry);
+    }
+
+    private static Client jdkClient(UsuariosProperties.Http http, MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(http.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(http.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        return new JdkHttpFeignClient(new Http2Client(httpClient), http.getMaxPeticionesPorHost(),
+                http.getEsperaMaximaPermiso(), meterRegistry);
+    }
+}
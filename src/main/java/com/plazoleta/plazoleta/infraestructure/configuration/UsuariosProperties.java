@@ -0,0 +1,112 @@
+package com.plazoleta.plazoleta.infraestructure.configuration;
+
+import com.plazoleta.plazoleta.infraestructure.security.ModoVerificacionRol;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las consultas al microservicio de usuarios (prefijo {@code usuarios}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "usuarios")
+public class UsuariosProperties {
+
+    private final Cache cache = new Cache();
+    private final Lote lote = new Lote();
+    private final VerificacionRol verificacionRol = new VerificacionRol();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final LimiteConcurrencia limiteConcurrencia = new LimiteConcurrencia();
+    private final Http http = new Http();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+        private final Negativos negativos = new Negativos();
+
+        @Getter
+        @Setter
+        public static class Negativos {
+            private boolean enabled = true;
+            private long maximumSize = 1_000;
+            private Duration ttl = Duration.ofSeconds(30);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Lote {
+        private boolean enabled = false;
+        private Duration ventana = Duration.ofMillis(5);
+        private int tamanoMaximo = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class VerificacionRol {
+        private ModoVerificacionRol modo = ModoVerificacionRol.REMOTE;
+        private final Hybrid hybrid = new Hybrid();
+
+        @Getter
+        @Setter
+        public static class Hybrid {
+            private double fraccionMuestreo = 0.05;
+            private Duration edadMaximaToken = Duration.ofMinutes(15);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+        private long ultimosConocidosMaximumSize = 10_000;
+        private Duration ultimosConocidosTtl = Duration.ofHours(24);
+    }
+
+    @Getter
+    @Setter
+    public static class LimiteConcurrencia {
+        private boolean enabled = true;
+        private int limiteInicial = 20;
+        private int limiteMinimo = 2;
+        private int limiteMaximo = 200;
+        private Duration latenciaMaxima = Duration.ofSeconds(1);
+        private double factorReduccion = 0.9;
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        /** default: cliente por defecto de Feign; jdk: HttpClient del JDK con pool y HTTP/2. */
+        private String transporte = "default";
+        private boolean http2 = true;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private int maxPeticionesPorHost = 50;
+        private Duration esperaMaximaPermiso = Duration.ofMillis(500);
+        /** Instancias del servicio de usuarios; si se define, reemplaza la URL base del cliente Feign. */
+        private List<String> endpoints = new ArrayList<>();
+        private final Hedging hedging = new Hedging();
+
+        @Getter
+        @Setter
+        public static class Hedging {
+            private boolean enabled = false;
+            private Duration retrasoMinimo = Duration.ofMillis(20);
+        }
+    }
+}
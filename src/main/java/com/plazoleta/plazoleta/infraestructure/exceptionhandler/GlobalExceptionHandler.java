@@ -6,6 +6,7 @@ import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException
 import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
 import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioSaturadoException;
 import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
 import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
 import org.springframework.http.HttpStatus;
@@ -50,6 +51,11 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.BAD_GATEWAY, "Bad Gateway", ex.getMessage());
     }
 
+    @ExceptionHandler(ServicioUsuarioSaturadoException.class)
+    public ResponseEntity<ErrorResponseDto> handleServicioUsuarioSaturado(ServicioUsuarioSaturadoException ex) {
+        return buildError(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage());
+    }
+
     @ExceptionHandler(DominioException.class)
     public ResponseEntity<ErrorResponseDto> handleDominioException(DominioException ex) {
         return buildError(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
@@ -0,0 +1,40 @@
+package com.plazoleta.plazoleta.infraestructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.ReconstruccionIndiceResponseDto;
+import com.plazoleta.plazoleta.application.handler.IIndicePropietariosHandler;
+import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/restaurantes/indice-propietarios")
+@RequiredArgsConstructor
+@Tag(name = "Restaurantes", description = "API para gestión de restaurantes")
+public class IndicePropietariosController {
+
+    private final IIndicePropietariosHandler indicePropietariosHandler;
+
+    @PostMapping("/reconstrucciones")
+    @Operation(
+            summary = "Reconstruir índice de propietarios",
+            description = "Vuelve a cargar desde la base de datos el índice en memoria de restaurante a propietario "
+                    + "de este nodo"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Índice reconstruido"),
+            @ApiResponse(responseCode = "403", description = "Rol no autorizado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<ReconstruccionIndiceResponseDto> reconstruir() {
+        return ResponseEntity.ok(indicePropietariosHandler.reconstruir());
+    }
+}
@@ -0,0 +1,56 @@
+package com.plazoleta.plazoleta.infraestructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.PlatoMenuResponseDto;
+import com.plazoleta.plazoleta.application.handler.IMenuHandler;
+import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/restaurantes/{id}/platos")
+@RequiredArgsConstructor
+@Tag(name = "Platos", description = "API para gestión de platos de restaurantes")
+public class MenuController {
+
+    private final IMenuHandler menuHandler;
+
+    @GetMapping
+    @Operation(
+            summary = "Listar el menú de un restaurante",
+            description = "Platos del restaurante ordenados por categoría e id, paginados por cursor: para la página "
+                    + "siguiente se envía el siguienteCursor de la respuesta"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página del menú"),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "Restaurante no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<PaginaResponseDto<PlatoMenuResponseDto>> listMenu(
+            @Parameter(description = "ID del restaurante", required = true)
+            @PathVariable("id") Long restauranteId,
+            @Parameter(description = "Solo platos de esta categoría")
+            @RequestParam(value = "categoria", required = false) String categoria,
+            @Parameter(description = "Solo platos activos (true) o inactivos (false)")
+            @RequestParam(value = "activo", required = false) Boolean activo,
+            @Parameter(description = "siguienteCursor de la página anterior; vacío para la primera página")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Platos por página (1 a 100, por defecto 20)")
+            @RequestParam(value = "tamano", required = false) Integer tamano) {
+        return ResponseEntity.ok(menuHandler.listMenu(restauranteId, categoria, activo, cursor, tamano));
+    }
+}
@@ -1,7 +1,11 @@
 package com.plazoleta.plazoleta.infraestructure.input.rest;
 
 import com.plazoleta.plazoleta.application.dto.ActualizarPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustePreciosResponseDto;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteResponseDto;
 import com.plazoleta.plazoleta.application.handler.IPlatoHandler;
 import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -52,6 +57,29 @@ public class PlatoController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Crear platos en lote",
+            description = "Permite a un propietario crear hasta 500 platos de sus restaurantes en una sola "
+                    + "petición. Los platos inválidos se rechazan sin impedir la creación de los demás")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado; el resultado de cada plato va en la respuesta"),
+            @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "El usuario no es propietario",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<CrearPlatosLoteResponseDto> createDishes(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Platos a crear",
+                    required = true
+            )
+            @RequestBody CrearPlatosLoteRequestDto dto) {
+        return ResponseEntity.ok(platoHandler.createDishes(dto));
+    }
+
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "Modificar un plato",
@@ -77,4 +105,30 @@ public class PlatoController {
         platoHandler.updateDish(platoId, dto);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    @PatchMapping(value = "/precios", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Ajustar precios del menú",
+            description = "Aplica un porcentaje (PORCENTAJE) o un valor fijo (VALOR) al precio de todos los platos "
+                    + "activos de un restaurante, opcionalmente solo de una categoría y de un rango de precio actual. "
+                    + "Los platos cuyo precio quedaría en cero o menos no se modifican"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Precios ajustados; la respuesta indica cuántos platos cambiaron"),
+            @ApiResponse(responseCode = "400", description = "Ajuste inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "El usuario no es propietario del restaurante",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "Usuario o restaurante no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<AjustePreciosResponseDto> adjustPrices(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Restaurante, tipo y valor del ajuste, y filtros opcionales",
+                    required = true
+            )
+            @RequestBody AjustarPreciosRequestDto dto) {
+        return ResponseEntity.ok(platoHandler.adjustPrices(dto));
+    }
+}
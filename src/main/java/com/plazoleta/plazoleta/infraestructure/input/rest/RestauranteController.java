@@ -1,9 +1,12 @@
 package com.plazoleta.plazoleta.infraestructure.input.rest;
 
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 import com.plazoleta.plazoleta.application.handler.IRestauranteHandler;
 import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +15,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -45,4 +50,23 @@ public class RestauranteController {
         restauranteHandler.createRestaurante(dto);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
-}
\ No newline at end of file
+
+    @GetMapping
+    @Operation(
+            summary = "Directorio de restaurantes",
+            description = "Restaurantes en orden alfabético con su nombre y logo, paginados por cursor: para la página "
+                    + "siguiente se envía el siguienteCursor de la respuesta"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página del directorio"),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<PaginaResponseDto<RestauranteDirectorioResponseDto>> list(
+            @Parameter(description = "siguienteCursor de la página anterior; vacío para la primera página")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Restaurantes por página (1 a 100, por defecto 20)")
+            @RequestParam(value = "tamano", required = false) Integer tamano) {
+        return ResponseEntity.ok(restauranteHandler.listRestaurantes(cursor, tamano));
+    }
+}
@@ -0,0 +1,45 @@
+package com.plazoleta.plazoleta.infraestructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.RevocarTokenRequestDto;
+import com.plazoleta.plazoleta.application.handler.ITokenRevocadoHandler;
+import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/tokens/revocaciones")
+@RequiredArgsConstructor
+@Tag(name = "Tokens", description = "Revocación de tokens JWT comprometidos")
+public class TokenRevocadoController {
+
+    private final ITokenRevocadoHandler tokenRevocadoHandler;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Revocar token",
+            description = "Rechaza el token con el jti indicado hasta su expiración; todos los nodos aplican la "
+                    + "revocación en su siguiente refresco"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revocado"),
+            @ApiResponse(responseCode = "400", description = "Datos de la revocación inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Rol no autorizado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<Void> revocar(@RequestBody RevocarTokenRequestDto dto) {
+        tokenRevocadoHandler.revocarToken(dto);
+        return ResponseEntity.noContent().build();
+    }
+}
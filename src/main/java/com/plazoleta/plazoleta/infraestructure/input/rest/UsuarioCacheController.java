@@ -0,0 +1,45 @@
+package com.plazoleta.plazoleta.infraestructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.InvalidarUsuariosRequestDto;
+import com.plazoleta.plazoleta.application.handler.IUsuarioCacheHandler;
+import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/usuarios/invalidaciones")
+@RequiredArgsConstructor
+@Tag(name = "Usuarios", description = "Sincronización de los datos de usuarios mantenidos en memoria")
+public class UsuarioCacheController {
+
+    private final IUsuarioCacheHandler usuarioCacheHandler;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Invalidar usuarios",
+            description = "Lo invoca el servicio de usuarios cuando cambian o se eliminan usuarios; descarta sus "
+                    + "datos en memoria en este nodo y los propaga a los demás nodos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuarios invalidados"),
+            @ApiResponse(responseCode = "400", description = "No se indicaron usuarios",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Rol no autorizado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    public ResponseEntity<Void> invalidar(@RequestBody InvalidarUsuariosRequestDto dto) {
+        usuarioCacheHandler.invalidarUsuarios(dto);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorador de {@link UsuarioValidationPort} que mantiene en memoria los usuarios consultados al
+ * microservicio de usuarios. La caché es acotada por tamaño, expira por TTL y usa la política
+ * W-TinyLFU de Caffeine, que considera la frecuencia de acceso al desalojar entradas.
+ * Solo se almacenan respuestas exitosas; los errores se propagan sin cachear.
+ * <p>
+ * Opcionalmente mantiene una caché negativa, separada y de TTL corto, con los IDs que el servicio
+ * reportó como inexistentes. Las entradas de ambas cachés se descartan con {@link #invalidar(Long)}.
+ */
+public class UsuarioCacheAdapter implements UsuarioValidationPort {
+
+    private static final String USUARIO_NO_EXISTE = "El usuario no existe";
+
+    private final UsuarioValidationPort delegate;
+    private final Cache<Long, UsuarioModelo> usuarios;
+    private final Cache<Long, Boolean> noEncontrados;
+
+    public UsuarioCacheAdapter(UsuarioValidationPort delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    public UsuarioCacheAdapter(UsuarioValidationPort delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this(delegate, maximumSize, ttl, 0, null, ticker);
+    }
+
+    /**
+     * @param negativosMaximumSize tamaño máximo de la caché negativa; con {@code 0} o
+     *                             {@code negativosTtl} nulo no se cachean los usuarios inexistentes
+     */
+    public UsuarioCacheAdapter(UsuarioValidationPort delegate, long maximumSize, Duration ttl,
+                               long negativosMaximumSize, Duration negativosTtl, Ticker ticker) {
+        this.delegate = delegate;
+        this.usuarios = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.noEncontrados = negativosMaximumSize > 0 && negativosTtl != null
+                ? Caffeine.newBuilder()
+                        .maximumSize(negativosMaximumSize)
+                        .expireAfterWrite(negativosTtl)
+                        .ticker(ticker)
+                        .recordStats()
+                        .<Long, Boolean>build()
+                : null;
+    }
+
+    @Override
+    public UsuarioModelo getUserById(Long userId) {
+        if (userId == null) {
+            return delegate.getUserById(null);
+        }
+        if (noEncontrados == null) {
+            return usuarios.get(userId, delegate::getUserById);
+        }
+        if (noEncontrados.getIfPresent(userId) != null) {
+            throw new UsuarioNoEncontradoException(USUARIO_NO_EXISTE);
+        }
+        try {
+            return usuarios.get(userId, delegate::getUserById);
+        } catch (UsuarioNoEncontradoException e) {
+            noEncontrados.put(userId, Boolean.TRUE);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> noEncontrados == null || noEncontrados.getIfPresent(id) == null)
+                .toList();
+        Map<Long, UsuarioModelo> encontrados = usuarios.getAll(ids,
+                faltantes -> delegate.getUsersByIds(List.<Long>copyOf(faltantes)));
+        if (noEncontrados != null && encontrados.size() < ids.size()) {
+            ids.stream()
+                    .filter(id -> !encontrados.containsKey(id))
+                    .forEach(id -> noEncontrados.put(id, Boolean.TRUE));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Descarta las entradas positivas y negativas del usuario, por ejemplo cuando fue creado de nuevo
+     * o cambió su rol.
+     */
+    public void invalidar(Long userId) {
+        usuarios.invalidate(userId);
+        if (noEncontrados != null) {
+            noEncontrados.invalidate(userId);
+        }
+    }
+
+    public Cache<Long, UsuarioModelo> getUsuarios() {
+        return usuarios;
+    }
+
+    /**
+     * Caché negativa de usuarios inexistentes, o {@code null} si está deshabilitada.
+     */
+    public Cache<Long, Boolean> getNoEncontrados() {
+        return noEncontrados;
+    }
+}
@@ -0,0 +1,106 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de {@link UsuarioValidationPort} que protege las llamadas al microservicio de usuarios
+ * con un circuit breaker. Solo {@link ServicioUsuarioNoDisponibleException} cuenta como fallo.
+ * <p>
+ * Mientras el circuito está abierto (o el semiabierto no admite más llamadas de prueba) no se
+ * llama al servicio remoto: se responde con el último usuario conocido si existe, o se falla de
+ * inmediato con {@link ServicioUsuarioNoDisponibleException}.
+ */
+@Slf4j
+public class UsuarioCircuitBreakerAdapter implements UsuarioValidationPort {
+
+    private static final String CIRCUITO_ABIERTO =
+            "El microservicio de usuarios no está disponible temporalmente (circuito abierto)";
+
+    private final UsuarioValidationPort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<Long, UsuarioModelo> ultimosConocidos;
+    private final LongAdder respuestasObsoletas = new LongAdder();
+    private final LongAdder rechazos = new LongAdder();
+
+    public UsuarioCircuitBreakerAdapter(UsuarioValidationPort delegate, CircuitBreaker circuitBreaker,
+                                        long ultimosConocidosMaximumSize, Duration ultimosConocidosTtl) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.ultimosConocidos = Caffeine.newBuilder()
+                .maximumSize(ultimosConocidosMaximumSize)
+                .expireAfterWrite(ultimosConocidosTtl)
+                .build();
+    }
+
+    @Override
+    public UsuarioModelo getUserById(Long userId) {
+        try {
+            UsuarioModelo usuario = circuitBreaker.executeSupplier(() -> delegate.getUserById(userId));
+            if (userId != null && usuario != null) {
+                ultimosConocidos.put(userId, usuario);
+            }
+            return usuario;
+        } catch (CallNotPermittedException e) {
+            UsuarioModelo conocido = userId != null ? ultimosConocidos.getIfPresent(userId) : null;
+            if (conocido != null) {
+                log.warn("Circuito {} hacia el microservicio de usuarios; se usa el último rol conocido del usuario {}",
+                        circuitBreaker.getState(), userId);
+                respuestasObsoletas.increment();
+                return conocido;
+            }
+            rechazos.increment();
+            throw new ServicioUsuarioNoDisponibleException(CIRCUITO_ABIERTO, e);
+        }
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        try {
+            Map<Long, UsuarioModelo> usuarios = circuitBreaker.executeSupplier(() -> delegate.getUsersByIds(userIds));
+            ultimosConocidos.putAll(usuarios);
+            return usuarios;
+        } catch (CallNotPermittedException e) {
+            List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+            Map<Long, UsuarioModelo> conocidos = ultimosConocidos.getAllPresent(ids);
+            if (conocidos.size() == ids.size()) {
+                respuestasObsoletas.increment();
+                return conocidos;
+            }
+            rechazos.increment();
+            throw new ServicioUsuarioNoDisponibleException(CIRCUITO_ABIERTO, e);
+        }
+    }
+
+    /**
+     * Descarta el último valor conocido del usuario para que no se use como respaldo.
+     */
+    public void invalidar(Long userId) {
+        ultimosConocidos.invalidate(userId);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public long getRespuestasObsoletas() {
+        return respuestasObsoletas.sum();
+    }
+
+    public long getRechazos() {
+        return rechazos.sum();
+    }
+}
@@ -0,0 +1,125 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioSaturadoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link UsuarioValidationPort} que limita las llamadas simultáneas al microservicio
+ * de usuarios con un límite adaptativo AIMD.
+ * <p>
+ * El límite crece en {@code 1/límite} por cada llamada exitosa y rápida mientras está en uso al menos
+ * a la mitad, y se multiplica por {@code factorReduccion} cuando una llamada supera
+ * {@code latenciaMaxima} o el servicio no está disponible. Las llamadas que exceden el límite se
+ * rechazan de inmediato con {@link ServicioUsuarioSaturadoException} en lugar de bloquear hilos del
+ * servidor esperando una respuesta lenta.
+ */
+@Slf4j
+public class UsuarioLimiteConcurrenciaAdapter implements UsuarioValidationPort {
+
+    private static final String SATURADO = "El servicio de usuarios está saturado, intente nuevamente";
+
+    private final UsuarioValidationPort delegate;
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final long latenciaMaximaNanos;
+    private final double factorReduccion;
+    private final LongSupplier reloj;
+
+    private final AtomicInteger enCurso = new AtomicInteger();
+    private final LongAdder rechazos = new LongAdder();
+    private volatile double limite;
+
+    public UsuarioLimiteConcurrenciaAdapter(UsuarioValidationPort delegate, int limiteInicial, int limiteMinimo,
+                                            int limiteMaximo, Duration latenciaMaxima, double factorReduccion) {
+        this(delegate, limiteInicial, limiteMinimo, limiteMaximo, latenciaMaxima, factorReduccion, System::nanoTime);
+    }
+
+    public UsuarioLimiteConcurrenciaAdapter(UsuarioValidationPort delegate, int limiteInicial, int limiteMinimo,
+                                            int limiteMaximo, Duration latenciaMaxima, double factorReduccion,
+                                            LongSupplier reloj) {
+        if (limiteMinimo < 1 || limiteMinimo > limiteMaximo) {
+            throw new IllegalArgumentException("Los límites de concurrencia no son válidos");
+        }
+        if (factorReduccion <= 0 || factorReduccion >= 1) {
+            throw new IllegalArgumentException("El factor de reducción debe estar entre 0 y 1");
+        }
+        this.delegate = delegate;
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.latenciaMaximaNanos = latenciaMaxima.toNanos();
+        this.factorReduccion = factorReduccion;
+        this.reloj = reloj;
+        this.limite = Math.clamp(limiteInicial, limiteMinimo, limiteMaximo);
+    }
+
+    @Override
+    public UsuarioModelo getUserById(Long userId) {
+        return ejecutar(() -> delegate.getUserById(userId));
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        return ejecutar(() -> delegate.getUsersByIds(userIds));
+    }
+
+    private <T> T ejecutar(Supplier<T> llamada) {
+        int enVuelo = adquirir();
+        long inicio = reloj.getAsLong();
+        boolean noDisponible = false;
+        try {
+            return llamada.get();
+        } catch (ServicioUsuarioNoDisponibleException e) {
+            noDisponible = true;
+            throw e;
+        } finally {
+            enCurso.decrementAndGet();
+            ajustar(reloj.getAsLong() - inicio, noDisponible, enVuelo);
+        }
+    }
+
+    private int adquirir() {
+        while (true) {
+            int actuales = enCurso.get();
+            if (actuales >= (int) limite) {
+                rechazos.increment();
+                throw new ServicioUsuarioSaturadoException(SATURADO);
+            }
+            if (enCurso.compareAndSet(actuales, actuales + 1)) {
+                return actuales + 1;
+            }
+        }
+    }
+
+    private synchronized void ajustar(long duracion, boolean noDisponible, int enVuelo) {
+        double actual = limite;
+        if (noDisponible || duracion > latenciaMaximaNanos) {
+            limite = Math.max(limiteMinimo, actual * factorReduccion);
+            log.debug("Límite de concurrencia hacia el servicio de usuarios reducido a {}", (int) limite);
+        } else if (enVuelo * 2 >= actual) {
+            limite = Math.min(limiteMaximo, actual + 1.0 / actual);
+        }
+    }
+
+    public int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEnCurso() {
+        return enCurso.get();
+    }
+
+    public long getRechazos() {
+        return rechazos.sum();
+    }
+}
@@ -0,0 +1,157 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorador de {@link UsuarioValidationPort} que agrupa las consultas individuales de usuarios
+ * que llegan dentro de una ventana corta y las envía como una sola consulta en lote.
+ * <p>
+ * La primera petición de cada lote actúa como líder: espera la ventana configurada (o hasta que el
+ * lote alcance su tamaño máximo) y ejecuta la consulta en su propio hilo, de modo que la llamada
+ * remota conserva el contexto de la petición HTTP del líder (por ejemplo, el header Authorization).
+ * Los IDs que no aparecen en la respuesta se resuelven con {@link UsuarioNoEncontradoException} y
+ * un error de la consulta en lote se propaga a todas las peticiones del lote.
+ */
+@Slf4j
+public class UsuarioLoteDispatcher implements UsuarioValidationPort {
+
+    private final UsuarioValidationPort delegate;
+    private final long ventanaNanos;
+    private final int tamanoMaximo;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition loteCerrado = lock.newCondition();
+    private Lote loteActual;
+
+    public UsuarioLoteDispatcher(UsuarioValidationPort delegate, Duration ventana, int tamanoMaximo) {
+        if (tamanoMaximo < 1) {
+            throw new IllegalArgumentException("El tamaño máximo del lote debe ser mayor a cero");
+        }
+        this.delegate = delegate;
+        this.ventanaNanos = ventana.toNanos();
+        this.tamanoMaximo = tamanoMaximo;
+    }
+
+    @Override
+    public UsuarioModelo getUserById(Long userId) {
+        if (userId == null) {
+            return delegate.getUserById(null);
+        }
+
+        Lote lote;
+        CompletableFuture<UsuarioModelo> resultado;
+        boolean lider = false;
+        boolean lleno = false;
+
+        lock.lock();
+        try {
+            if (loteActual == null) {
+                loteActual = new Lote();
+                lider = true;
+            }
+            lote = loteActual;
+            resultado = lote.solicitudes.computeIfAbsent(userId, id -> new CompletableFuture<>());
+            if (lote.solicitudes.size() >= tamanoMaximo) {
+                cerrar(lote);
+                lleno = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (lleno || (lider && esperarVentana(lote))) {
+            despachar(lote);
+        }
+        return esperarResultado(resultado);
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        return delegate.getUsersByIds(userIds);
+    }
+
+    /**
+     * Espera a que termine la ventana del lote. Devuelve {@code true} si el lote debe ser despachado
+     * por el líder, o {@code false} si otra petición ya lo cerró al alcanzar el tamaño máximo.
+     */
+    private boolean esperarVentana(Lote lote) {
+        lock.lock();
+        try {
+            long restante = ventanaNanos;
+            while (!lote.cerrado && restante > 0) {
+                restante = loteCerrado.awaitNanos(restante);
+            }
+            if (lote.cerrado) {
+                return false;
+            }
+            cerrar(lote);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (lote.cerrado) {
+                return false;
+            }
+            cerrar(lote);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cerrar(Lote lote) {
+        lote.cerrado = true;
+        if (loteActual == lote) {
+            loteActual = null;
+        }
+        loteCerrado.signalAll();
+    }
+
+    private void despachar(Lote lote) {
+        log.debug("Despachando lote de {} usuarios", lote.solicitudes.size());
+        try {
+            Map<Long, UsuarioModelo> usuarios = delegate.getUsersByIds(new ArrayList<>(lote.solicitudes.keySet()));
+            lote.solicitudes.forEach((id, resultado) -> {
+                UsuarioModelo usuario = usuarios.get(id);
+                if (usuario != null) {
+                    resultado.complete(usuario);
+                } else {
+                    resultado.completeExceptionally(new UsuarioNoEncontradoException("El usuario no existe"));
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            lote.solicitudes.values().forEach(resultado -> resultado.completeExceptionally(e));
+        }
+    }
+
+    private static UsuarioModelo esperarResultado(CompletableFuture<UsuarioModelo> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Lote {
+        private final Map<Long, CompletableFuture<UsuarioModelo>> solicitudes = new LinkedHashMap<>();
+        private boolean cerrado;
+    }
+}
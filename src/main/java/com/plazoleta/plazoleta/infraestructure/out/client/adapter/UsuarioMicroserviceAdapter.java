@@ -11,6 +11,16 @@ import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 @Slf4j
 @RequiredArgsConstructor
 public class UsuarioMicroserviceAdapter implements UsuarioValidationPort {
@@ -18,8 +28,59 @@ public class UsuarioMicroserviceAdapter implements UsuarioValidationPort {
     private final UsuarioFeignClient userFeignClient;
     private final UsuarioClientMapper userClientMapper;
 
+    /**
+     * Consultas en curso por ID de usuario. Las peticiones concurrentes para el mismo usuario
+     * comparten la misma llamada remota y reciben su resultado o su error.
+     */
+    private final ConcurrentMap<Long, CompletableFuture<UsuarioModelo>> llamadasEnCurso = new ConcurrentHashMap<>();
+
     @Override
     public UsuarioModelo getUserById(Long userId) {
+        if (userId == null) {
+            return consultarUsuario(null);
+        }
+
+        CompletableFuture<UsuarioModelo> llamada = new CompletableFuture<>();
+        CompletableFuture<UsuarioModelo> enCurso = llamadasEnCurso.putIfAbsent(userId, llamada);
+        if (enCurso != null) {
+            log.debug("Reutilizando consulta en curso para el usuario con ID: {}", userId);
+            return esperarResultado(enCurso);
+        }
+
+        try {
+            UsuarioModelo usuario = consultarUsuario(userId);
+            llamada.complete(usuario);
+            return usuario;
+        } catch (RuntimeException | Error e) {
+            llamada.completeExceptionally(e);
+            throw e;
+        } finally {
+            llamadasEnCurso.remove(userId, llamada);
+        }
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            log.info("Llamando al microservicio de usuarios para obtener {} usuarios en lote", ids.size());
+            List<UsuarioModelo> usuarios = userClientMapper.toUserModels(userFeignClient.getUsersByIds(ids));
+            Map<Long, UsuarioModelo> resultado = new LinkedHashMap<>();
+            for (UsuarioModelo usuario : usuarios) {
+                resultado.put(usuario.getId(), usuario);
+            }
+            return resultado;
+        } catch (FeignException e) {
+            log.error("Error al consultar usuarios en lote: Status={}, Message={}", e.status(), e.getMessage());
+            throw new ServicioUsuarioNoDisponibleException(
+                    "Error al comunicarse con el microservicio de usuarios: " + e.getMessage(), e);
+        }
+    }
+
+    private UsuarioModelo consultarUsuario(Long userId) {
         try {
             log.info("Llamando al microservicio de usuarios para obtener usuario con ID: {}", userId);
             UsuarioResponseDto response = userFeignClient.getUserById(userId);
@@ -35,4 +96,18 @@ public class UsuarioMicroserviceAdapter implements UsuarioValidationPort {
                     "Error al comunicarse con el microservicio de usuarios: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private static UsuarioModelo esperarResultado(CompletableFuture<UsuarioModelo> enCurso) {
+        try {
+            return enCurso.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
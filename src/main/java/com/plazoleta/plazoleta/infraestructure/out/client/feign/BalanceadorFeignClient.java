@@ -0,0 +1,290 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Cliente Feign que reparte las peticiones entre varias instancias del servicio de usuarios.
+ * <p>
+ * Cada instancia mantiene un promedio móvil exponencial (EWMA) de su latencia que decae con el
+ * tiempo sin uso, de modo que una instancia lenta o con errores vuelve a probarse pasado un rato.
+ * Se elige la instancia con menor {@code ewma * (peticiones en curso + 1)}.
+ * <p>
+ * Con hedging habilitado, si una petición GET no responde dentro del p95 observado se envía una
+ * segunda petición a otra instancia y se usa la primera respuesta que llegue; la otra se descarta.
+ */
+@Slf4j
+public class BalanceadorFeignClient implements Client, AutoCloseable {
+
+    private static final double ALPHA = 0.3;
+    private static final long DECAIMIENTO_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final long PENALIZACION_ERROR_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final int MUESTRAS_MINIMAS_HEDGING = 20;
+
+    private final Client delegate;
+    private final String urlBase;
+    private final Instancia[] instancias;
+    private final boolean hedging;
+    private final long retrasoMinimoNanos;
+    private final LongSupplier reloj;
+    private final ExecutorService executor;
+    private final VentanaLatencias latencias = new VentanaLatencias(256);
+    private final Counter hedgesLanzados;
+    private final Counter hedgesGanados;
+
+    public BalanceadorFeignClient(Client delegate, String urlBase, List<String> endpoints, boolean hedging,
+                                  Duration retrasoMinimo, MeterRegistry meterRegistry) {
+        this(delegate, urlBase, endpoints, hedging, retrasoMinimo, meterRegistry, System::nanoTime);
+    }
+
+    public BalanceadorFeignClient(Client delegate, String urlBase, List<String> endpoints, boolean hedging,
+                                  Duration retrasoMinimo, MeterRegistry meterRegistry, LongSupplier reloj) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Debe configurar al menos un endpoint del servicio de usuarios");
+        }
+        this.delegate = delegate;
+        this.urlBase = sinBarraFinal(urlBase);
+        this.instancias = endpoints.stream().map(BalanceadorFeignClient::sinBarraFinal).map(Instancia::new)
+                .toArray(Instancia[]::new);
+        this.hedging = hedging && instancias.length > 1;
+        this.retrasoMinimoNanos = retrasoMinimo.toNanos();
+        this.reloj = reloj;
+        this.executor = this.hedging ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.hedgesLanzados = Counter.builder("usuarios.http.client.hedges").tag("resultado", "lanzado")
+                .register(meterRegistry);
+        this.hedgesGanados = Counter.builder("usuarios.http.client.hedges").tag("resultado", "ganado")
+                .register(meterRegistry);
+        for (Instancia instancia : instancias) {
+            Gauge.builder("usuarios.http.client.latencia_ewma", instancia, i -> i.ewmaNanos / 1_000_000.0)
+                    .tag("endpoint", instancia.url)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!request.url().startsWith(urlBase)) {
+            return delegate.execute(request, options);
+        }
+        Instancia primaria = elegir(null);
+        long umbral = umbralHedging();
+        if (!hedging || umbral < 0 || request.httpMethod() != Request.HttpMethod.GET) {
+            return ejecutar(primaria, request, options);
+        }
+        return ejecutarConHedging(primaria, request, options, umbral);
+    }
+
+    private Response ejecutarConHedging(Instancia primaria, Request request, Request.Options options, long umbral)
+            throws IOException {
+        CompletableFuture<Response> primera = enSegundoPlano(primaria, request, options);
+        try {
+            return primera.get(umbral, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Sin respuesta de {} tras {} ms, enviando petición de respaldo", primaria.url,
+                    TimeUnit.NANOSECONDS.toMillis(umbral));
+        } catch (ExecutionException e) {
+            throw causa(e);
+        } catch (InterruptedException e) {
+            primera.thenAccept(Response::close);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrumpido esperando al servicio de usuarios");
+        }
+
+        hedgesLanzados.increment();
+        CompletableFuture<Response> segunda = enSegundoPlano(elegir(primaria), request, options);
+        CompletableFuture<Response> ganadora = new CompletableFuture<>();
+        AtomicInteger fallos = new AtomicInteger();
+        primera.whenComplete((response, error) -> completar(ganadora, response, error, fallos, false));
+        segunda.whenComplete((response, error) -> completar(ganadora, response, error, fallos, true));
+        try {
+            return ganadora.get();
+        } catch (ExecutionException e) {
+            throw causa(e);
+        } catch (InterruptedException e) {
+            // Las respuestas que lleguen después se cierran en completar()
+            ganadora.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrumpido esperando al servicio de usuarios");
+        }
+    }
+
+    private void completar(CompletableFuture<Response> ganadora, Response response, Throwable error,
+                           AtomicInteger fallos, boolean respaldo) {
+        if (error == null) {
+            if (ganadora.complete(response)) {
+                if (respaldo) {
+                    hedgesGanados.increment();
+                }
+            } else {
+                response.close();
+            }
+        } else if (fallos.incrementAndGet() == 2) {
+            ganadora.completeExceptionally(error);
+        }
+    }
+
+    private CompletableFuture<Response> enSegundoPlano(Instancia instancia, Request request, Request.Options options) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ejecutar(instancia, request, options);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private Response ejecutar(Instancia instancia, Request request, Request.Options options) throws IOException {
+        Request reescrita = Request.create(request.httpMethod(), instancia.url + request.url().substring(urlBase.length()),
+                request.headers(), request.body(), request.charset(), request.requestTemplate());
+        instancia.enCurso.incrementAndGet();
+        long inicio = reloj.getAsLong();
+        try {
+            Response response = delegate.execute(reescrita, options);
+            long duracion = reloj.getAsLong() - inicio;
+            if (response.status() >= 500) {
+                instancia.registrar(Math.max(duracion, PENALIZACION_ERROR_NANOS), reloj.getAsLong());
+            } else {
+                instancia.registrar(duracion, reloj.getAsLong());
+                latencias.registrar(duracion);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            instancia.registrar(Math.max(reloj.getAsLong() - inicio, PENALIZACION_ERROR_NANOS), reloj.getAsLong());
+            throw e;
+        } finally {
+            instancia.enCurso.decrementAndGet();
+        }
+    }
+
+    private Instancia elegir(Instancia excluida) {
+        long ahora = reloj.getAsLong();
+        Instancia mejor = null;
+        double mejorCosto = Double.MAX_VALUE;
+        for (Instancia instancia : instancias) {
+            if (instancia == excluida) {
+                continue;
+            }
+            double costo = instancia.costo(ahora);
+            if (costo < mejorCosto) {
+                mejor = instancia;
+                mejorCosto = costo;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Tiempo de espera antes de enviar la petición de respaldo, o {@code -1} si aún no hay suficientes
+     * muestras para estimar el p95.
+     */
+    private long umbralHedging() {
+        long p95 = latencias.p95();
+        return p95 < 0 ? -1 : Math.max(p95, retrasoMinimoNanos);
+    }
+
+    private static IOException causa(ExecutionException e) {
+        Throwable causa = e.getCause();
+        if (causa instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (causa instanceof IOException io) {
+            return io;
+        }
+        if (causa instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(causa);
+    }
+
+    private static String sinBarraFinal(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Instancia {
+        private final String url;
+        private final AtomicInteger enCurso = new AtomicInteger();
+        private volatile long ewmaNanos;
+        private volatile long actualizadoEn;
+
+        private Instancia(String url) {
+            this.url = url;
+        }
+
+        private synchronized void registrar(long muestra, long ahora) {
+            long actual = decaido(ahora);
+            ewmaNanos = actual == 0 ? muestra : (long) (actual + ALPHA * (muestra - actual));
+            actualizadoEn = ahora;
+        }
+
+        private double costo(long ahora) {
+            return (double) decaido(ahora) * (enCurso.get() + 1);
+        }
+
+        private long decaido(long ahora) {
+            long ewma = ewmaNanos;
+            if (ewma == 0) {
+                return 0;
+            }
+            long inactivo = Math.max(0, ahora - actualizadoEn);
+            return (long) (ewma * Math.exp(-(double) inactivo / DECAIMIENTO_NANOS));
+        }
+    }
+
+    /**
+     * Ventana circular de las últimas latencias exitosas; el p95 se recalcula cada pocas muestras
+     * para no ordenar la ventana en cada petición.
+     */
+    private static final class VentanaLatencias {
+        private final long[] muestras;
+        private int siguiente;
+        private long total;
+        private volatile long p95 = -1;
+
+        private VentanaLatencias(int tamano) {
+            this.muestras = new long[tamano];
+        }
+
+        private synchronized void registrar(long duracion) {
+            muestras[siguiente] = duracion;
+            siguiente = (siguiente + 1) % muestras.length;
+            total++;
+            if (total >= MUESTRAS_MINIMAS_HEDGING && total % 16 == 0) {
+                long[] ordenadas = Arrays.copyOf(muestras, (int) Math.min(total, muestras.length));
+                Arrays.sort(ordenadas);
+                p95 = ordenadas[(int) Math.ceil(ordenadas.length * 0.95) - 1];
+            }
+        }
+
+        private long p95() {
+            return p95;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.plazoleta.plazoleta.infraestructure.out.client.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente Feign sobre el {@code HttpClient} del JDK que limita las peticiones simultáneas por host.
+ * El cliente subyacente reutiliza conexiones keep-alive y, si el servidor lo soporta, multiplexa las
+ * peticiones sobre HTTP/2.
+ * <p>
+ * Publica por host la latencia (por método, status y versión de protocolo), las peticiones en curso y
+ * los rechazos por límite. El {@code HttpClient} del JDK no expone el estado de su pool de conexiones,
+ * por lo que no hay métricas de conexiones abiertas u ociosas.
+ * <p>
+ * Cuando un host alcanza su límite, la petición espera un permiso durante {@code esperaMaxima};
+ * si no lo obtiene, falla con {@link IOException}, que Feign convierte en un error de comunicación.
+ */
+@Slf4j
+public class JdkHttpFeignClient implements Client {
+
+    private static final String METRICA_PETICIONES = "usuarios.http.client.requests";
+    private static final int SIN_RESPUESTA = -1;
+
+    private final Client delegate;
+    private final int maxPeticionesPorHost;
+    private final Duration esperaMaxima;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public JdkHttpFeignClient(Client delegate, int maxPeticionesPorHost, Duration esperaMaxima,
+                              MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxPeticionesPorHost = maxPeticionesPorHost;
+        this.esperaMaxima = esperaMaxima;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Host host = hosts.computeIfAbsent(host(request.url()), Host::new);
+        adquirir(host);
+
+        long inicio = System.nanoTime();
+        int status = SIN_RESPUESTA;
+        Request.ProtocolVersion version = null;
+        try {
+            Response response = delegate.execute(request, options);
+            status = response.status();
+            version = response.protocolVersion();
+            return response;
+        } finally {
+            host.permisos.release();
+            host.timer(request.httpMethod(), status, version)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void adquirir(Host host) throws IOException {
+        try {
+            if (!host.permisos.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS)) {
+                host.rechazos.increment();
+                log.warn("Límite de {} peticiones simultáneas alcanzado para el host {}", maxPeticionesPorHost,
+                        host.nombre);
+                throw new IOException("Límite de peticiones simultáneas alcanzado para el host " + host.nombre);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrumpido esperando una conexión hacia " + host.nombre);
+        }
+    }
+
+    private static String host(String url) {
+        URI uri = URI.create(url);
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    /**
+     * Permisos y métricas de un host. Los medidores se registran una sola vez; cada petición solo busca
+     * su timer en un mapa local, sin pasar por el registro.
+     */
+    private final class Host {
+        private final String nombre;
+        private final Semaphore permisos;
+        private final Counter rechazos;
+        private final ConcurrentMap<ClaveTimer, Timer> timers = new ConcurrentHashMap<>();
+
+        private Host(String nombre) {
+            this.nombre = nombre;
+            this.permisos = new Semaphore(maxPeticionesPorHost);
+            this.rechazos = Counter.builder("usuarios.http.client.rechazos")
+                    .tag("host", nombre)
+                    .register(meterRegistry);
+            Gauge.builder("usuarios.http.client.en_curso", permisos, p -> maxPeticionesPorHost - p.availablePermits())
+                    .tag("host", nombre)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(Request.HttpMethod metodo, int status, Request.ProtocolVersion version) {
+            return timers.computeIfAbsent(new ClaveTimer(metodo, status, version), clave -> Timer
+                    .builder(METRICA_PETICIONES)
+                    .tag("host", nombre)
+                    .tag("method", String.valueOf(clave.metodo()))
+                    .tag("status", clave.status() == SIN_RESPUESTA ? "IO_ERROR" : String.valueOf(clave.status()))
+                    .tag("version", clave.version() != null ? clave.version().name() : "desconocida")
+                    .register(meterRegistry));
+        }
+    }
+
+    private record ClaveTimer(Request.HttpMethod metodo, int status, Request.ProtocolVersion version) {
+    }
+}
@@ -4,10 +4,18 @@ import com.plazoleta.plazoleta.infraestructure.out.client.dto.UsuarioResponseDto
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${feign.client.config.user-service.url}")
 public interface UsuarioFeignClient {
 
     @GetMapping("/api/v1/usuarios/{id}")
     UsuarioResponseDto getUserById(@PathVariable("id") Long id);
+
+    @PostMapping("/api/v1/usuarios/lote")
+    List<UsuarioResponseDto> getUsersByIds(@RequestBody Collection<Long> ids);
 }
\ No newline at end of file
@@ -5,10 +5,14 @@ import com.plazoleta.plazoleta.infraestructure.out.client.dto.UsuarioResponseDto
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface UsuarioClientMapper {
 
     @Mapping(source = "rol", target = "role")
     UsuarioModelo toUserModel(UsuarioResponseDto dto);
 
+    List<UsuarioModelo> toUserModels(List<UsuarioResponseDto> dtos);
+
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.plazoleta.plazoleta.infraestructure.out.indice;
+
+import com.plazoleta.plazoleta.domain.spi.IndicePropietariosPort;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice en memoria de restaurante a propietario sobre un {@link MapaLongLong}, sin objetos por entrada.
+ * <p>
+ * Se carga completo al iniciar y se mantiene con escritura directa al crear restaurantes. Las
+ * consultas usan una lectura optimista sin bloqueo; solo si coincide con una escritura se repiten con
+ * el bloqueo de lectura. Un restaurante que no está en el índice (creado en otro nodo) se consulta en
+ * la base de datos y se incorpora.
+ */
+@Slf4j
+public class IndicePropietariosRestaurante implements IndicePropietariosPort {
+
+    private static final int TAMANO_LOTE = 1000;
+
+    private final RestauranteRepository restauranteRepository;
+    private final StampedLock lock = new StampedLock();
+    private final LongAdder consultasBaseDatos = new LongAdder();
+    private MapaLongLong propietarios = new MapaLongLong();
+    /** Escrituras recibidas durante una reconstrucción; se aplican sobre el índice nuevo. */
+    private MapaLongLong pendientes;
+
+    public IndicePropietariosRestaurante(RestauranteRepository restauranteRepository) {
+        this.restauranteRepository = restauranteRepository;
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo cargar el índice de propietarios; se consultará la base de datos: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * @return el propietario del restaurante, o {@link MapaLongLong#AUSENTE} si el restaurante no existe
+     */
+    public long propietario(long restauranteId) {
+        long propietario = buscar(restauranteId);
+        if (propietario != MapaLongLong.AUSENTE) {
+            return propietario;
+        }
+        consultasBaseDatos.increment();
+        Long registrado = restauranteRepository.findPropietarioIdById(restauranteId).orElse(null);
+        if (registrado == null) {
+            return MapaLongLong.AUSENTE;
+        }
+        registrar(restauranteId, registrado);
+        return registrado;
+    }
+
+    public void registrar(long restauranteId, long propietarioId) {
+        long stamp = lock.writeLock();
+        try {
+            propietarios.put(restauranteId, propietarioId);
+            if (pendientes != null) {
+                pendientes.put(restauranteId, propietarioId);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public synchronized int reconstruir() {
+        long stamp = lock.writeLock();
+        pendientes = new MapaLongLong();
+        lock.unlockWrite(stamp);
+
+        MapaLongLong nuevo;
+        try {
+            nuevo = cargar();
+        } catch (RuntimeException e) {
+            stamp = lock.writeLock();
+            pendientes = null;
+            lock.unlockWrite(stamp);
+            throw e;
+        }
+
+        stamp = lock.writeLock();
+        try {
+            nuevo.putAll(pendientes);
+            propietarios = nuevo;
+            pendientes = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.info("Índice de propietarios reconstruido con {} restaurantes ({} bytes)", nuevo.size(), nuevo.bytes());
+        return nuevo.size();
+    }
+
+    public int getCantidad() {
+        long stamp = lock.readLock();
+        try {
+            return propietarios.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long getBytes() {
+        long stamp = lock.readLock();
+        try {
+            return propietarios.bytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long getConsultasBaseDatos() {
+        return consultasBaseDatos.sum();
+    }
+
+    private long buscar(long restauranteId) {
+        long stamp = lock.tryOptimisticRead();
+        long propietario = propietarios.get(restauranteId);
+        if (lock.validate(stamp)) {
+            return propietario;
+        }
+        stamp = lock.readLock();
+        try {
+            return propietarios.get(restauranteId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private MapaLongLong cargar() {
+        MapaLongLong nuevo = new MapaLongLong((int) Math.min(Integer.MAX_VALUE, restauranteRepository.count()));
+        long desde = 0;
+        List<RestauranteRepository.PropietarioRestaurante> lote;
+        do {
+            lote = restauranteRepository.findPropietariosDesde(desde, Limit.of(TAMANO_LOTE));
+            for (RestauranteRepository.PropietarioRestaurante fila : lote) {
+                nuevo.put(fila.getId(), fila.getPropietarioId());
+                desde = fila.getId();
+            }
+        } while (lote.size() == TAMANO_LOTE);
+        return nuevo;
+    }
+}
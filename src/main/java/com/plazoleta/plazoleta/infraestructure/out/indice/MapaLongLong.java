@@ -0,0 +1,124 @@
+package com.plazoleta.plazoleta.infraestructure.out.indice;
+
+/**
+ * Mapa {@code long -> long} de direccionamiento abierto con sondeo lineal, sin objetos por entrada.
+ * Claves y valores se guardan intercalados en un único arreglo; la clave {@code 0} marca una celda
+ * vacía, por lo que solo admite claves positivas (ids generados por la base de datos).
+ * <p>
+ * No es seguro para escrituras concurrentes. {@link #get(long)} lee la tabla una sola vez y siempre
+ * termina, aunque otro hilo escriba a la vez, de modo que puede usarse dentro de una lectura
+ * optimista de {@link java.util.concurrent.locks.StampedLock} que se valida después.
+ */
+public final class MapaLongLong {
+
+    public static final long AUSENTE = Long.MIN_VALUE;
+
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    private long[] tabla;
+    private int cantidad;
+
+    public MapaLongLong() {
+        this(CAPACIDAD_MINIMA);
+    }
+
+    public MapaLongLong(int entradasEsperadas) {
+        this.tabla = new long[2 * capacidadPara(entradasEsperadas)];
+    }
+
+    /**
+     * @return el valor asociado, o {@link #AUSENTE} si la clave no está o no es positiva
+     */
+    public long get(long clave) {
+        if (clave <= 0) {
+            // La clave 0 coincidiría con la primera celda vacía
+            return AUSENTE;
+        }
+        long[] t = tabla;
+        int mascara = (t.length >>> 1) - 1;
+        int celda = celda(clave, mascara);
+        while (true) {
+            long actual = t[celda << 1];
+            if (actual == clave) {
+                return t[(celda << 1) + 1];
+            }
+            if (actual == 0) {
+                return AUSENTE;
+            }
+            celda = (celda + 1) & mascara;
+        }
+    }
+
+    public void put(long clave, long valor) {
+        if (clave <= 0) {
+            throw new IllegalArgumentException("Solo se admiten claves positivas: " + clave);
+        }
+        if (2 * (cantidad + 1) > tabla.length >>> 1) {
+            tabla = redimensionar(tabla, tabla.length);
+        }
+        if (insertar(tabla, clave, valor)) {
+            cantidad++;
+        }
+    }
+
+    public void putAll(MapaLongLong otro) {
+        long[] t = otro.tabla;
+        for (int i = 0; i < t.length; i += 2) {
+            if (t[i] != 0) {
+                put(t[i], t[i + 1]);
+            }
+        }
+    }
+
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Memoria ocupada por la tabla (encabezado del arreglo incluido), en bytes.
+     */
+    public long bytes() {
+        return 16L + 8L * tabla.length;
+    }
+
+    private static boolean insertar(long[] t, long clave, long valor) {
+        int mascara = (t.length >>> 1) - 1;
+        int celda = celda(clave, mascara);
+        while (true) {
+            long actual = t[celda << 1];
+            if (actual == 0 || actual == clave) {
+                // El valor primero: un lector que vea la clave nueva ya encuentra su valor
+                t[(celda << 1) + 1] = valor;
+                t[celda << 1] = clave;
+                return actual == 0;
+            }
+            celda = (celda + 1) & mascara;
+        }
+    }
+
+    private static long[] redimensionar(long[] anterior, int largo) {
+        long[] nueva = new long[largo * 2];
+        for (int i = 0; i < anterior.length; i += 2) {
+            if (anterior[i] != 0) {
+                insertar(nueva, anterior[i], anterior[i + 1]);
+            }
+        }
+        return nueva;
+    }
+
+    private static int celda(long clave, int mascara) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+
+    /**
+     * Potencia de dos con factor de carga máximo de 1/2.
+     */
+    private static int capacidadPara(int entradas) {
+        int capacidad = CAPACIDAD_MINIMA;
+        while (capacidad < 2L * entradas) {
+            capacidad <<= 1;
+        }
+        return capacidad;
+    }
+}
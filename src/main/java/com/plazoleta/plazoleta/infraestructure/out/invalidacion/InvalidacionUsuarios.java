@@ -0,0 +1,16 @@
+package com.plazoleta.plazoleta.infraestructure.out.invalidacion;
+
+import java.util.Set;
+
+/**
+ * Mensaje publicado en el {@link InvalidacionUsuariosBus}.
+ *
+ * @param nodoOrigen identificador del nodo que publicó el mensaje, que ya aplicó la invalidación
+ * @param userIds    usuarios cuyos datos en memoria deben descartarse
+ */
+public record InvalidacionUsuarios(String nodoOrigen, Set<Long> userIds) {
+
+    public InvalidacionUsuarios {
+        userIds = Set.copyOf(userIds);
+    }
+}
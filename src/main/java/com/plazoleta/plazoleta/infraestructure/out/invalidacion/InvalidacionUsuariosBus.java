@@ -0,0 +1,15 @@
+package com.plazoleta.plazoleta.infraestructure.out.invalidacion;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal por el que los nodos del servicio se notifican invalidaciones de usuarios. Las
+ * implementaciones entregan cada mensaje publicado a todos los suscriptores, incluido el del nodo
+ * que lo publicó.
+ */
+public interface InvalidacionUsuariosBus {
+
+    void publicar(InvalidacionUsuarios invalidacion);
+
+    void suscribir(Consumer<InvalidacionUsuarios> suscriptor);
+}
@@ -0,0 +1,33 @@
+package com.plazoleta.plazoleta.infraestructure.out.invalidacion;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Bus en memoria que entrega los mensajes de forma síncrona a los suscriptores del mismo proceso.
+ * Es la implementación por defecto para un solo nodo y permite simular varios nodos en pruebas.
+ */
+@Slf4j
+public class LoopbackInvalidacionUsuariosBus implements InvalidacionUsuariosBus {
+
+    private final List<Consumer<InvalidacionUsuarios>> suscriptores = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publicar(InvalidacionUsuarios invalidacion) {
+        for (Consumer<InvalidacionUsuarios> suscriptor : suscriptores) {
+            try {
+                suscriptor.accept(invalidacion);
+            } catch (RuntimeException e) {
+                log.warn("Error al entregar la invalidación de usuarios {}", invalidacion.userIds(), e);
+            }
+        }
+    }
+
+    @Override
+    public void suscribir(Consumer<InvalidacionUsuarios> suscriptor) {
+        suscriptores.add(suscriptor);
+    }
+}
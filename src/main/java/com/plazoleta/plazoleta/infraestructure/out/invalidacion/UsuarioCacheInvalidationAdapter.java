@@ -0,0 +1,54 @@
+package com.plazoleta.plazoleta.infraestructure.out.invalidacion;
+
+import com.plazoleta.plazoleta.domain.spi.UsuarioCacheInvalidationPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Aplica las invalidaciones de usuarios sobre las caches registradas en este nodo y las publica en
+ * el {@link InvalidacionUsuariosBus} para los demás nodos. Los mensajes recibidos del bus que
+ * provienen de otro nodo se aplican localmente; los propios se ignoran porque ya se aplicaron.
+ */
+@Slf4j
+public class UsuarioCacheInvalidationAdapter implements UsuarioCacheInvalidationPort {
+
+    private final String nodo = UUID.randomUUID().toString();
+    private final InvalidacionUsuariosBus bus;
+    private final List<Consumer<Long>> caches = new CopyOnWriteArrayList<>();
+
+    public UsuarioCacheInvalidationAdapter(InvalidacionUsuariosBus bus) {
+        this.bus = bus;
+        bus.suscribir(this::recibir);
+    }
+
+    /**
+     * Registra una caché local que debe descartar la entrada de un usuario al ser invalidado.
+     */
+    public void registrar(Consumer<Long> invalidador) {
+        caches.add(invalidador);
+    }
+
+    @Override
+    public void invalidarUsuarios(Set<Long> userIds) {
+        invalidarLocal(userIds);
+        bus.publicar(new InvalidacionUsuarios(nodo, userIds));
+    }
+
+    private void recibir(InvalidacionUsuarios invalidacion) {
+        if (!nodo.equals(invalidacion.nodoOrigen())) {
+            invalidarLocal(invalidacion.userIds());
+        }
+    }
+
+    private void invalidarLocal(Set<Long> userIds) {
+        log.debug("Invalidando {} usuarios en memoria", userIds.size());
+        for (Consumer<Long> invalidador : caches) {
+            userIds.forEach(invalidador);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.plazoleta.plazoleta.infraestructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.PlatoEntityMapper;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.PlatoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -25,4 +31,41 @@ public class PlatoJpaAdapter implements PlatoPersistencePort {
         PlatoEntity entity = platoEntityMapper.toEntity(plato);
         platoRepository.save(entity);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code saveAll} del repositorio persiste todo en una transacción; con el id por secuencia y
+     * {@code hibernate.jdbc.batch_size} los INSERT se envían en lotes.
+     */
+    @Override
+    public List<Plato> saveAll(List<Plato> platos) {
+        List<PlatoEntity> entities = platos.stream().map(platoEntityMapper::toEntity).toList();
+        return platoRepository.saveAll(entities).stream().map(platoEntityMapper::toDomain).toList();
+    }
+
+    @Override
+    public int actualizarPrecioYDescripcion(Long platoId, Integer precio, String descripcion, Long propietarioId) {
+        return platoRepository.actualizarPrecioYDescripcion(platoId, precio, descripcion, propietarioId);
+    }
+
+    @Override
+    public EstadoPropiedadRestaurante verificarPropiedadPlato(Long platoId, Long propietarioId) {
+        return EstadoPropiedadRestaurante.de(platoRepository.findPropietarioIdByPlatoId(platoId).orElse(null),
+                propietarioId);
+    }
+
+    @Override
+    public int ajustarPrecios(AjustePrecios ajuste) {
+        return platoRepository.ajustarPrecios(ajuste.getRestauranteId(), ajuste.getFactor(), ajuste.getIncremento(),
+                ajuste.getCategoria(), ajuste.getPrecioMinimo(), ajuste.getPrecioMaximo());
+    }
+
+    @Override
+    public List<PlatoMenu> listarMenu(Long restauranteId, String categoria, Boolean activo, CursorPagina despues,
+                                      int limite) {
+        if (despues == null) {
+            return platoRepository.findMenu(restauranteId, categoria, activo, Limit.of(limite));
+        }
+        return platoRepository.findMenuDespues(restauranteId, categoria, activo, despues.clave(), despues.id(),
+                Limit.of(limite));
+    }
+}
@@ -1,21 +1,51 @@
 package com.plazoleta.plazoleta.infraestructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
 import com.plazoleta.plazoleta.domain.spi.RestaurantePersistencePort;
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.RestauranteEntityMapper;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
 
-@RequiredArgsConstructor
 public class RestauranteJpaAdapter implements RestaurantePersistencePort {
 
     private final RestauranteRepository repository;
     private final RestauranteEntityMapper mapper;
+    private final IndicePropietariosRestaurante indicePropietarios;
+
+    public RestauranteJpaAdapter(RestauranteRepository repository, RestauranteEntityMapper mapper) {
+        this(repository, mapper, null);
+    }
+
+    /**
+     * @param indicePropietarios si no es null, cada restaurante guardado se registra en el índice
+     */
+    public RestauranteJpaAdapter(RestauranteRepository repository, RestauranteEntityMapper mapper,
+                                 IndicePropietariosRestaurante indicePropietarios) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.indicePropietarios = indicePropietarios;
+    }
 
     @Override
     public void save(Restaurante restaurant) {
         RestauranteEntity entity = mapper.toEntity(restaurant);
-        repository.save(entity);
+        RestauranteEntity guardado = repository.save(entity);
+        if (indicePropietarios != null && guardado != null && guardado.getId() != null) {
+            indicePropietarios.registrar(guardado.getId(), guardado.getPropietarioId());
+        }
+    }
+
+    @Override
+    public List<RestauranteDirectorio> listarDirectorio(CursorPagina despues, int limite) {
+        if (despues == null) {
+            return repository.findDirectorio(Limit.of(limite));
+        }
+        return repository.findDirectorioDespues(despues.clave(), despues.id(), Limit.of(limite));
     }
-}
\ No newline at end of file
+}
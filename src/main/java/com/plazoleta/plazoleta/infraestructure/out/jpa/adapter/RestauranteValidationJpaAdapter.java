@@ -1,25 +1,45 @@
 package com.plazoleta.plazoleta.infraestructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
-import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
+import com.plazoleta.plazoleta.infraestructure.out.indice.MapaLongLong;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
-import lombok.RequiredArgsConstructor;
-import java.util.Optional;
 
-@RequiredArgsConstructor
 public class RestauranteValidationJpaAdapter implements RestauranteValidationPort {
 
     private final RestauranteRepository restauranteRepository;
+    private final IndicePropietariosRestaurante indicePropietarios;
 
-    @Override
-    public boolean restaurantePerteneceAPropietario(Long restauranteId, Long propietarioId) {
-        Optional<RestauranteEntity> restaurant = restauranteRepository.findById(restauranteId);
-        return restaurant.isPresent() &&
-                restaurant.get().getPropietarioId().equals(propietarioId);
+    public RestauranteValidationJpaAdapter(RestauranteRepository restauranteRepository) {
+        this(restauranteRepository, null);
+    }
+
+    /**
+     * @param indicePropietarios si no es null, la propiedad se resuelve en memoria y solo los
+     *                           restaurantes que no están en el índice se consultan en la base de datos
+     */
+    public RestauranteValidationJpaAdapter(RestauranteRepository restauranteRepository,
+                                           IndicePropietariosRestaurante indicePropietarios) {
+        this.restauranteRepository = restauranteRepository;
+        this.indicePropietarios = indicePropietarios;
     }
 
     @Override
-    public boolean restauranteExiste(Long restauranteId) {
-        return restauranteRepository.existsById(restauranteId);
+    public EstadoPropiedadRestaurante verificarPropiedad(Long restauranteId, Long propietarioId) {
+        if (restauranteId == null) {
+            return EstadoPropiedadRestaurante.NO_EXISTE;
+        }
+        if (indicePropietarios != null) {
+            long propietarioRegistrado = indicePropietarios.propietario(restauranteId);
+            if (propietarioRegistrado == MapaLongLong.AUSENTE) {
+                return EstadoPropiedadRestaurante.NO_EXISTE;
+            }
+            return propietarioId != null && propietarioRegistrado == propietarioId
+                    ? EstadoPropiedadRestaurante.PROPIO
+                    : EstadoPropiedadRestaurante.AJENO;
+        }
+        return EstadoPropiedadRestaurante.de(
+                restauranteRepository.findPropietarioIdById(restauranteId).orElse(null), propietarioId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.plazoleta.plazoleta.infraestructure.out.jpa.adapter;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.TokenRevocadoEntityMapper;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.TokenRevocadoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TokenRevocadoJpaAdapter implements TokenRevocadoPersistencePort {
+
+    private final TokenRevocadoRepository repository;
+    private final TokenRevocadoEntityMapper mapper;
+
+    @Override
+    public void guardar(TokenRevocado tokenRevocado) {
+        if (repository.existsByJti(tokenRevocado.getJti())) {
+            return;
+        }
+        try {
+            repository.save(mapper.toEntity(tokenRevocado));
+        } catch (DataIntegrityViolationException e) {
+            // Solo se ignora si otro nodo revocó el mismo jti entre la consulta y la inserción
+            if (!repository.existsByJti(tokenRevocado.getJti())) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public List<TokenRevocado> buscarDesde(long idDesde, int limite) {
+        return mapper.toDomainList(repository.findByIdGreaterThanOrderByIdAsc(idDesde, Limit.of(limite)));
+    }
+
+    @Override
+    public int eliminarExpirados(Instant ahora) {
+        return repository.deleteExpirados(ahora);
+    }
+}
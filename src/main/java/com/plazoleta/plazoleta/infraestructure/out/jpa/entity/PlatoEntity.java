@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,8 +20,13 @@ import lombok.Setter;
 @AllArgsConstructor
 public class PlatoEntity {
 
+    /**
+     * Ids reservados por bloques de la secuencia (pooled-lo); el tamaño real del bloque es el
+     * INCREMENT BY de la secuencia en la base de datos.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plato_seq")
+    @SequenceGenerator(name = "plato_seq", sequenceName = "plato_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
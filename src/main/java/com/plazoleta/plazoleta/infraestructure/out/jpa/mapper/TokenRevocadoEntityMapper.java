@@ -0,0 +1,14 @@
+package com.plazoleta.plazoleta.infraestructure.out.jpa.mapper;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.TokenRevocadoEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TokenRevocadoEntityMapper {
+    TokenRevocadoEntity toEntity(TokenRevocado tokenRevocado);
+    TokenRevocado toDomain(TokenRevocadoEntity entity);
+    List<TokenRevocado> toDomainList(List<TokenRevocadoEntity> entities);
+}
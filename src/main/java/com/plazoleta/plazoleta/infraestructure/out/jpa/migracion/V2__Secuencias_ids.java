@@ -0,0 +1,44 @@
+package com.plazoleta.plazoleta.infraestructure.out.jpa.migracion;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Crea las secuencias de ids de restaurantes y platos a continuación del mayor id existente, para que
+ * Hibernate pueda reservar ids por bloques (optimizador pooled-lo) y agrupar los INSERT en lotes JDBC.
+ * <p>
+ * El tamaño del bloque es el {@code INCREMENT BY} de la secuencia y se toma del placeholder
+ * {@code incremento_ids}. Es Java porque el valor inicial depende de los datos y PostgreSQL no admite
+ * expresiones en {@code START WITH}.
+ */
+public class V2__Secuencias_ids extends BaseJavaMigration {
+
+    private static final String[][] SECUENCIAS = {
+            {"restaurante", "restaurante_seq"},
+            {"plato", "plato_seq"}
+    };
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        String incremento = context.getConfiguration().getPlaceholders().getOrDefault("incremento_ids", "50");
+        int incrementoIds = Integer.parseInt(incremento);
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String[] secuencia : SECUENCIAS) {
+                long inicio = mayorId(statement, secuencia[0]) + 1;
+                statement.execute("CREATE SEQUENCE " + secuencia[1] + " START WITH " + inicio
+                        + " INCREMENT BY " + incrementoIds);
+            }
+        }
+    }
+
+    private static long mayorId(Statement statement, String tabla) throws SQLException {
+        try (ResultSet resultado = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tabla)) {
+            resultado.next();
+            return resultado.getLong(1);
+        }
+    }
+}
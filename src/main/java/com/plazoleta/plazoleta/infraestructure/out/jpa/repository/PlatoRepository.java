@@ -1,7 +1,84 @@
 package com.plazoleta.plazoleta.infraestructure.out.jpa.repository;
 
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 
 public interface PlatoRepository extends JpaRepository<PlatoEntity, Long> {
-}
\ No newline at end of file
+
+    String SELECT_PLATO_MENU = "select new com.plazoleta.plazoleta.domain.model.PlatoMenu(p.id, p.nombre, p.precio, "
+            + "p.descripcion, p.urlImagen, p.categoria, p.activo) from PlatoEntity p "
+            + "where p.restauranteId = :restauranteId "
+            + "and (:categoria is null or p.categoria = :categoria) "
+            + "and (:activo is null or p.activo = :activo) ";
+
+    /** Precio ajustado calculado en decimal, antes de convertirlo a entero. */
+    String NUEVO_PRECIO = "(round(p.precio * cast(:factor as BigDecimal(20, 10)), 0) + :incremento)";
+
+    /**
+     * Primera página del menú, en el orden del índice {@code (restaurante_id, categoria, id)}.
+     */
+    @Query(SELECT_PLATO_MENU + "order by p.categoria, p.id")
+    List<PlatoMenu> findMenu(@Param("restauranteId") Long restauranteId, @Param("categoria") String categoria,
+                             @Param("activo") Boolean activo, Limit limit);
+
+    /**
+     * Página siguiente a {@code (despuesCategoria, despuesId)}: el índice se recorre desde esa posición,
+     * sin OFFSET, de modo que el costo no depende de cuántas páginas se hayan leído antes.
+     */
+    @Query(SELECT_PLATO_MENU
+            + "and p.categoria >= :despuesCategoria "
+            + "and (p.categoria > :despuesCategoria or p.id > :despuesId) "
+            + "order by p.categoria, p.id")
+    List<PlatoMenu> findMenuDespues(@Param("restauranteId") Long restauranteId, @Param("categoria") String categoria,
+                                    @Param("activo") Boolean activo,
+                                    @Param("despuesCategoria") String despuesCategoria,
+                                    @Param("despuesId") Long despuesId, Limit limit);
+
+    /**
+     * Propietario del restaurante del plato, sin cargar entidades.
+     */
+    @Query("select r.propietarioId from PlatoEntity p, RestauranteEntity r where p.id = :id "
+            + "and r.id = p.restauranteId")
+    Optional<Long> findPropietarioIdByPlatoId(@Param("id") Long id);
+
+    /**
+     * Un solo UPDATE que valida la propiedad con una subconsulta sobre {@code restaurante.propietario_id},
+     * sin cargar el plato ni el restaurante.
+     */
+    @Modifying
+    @Transactional
+    @Query("update PlatoEntity p set p.precio = :precio, p.descripcion = :descripcion where p.id = :id "
+            + "and exists (select 1 from RestauranteEntity r where r.id = p.restauranteId "
+            + "and r.propietarioId = :propietarioId)")
+    int actualizarPrecioYDescripcion(@Param("id") Long id, @Param("precio") Integer precio,
+                                     @Param("descripcion") String descripcion,
+                                     @Param("propietarioId") Long propietarioId);
+
+    /**
+     * Nuevo precio {@code round(precio * factor) + incremento} para los platos activos del restaurante
+     * que cumplen los filtros (los {@code null} no filtran). El precio nuevo se calcula en decimal y se
+     * acota en la misma sentencia: los platos que quedarían en cero o menos, o por encima del máximo de
+     * la columna entera, no se modifican en lugar de hacer fallar todo el lote.
+     */
+    @Modifying
+    @Transactional
+    @Query("update PlatoEntity p set p.precio = cast(" + NUEVO_PRECIO + " as Integer) "
+            + "where p.restauranteId = :restauranteId and p.activo = true "
+            + "and (:categoria is null or p.categoria = :categoria) "
+            + "and (:precioMinimo is null or p.precio >= :precioMinimo) "
+            + "and (:precioMaximo is null or p.precio <= :precioMaximo) "
+            + "and " + NUEVO_PRECIO + " > 0 and " + NUEVO_PRECIO + " <= 2147483647")
+    int ajustarPrecios(@Param("restauranteId") Long restauranteId, @Param("factor") BigDecimal factor,
+                       @Param("incremento") int incremento, @Param("categoria") String categoria,
+                       @Param("precioMinimo") Integer precioMinimo, @Param("precioMaximo") Integer precioMaximo);
+}
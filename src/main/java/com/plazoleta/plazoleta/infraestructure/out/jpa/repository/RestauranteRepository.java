@@ -1,7 +1,49 @@
 package com.plazoleta.plazoleta.infraestructure.out.jpa.repository;
 
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface RestauranteRepository extends JpaRepository<RestauranteEntity, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Solo el propietario del restaurante, por clave primaria, sin cargar la entidad.
+     */
+    @Query("select r.propietarioId from RestauranteEntity r where r.id = :id")
+    Optional<Long> findPropietarioIdById(@Param("id") Long id);
+
+    /**
+     * Pares restaurante-propietario con id mayor a {@code id}, en orden de id, para recorrer la tabla por lotes.
+     */
+    @Query("select r.id as id, r.propietarioId as propietarioId from RestauranteEntity r where r.id > :id order by r.id")
+    List<PropietarioRestaurante> findPropietariosDesde(@Param("id") Long id, Limit limit);
+
+    /**
+     * Primera página del directorio. Solo lee columnas del índice {@code (nombre, id, url_logo)}, de modo
+     * que no toca las columnas anchas de la tabla.
+     */
+    @Query("select new com.plazoleta.plazoleta.domain.model.RestauranteDirectorio(r.id, r.nombre, r.urlLogo) "
+            + "from RestauranteEntity r order by r.nombre, r.id")
+    List<RestauranteDirectorio> findDirectorio(Limit limit);
+
+    /**
+     * Página del directorio siguiente a {@code (despuesNombre, despuesId)}, sin OFFSET.
+     */
+    @Query("select new com.plazoleta.plazoleta.domain.model.RestauranteDirectorio(r.id, r.nombre, r.urlLogo) "
+            + "from RestauranteEntity r where r.nombre >= :despuesNombre "
+            + "and (r.nombre > :despuesNombre or r.id > :despuesId) order by r.nombre, r.id")
+    List<RestauranteDirectorio> findDirectorioDespues(@Param("despuesNombre") String despuesNombre,
+                                                      @Param("despuesId") Long despuesId, Limit limit);
+
+    interface PropietarioRestaurante {
+        Long getId();
+
+        Long getPropietarioId();
+    }
+}
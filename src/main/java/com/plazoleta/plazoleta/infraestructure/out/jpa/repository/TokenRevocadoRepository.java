@@ -0,0 +1,24 @@
+package com.plazoleta.plazoleta.infraestructure.out.jpa.repository;
+
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.TokenRevocadoEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocadoRepository extends JpaRepository<TokenRevocadoEntity, Long> {
+
+    boolean existsByJti(String jti);
+
+    List<TokenRevocadoEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TokenRevocadoEntity t WHERE t.expiraEn < :ahora")
+    int deleteExpirados(@Param("ahora") Instant ahora);
+}
@@ -0,0 +1,33 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * JWKS en un archivo local. Solo se vuelve a leer cuando cambia la fecha de modificación o el tamaño.
+ */
+class ArchivoFuenteJwks implements FuenteJwks {
+
+    private final Path archivo;
+    private FileTime modificado;
+    private long tamano = -1;
+
+    ArchivoFuenteJwks(Path archivo) {
+        this.archivo = archivo;
+    }
+
+    @Override
+    public synchronized String leerSiCambio() throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(archivo, BasicFileAttributes.class);
+        if (atributos.lastModifiedTime().equals(modificado) && atributos.size() == tamano) {
+            return null;
+        }
+        String contenido = Files.readString(archivo);
+        modificado = atributos.lastModifiedTime();
+        tamano = atributos.size();
+        return contenido;
+    }
+}
@@ -0,0 +1,115 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decorador de {@link VerificadorToken} que recuerda los tokens ya verificados. Las entradas se
+ * indexan por el SHA-256 del token (el token no se guarda en memoria) y expiran en el {@code exp}
+ * del token, o tras {@code ttlSinExpiracion} si no lo trae. Los tokens inválidos no se cachean.
+ */
+public class CacheVerificadorToken implements VerificadorToken {
+
+    /** Tope de permanencia en caché para tokens de larga duración. */
+    private static final Duration PERMANENCIA_MAXIMA = Duration.ofDays(1);
+
+    private final VerificadorToken delegate;
+    private final Clock clock;
+    private final Cache<HashToken, TokenVerificado> verificados;
+
+    public CacheVerificadorToken(VerificadorToken delegate, long maximumSize, Duration ttlSinExpiracion) {
+        this(delegate, maximumSize, ttlSinExpiracion, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    public CacheVerificadorToken(VerificadorToken delegate, long maximumSize, Duration ttlSinExpiracion,
+                                 Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verificados = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new HastaExpiracion(clock, ttlSinExpiracion))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public TokenVerificado verificar(String token) {
+        HashToken hash = HashToken.de(token);
+        TokenVerificado verificado = verificados.getIfPresent(hash);
+        if (verificado != null && vigente(verificado)) {
+            return verificado;
+        }
+        verificado = delegate.verificar(token);
+        if (vigente(verificado)) {
+            verificados.put(hash, verificado);
+        }
+        return verificado;
+    }
+
+    /**
+     * La caché expira la entrada en {@code exp}; esta comprobación cubre el margen entre el reloj
+     * de pared y el ticker de la caché.
+     */
+    private boolean vigente(TokenVerificado verificado) {
+        return verificado.expiraEn() == null || clock.instant().isBefore(verificado.expiraEn());
+    }
+
+    public Cache<HashToken, TokenVerificado> getVerificados() {
+        return verificados;
+    }
+
+    /**
+     * SHA-256 del token como cuatro {@code long}, para comparar y hashear la clave sin copiar arreglos.
+     */
+    public record HashToken(long a, long b, long c, long d) {
+
+        private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 no disponible", e);
+            }
+        });
+
+        static HashToken de(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new HashToken(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+    private record HastaExpiracion(Clock clock, Duration ttlSinExpiracion) implements Expiry<HashToken, TokenVerificado> {
+
+        @Override
+        public long expireAfterCreate(HashToken key, TokenVerificado value, long currentTime) {
+            if (value.expiraEn() == null) {
+                return ttlSinExpiracion.toNanos();
+            }
+            Duration restante = Duration.between(clock.instant(), value.expiraEn());
+            if (restante.isNegative()) {
+                return 0;
+            }
+            return restante.compareTo(PERMANENCIA_MAXIMA) > 0 ? PERMANENCIA_MAXIMA.toNanos() : restante.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(HashToken key, TokenVerificado value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(HashToken key, TokenVerificado value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
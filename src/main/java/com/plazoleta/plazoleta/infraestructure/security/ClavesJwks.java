@@ -0,0 +1,141 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Localizador de claves para jjwt: resuelve las claves públicas RS256/ES256 por {@code kid} desde un
+ * documento JWKS y, si se configura, la clave HMAC compartida para los tokens HS*.
+ * <p>
+ * Las claves ya parseadas se guardan en un mapa inmutable que se reemplaza completo en cada recarga, de
+ * modo que las peticiones nunca esperan a la recarga. El documento se revisa periódicamente en segundo
+ * plano y solo se parsea si cambió. Un {@code kid} desconocido adelanta una recarga en segundo plano,
+ * como máximo una vez por intervalo de espera, y el token se rechaza sin esperar.
+ */
+@Slf4j
+public class ClavesJwks extends LocatorAdapter<Key> implements AutoCloseable {
+
+    private static final String RS256 = "RS256";
+    private static final String ES256 = "ES256";
+
+    private final FuenteJwks fuente;
+    private final SecretKey claveHmac;
+    private final long esperaKidDesconocidoNanos;
+    private final LongSupplier reloj;
+    private final ScheduledExecutorService recargas;
+    private final AtomicLong proximaRecargaPermitida;
+    private volatile Map<String, PublicKey> claves = Map.of();
+
+    public ClavesJwks(FuenteJwks fuente, SecretKey claveHmac, Duration intervaloRecarga,
+                      Duration esperaKidDesconocido) {
+        this(fuente, claveHmac, intervaloRecarga, esperaKidDesconocido, System::nanoTime);
+    }
+
+    public ClavesJwks(FuenteJwks fuente, SecretKey claveHmac, Duration intervaloRecarga,
+                      Duration esperaKidDesconocido, LongSupplier reloj) {
+        this.fuente = fuente;
+        this.claveHmac = claveHmac;
+        this.esperaKidDesconocidoNanos = esperaKidDesconocido.toNanos();
+        this.reloj = reloj;
+        this.proximaRecargaPermitida = new AtomicLong(reloj.getAsLong() + esperaKidDesconocidoNanos);
+        this.recargas = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("jwks-recarga").daemon().factory());
+        recargar();
+        long intervalo = intervaloRecarga.toMillis();
+        recargas.scheduleWithFixedDelay(this::recargar, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String algoritmo = header.getAlgorithm();
+        if (RS256.equals(algoritmo) || ES256.equals(algoritmo)) {
+            String kid = header.getKeyId();
+            PublicKey clave = kid != null ? claves.get(kid) : null;
+            if (clave == null) {
+                kidDesconocido(kid);
+                throw new UnsupportedJwtException("No se conoce la clave de firma " + kid);
+            }
+            return clave;
+        }
+        if (claveHmac != null && algoritmo != null && algoritmo.startsWith("HS")) {
+            return claveHmac;
+        }
+        throw new UnsupportedJwtException("Algoritmo de firma no soportado: " + algoritmo);
+    }
+
+    /**
+     * Relee la fuente y, si el documento cambió, reemplaza las claves. Ante un error se conservan las
+     * claves anteriores. Se invoca periódicamente en segundo plano.
+     */
+    public synchronized void recargar() {
+        try {
+            String documento = fuente.leerSiCambio();
+            if (documento != null) {
+                claves = parsear(documento);
+                log.info("JWKS recargado con {} claves de firma", claves.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("No se pudo recargar el JWKS, se conservan las claves anteriores: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, PublicKey> getClaves() {
+        return claves;
+    }
+
+    private void kidDesconocido(String kid) {
+        long ahora = reloj.getAsLong();
+        long permitida = proximaRecargaPermitida.get();
+        if (ahora - permitida < 0
+                || !proximaRecargaPermitida.compareAndSet(permitida, ahora + esperaKidDesconocidoNanos)) {
+            return;
+        }
+        log.debug("kid desconocido {}, adelantando la recarga del JWKS", kid);
+        try {
+            recargas.execute(this::recargar);
+        } catch (RejectedExecutionException e) {
+            log.debug("Recarga del JWKS descartada: el localizador está cerrado");
+        }
+    }
+
+    private static Map<String, PublicKey> parsear(String documento) {
+        JwkSet jwks = Jwks.setParser().build().parse(documento);
+        Map<String, PublicKey> parseadas = new HashMap<>();
+        for (Jwk<?> jwk : jwks.getKeys()) {
+            if (jwk.getId() != null && jwk instanceof PublicJwk<?> publica
+                    && !"enc".equals(publica.getPublicKeyUse())
+                    && (publica.toKey() instanceof RSAPublicKey || publica.toKey() instanceof ECPublicKey)) {
+                parseadas.put(jwk.getId(), publica.toKey());
+            }
+        }
+        return Map.copyOf(parseadas);
+    }
+
+    @Override
+    public void close() {
+        recargas.shutdownNow();
+    }
+}
@@ -0,0 +1,78 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas. {@link #podriaContener(String)} en {@code false} garantiza que la cadena
+ * nunca se agregó; en {@code true} puede ser un falso positivo con la probabilidad configurada.
+ * <p>
+ * Admite agregar y consultar desde varios hilos a la vez. No admite eliminar: para descartar valores
+ * se construye un filtro nuevo.
+ */
+public class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long cantidadBits;
+    private final int cantidadHashes;
+
+    public FiltroBloom(int elementosEsperados, double probabilidadFalsoPositivo) {
+        if (elementosEsperados < 1 || probabilidadFalsoPositivo <= 0 || probabilidadFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Parámetros del filtro de Bloom inválidos");
+        }
+        long m = (long) Math.ceil(-elementosEsperados * Math.log(probabilidadFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palabras = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(palabras);
+        this.cantidadBits = (long) palabras * 64;
+        this.cantidadHashes = Math.max(1, (int) Math.round((double) cantidadBits / elementosEsperados * Math.log(2)));
+    }
+
+    public void agregar(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= cantidadHashes; i++) {
+            long bit = indice(h1 + i * h2);
+            int palabra = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long actual = bits.get(palabra);
+            while ((actual & mascara) == 0 && !bits.compareAndSet(palabra, actual, actual | mascara)) {
+                actual = bits.get(palabra);
+            }
+        }
+    }
+
+    public boolean podriaContener(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= cantidadHashes; i++) {
+            long bit = indice(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long indice(int combinado) {
+        return ((combinado & 0xFFFFFFFFL) * 0x9E3779B97F4A7C15L >>> 1) % cantidadBits;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los caracteres, seguido del mezclado final de MurmurHash3, sin crear
+     * objetos intermedios.
+     */
+    private static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
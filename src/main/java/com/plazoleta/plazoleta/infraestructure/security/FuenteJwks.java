@@ -0,0 +1,30 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Origen del documento JWKS con las claves públicas de firma de tokens.
+ */
+public interface FuenteJwks {
+
+    /**
+     * Devuelve el documento JWKS si cambió desde la lectura anterior, o {@code null} si sigue igual.
+     */
+    String leerSiCambio() throws IOException, InterruptedException;
+
+    /**
+     * Crea la fuente según la ubicación: una URL {@code http(s)://} o una ruta de archivo local
+     * (con o sin prefijo {@code file:}).
+     */
+    static FuenteJwks desde(String ubicacion) {
+        if (ubicacion.startsWith("http://") || ubicacion.startsWith("https://")) {
+            return new HttpFuenteJwks(URI.create(ubicacion));
+        }
+        if (ubicacion.startsWith("file:")) {
+            return new ArchivoFuenteJwks(Path.of(URI.create(ubicacion)));
+        }
+        return new ArchivoFuenteJwks(Path.of(ubicacion));
+    }
+}
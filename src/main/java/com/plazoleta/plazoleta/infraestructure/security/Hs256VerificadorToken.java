@@ -0,0 +1,568 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Verificador HS256 de baja asignación de memoria para la ruta habitual de los tokens del servicio.
+ * <p>
+ * Usa un {@link Mac} y buffers por hilo, verifica la firma sin copiar el token y lee del payload solo
+ * {@code sub}, {@code role}, {@code exp}, {@code iat} y {@code jti} con un lector JSON mínimo, sin construir el
+ * mapa de claims. El lector valida la sintaxis de números y cadenas como JSON estricto; cualquier caso
+ * fuera de lo habitual (otro algoritmo o cabecera, JSON mal formado, claims con formato inesperado,
+ * {@code nbf}, caracteres no ASCII, caracteres escapados en claves o valores leídos) se delega al
+ * verificador de respaldo (jjwt), de modo que el resultado es el mismo que con jjwt.
+ */
+public class Hs256VerificadorToken implements VerificadorToken {
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final int LARGO_FIRMA = 32;
+    private static final String[] CABECERAS = {
+            base64Url("{\"alg\":\"HS256\"}"),
+            base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}"),
+            base64Url("{\"typ\":\"JWT\",\"alg\":\"HS256\"}")
+    };
+    private static final String[] ROLES_CONOCIDOS = {"ADMINISTRADOR", "PROPIETARIO", "EMPLEADO", "CLIENTE"};
+    private static final byte[][] ROLES_CONOCIDOS_BYTES = Arrays.stream(ROLES_CONOCIDOS)
+            .map(rol -> rol.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+    private static final int[] BASE64_URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alfabeto = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alfabeto.length(); i++) {
+            BASE64_URL[alfabeto.charAt(i)] = i;
+        }
+    }
+
+    private final SecretKeySpec clave;
+    private final VerificadorToken respaldo;
+    private final Clock clock;
+    private final ThreadLocal<Estado> estado;
+
+    public Hs256VerificadorToken(String jwtSecret, VerificadorToken respaldo) {
+        this(jwtSecret, respaldo, Clock.systemUTC());
+    }
+
+    public Hs256VerificadorToken(String jwtSecret, VerificadorToken respaldo, Clock clock) {
+        byte[] secreto = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        if (secreto.length < LARGO_FIRMA) {
+            throw new IllegalArgumentException("El secreto JWT debe tener al menos 256 bits");
+        }
+        this.clave = new SecretKeySpec(secreto, ALGORITMO);
+        this.respaldo = respaldo;
+        this.clock = clock;
+        this.estado = ThreadLocal.withInitial(() -> new Estado(clave));
+    }
+
+    @Override
+    public TokenVerificado verificar(String token) {
+        int punto1 = token.indexOf('.');
+        int punto2 = punto1 < 0 ? -1 : token.indexOf('.', punto1 + 1);
+        if (punto2 < 0 || token.indexOf('.', punto2 + 1) >= 0 || !cabeceraHs256(token, punto1)) {
+            return respaldo.verificar(token);
+        }
+
+        Estado e = estado.get();
+        int largo = token.length();
+        byte[] ascii = e.ascii(largo);
+        for (int i = 0; i < largo; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return respaldo.verificar(token);
+            }
+            ascii[i] = (byte) c;
+        }
+
+        if (decodificar(ascii, punto2 + 1, largo, e.firma) != LARGO_FIRMA) {
+            return respaldo.verificar(token);
+        }
+        e.mac.update(ascii, 0, punto2);
+        try {
+            e.mac.doFinal(e.calculada, 0);
+        } catch (ShortBufferException ex) {
+            throw new IllegalStateException(ex);
+        }
+        if (!MessageDigest.isEqual(e.firma, e.calculada)) {
+            throw new TokenInvalidoException("Token inválido", false, null);
+        }
+
+        byte[] payload = e.payload((punto2 - punto1) * 3 / 4 + 3);
+        int largoPayload = decodificar(ascii, punto1 + 1, punto2, payload);
+        LectorClaims claims = e.claims;
+        if (largoPayload < 0 || !claims.leer(payload, largoPayload)) {
+            return respaldo.verificar(token);
+        }
+        return construir(token, claims, payload);
+    }
+
+    private TokenVerificado construir(String token, LectorClaims claims, byte[] payload) {
+        Long userId = null;
+        if (claims.subInicio >= 0 && claims.subFin > claims.subInicio) {
+            long id = digitos(payload, claims.subInicio, claims.subFin);
+            if (id < 0) {
+                return respaldo.verificar(token);
+            }
+            userId = id;
+        }
+
+        Instant expiraEn = null;
+        if (claims.expPresente) {
+            if (claims.exp > Long.MAX_VALUE / 1000) {
+                return respaldo.verificar(token);
+            }
+            expiraEn = Instant.ofEpochSecond(claims.exp);
+            if (clock.millis() > claims.exp * 1000) {
+                throw new TokenInvalidoException("Token expirado", true, null);
+            }
+        }
+        Instant emitidoEn = claims.iatPresente ? Instant.ofEpochSecond(claims.iat) : null;
+        String role = claims.rolInicio >= 0 ? rol(payload, claims.rolInicio, claims.rolFin) : null;
+        String jti = claims.jtiInicio >= 0
+                ? new String(payload, claims.jtiInicio, claims.jtiFin - claims.jtiInicio, StandardCharsets.UTF_8)
+                : null;
+        return new TokenVerificado(userId, role, emitidoEn, expiraEn, jti);
+    }
+
+    private boolean cabeceraHs256(String token, int punto1) {
+        for (String cabecera : CABECERAS) {
+            if (cabecera.length() == punto1 && token.regionMatches(0, cabecera, 0, punto1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodifica base64url sin relleno desde {@code origen[desde, hasta)} hacia {@code destino}.
+     * Devuelve la cantidad de bytes escritos, o -1 si la entrada no es válida o no cabe.
+     */
+    private static int decodificar(byte[] origen, int desde, int hasta, byte[] destino) {
+        int escritos = 0;
+        int acumulado = 0;
+        int bits = 0;
+        for (int i = desde; i < hasta; i++) {
+            int valor = BASE64_URL[origen[i] & 0x7F];
+            if (valor < 0 || origen[i] < 0) {
+                return -1;
+            }
+            acumulado = (acumulado << 6) | valor;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (escritos == destino.length) {
+                    return -1;
+                }
+                destino[escritos++] = (byte) (acumulado >> bits);
+                acumulado &= (1 << bits) - 1;
+            }
+        }
+        return bits >= 6 ? -1 : escritos;
+    }
+
+    /**
+     * Convierte un sub numérico sin signo; devuelve -1 si no es un número que quepa en un long.
+     */
+    private static long digitos(byte[] b, int desde, int hasta) {
+        if (hasta - desde > 18) {
+            return -1;
+        }
+        long valor = 0;
+        for (int i = desde; i < hasta; i++) {
+            int digito = b[i] - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private static String rol(byte[] b, int desde, int hasta) {
+        for (int i = 0; i < ROLES_CONOCIDOS_BYTES.length; i++) {
+            if (Arrays.equals(b, desde, hasta, ROLES_CONOCIDOS_BYTES[i], 0, ROLES_CONOCIDOS_BYTES[i].length)) {
+                return ROLES_CONOCIDOS[i];
+            }
+        }
+        return new String(b, desde, hasta - desde, StandardCharsets.UTF_8);
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Estado {
+        private final Mac mac;
+        private final byte[] firma = new byte[LARGO_FIRMA];
+        private final byte[] calculada = new byte[LARGO_FIRMA];
+        private final LectorClaims claims = new LectorClaims();
+        private byte[] ascii = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Estado(SecretKeySpec clave) {
+            try {
+                mac = Mac.getInstance(ALGORITMO);
+                mac.init(clave);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("No se pudo inicializar " + ALGORITMO, e);
+            }
+        }
+
+        private byte[] ascii(int largo) {
+            if (ascii.length < largo) {
+                ascii = new byte[largo];
+            }
+            return ascii;
+        }
+
+        private byte[] payload(int largo) {
+            if (payload.length < largo) {
+                payload = new byte[largo];
+            }
+            return payload;
+        }
+    }
+
+    /**
+     * Lector JSON mínimo del objeto de claims. Registra posiciones dentro del buffer en lugar de crear
+     * objetos y devuelve {@code false} ante cualquier construcción que deba resolver jjwt, incluidas las
+     * claves repetidas dentro de un mismo objeto, que jjwt rechaza.
+     */
+    private static final class LectorClaims {
+        private static final int MAX_CLAVES = 64;
+
+        private byte[] b;
+        private int pos;
+        private int fin;
+        private int subInicio;
+        private int subFin;
+        private int rolInicio;
+        private int rolFin;
+        private int jtiInicio;
+        private int jtiFin;
+        private boolean expPresente;
+        private long exp;
+        private boolean iatPresente;
+        private long iat;
+        /** Pares inicio/fin de las claves de los objetos abiertos, para detectar repetidas. */
+        private final int[] claves = new int[2 * MAX_CLAVES];
+        private int cantidadClaves;
+
+        private boolean leer(byte[] b, int fin) {
+            this.b = b;
+            this.fin = fin;
+            this.pos = 0;
+            subInicio = subFin = rolInicio = rolFin = jtiInicio = jtiFin = -1;
+            expPresente = iatPresente = false;
+            cantidadClaves = 0;
+
+            espacios();
+            if (!consumir('{')) {
+                return false;
+            }
+            espacios();
+            if (consumir('}')) {
+                return finDeDocumento();
+            }
+            while (true) {
+                espacios();
+                // Una clave con escapes podría ser un claim reconocido (exp escrito con escape unicode): la resuelve jjwt
+                int claveInicio = pos + 1;
+                int claveFin = cadenaSinEscapes();
+                if (claveFin < 0 || !registrarClave(0, claveInicio, claveFin)) {
+                    return false;
+                }
+                espacios();
+                if (!consumir(':')) {
+                    return false;
+                }
+                espacios();
+                if (!valor(claveInicio, claveFin)) {
+                    return false;
+                }
+                espacios();
+                if (consumir(',')) {
+                    continue;
+                }
+                return consumir('}') && finDeDocumento();
+            }
+        }
+
+        private boolean valor(int claveInicio, int claveFin) {
+            if (clave(claveInicio, claveFin, "sub")) {
+                subInicio = pos + 1;
+                subFin = cadenaSinEscapes();
+                return subFin >= 0;
+            }
+            if (clave(claveInicio, claveFin, "role")) {
+                if (literal("null")) {
+                    rolInicio = rolFin = -1;
+                    return true;
+                }
+                rolInicio = pos + 1;
+                rolFin = cadenaSinEscapes();
+                return rolFin >= 0;
+            }
+            if (clave(claveInicio, claveFin, "jti")) {
+                jtiInicio = pos + 1;
+                jtiFin = cadenaSinEscapes();
+                return jtiFin >= 0;
+            }
+            if (clave(claveInicio, claveFin, "exp")) {
+                expPresente = true;
+                exp = entero();
+                return exp >= 0;
+            }
+            if (clave(claveInicio, claveFin, "iat")) {
+                iatPresente = true;
+                iat = entero();
+                return iat >= 0;
+            }
+            if (clave(claveInicio, claveFin, "nbf")) {
+                return false;
+            }
+            return saltarValor(0);
+        }
+
+        /**
+         * Registra una clave del objeto cuyas claves empiezan en {@code primera}; devuelve {@code false}
+         * si ya estaba o si el payload tiene demasiadas claves abiertas.
+         */
+        private boolean registrarClave(int primera, int inicio, int fin) {
+            for (int i = primera; i < cantidadClaves; i++) {
+                if (Arrays.equals(b, inicio, fin, b, claves[2 * i], claves[2 * i + 1])) {
+                    return false;
+                }
+            }
+            if (cantidadClaves == MAX_CLAVES) {
+                return false;
+            }
+            claves[2 * cantidadClaves] = inicio;
+            claves[2 * cantidadClaves + 1] = fin;
+            cantidadClaves++;
+            return true;
+        }
+
+        private boolean clave(int inicio, int fin, String nombre) {
+            if (fin - inicio != nombre.length()) {
+                return false;
+            }
+            for (int i = 0; i < nombre.length(); i++) {
+                if (b[inicio + i] != nombre.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Avanza sobre una cadena que empieza en {@code pos}; devuelve la posición de la comilla de cierre,
+         * o -1 ante caracteres de control, escapes inválidos o bytes no ASCII (negativos), que resuelve jjwt.
+         */
+        private int cadena() {
+            pos++;
+            while (pos < fin) {
+                byte c = b[pos];
+                if (c == '"') {
+                    return pos++;
+                }
+                if (c < 0x20) {
+                    return -1;
+                }
+                if (c == '\\') {
+                    if (!escape()) {
+                        return -1;
+                    }
+                } else {
+                    pos++;
+                }
+            }
+            return -1;
+        }
+
+        private boolean escape() {
+            if (pos + 1 >= fin) {
+                return false;
+            }
+            byte c = b[pos + 1];
+            if (c == '"' || c == '\\' || c == '/' || c == 'b' || c == 'f' || c == 'n' || c == 'r' || c == 't') {
+                pos += 2;
+                return true;
+            }
+            if (c != 'u' || pos + 6 > fin) {
+                return false;
+            }
+            for (int i = pos + 2; i < pos + 6; i++) {
+                if (Character.digit(b[i], 16) < 0) {
+                    return false;
+                }
+            }
+            pos += 6;
+            return true;
+        }
+
+        private int cadenaSinEscapes() {
+            if (!esperar('"')) {
+                return -1;
+            }
+            int inicio = pos;
+            int cierre = cadena();
+            for (int i = inicio + 1; cierre >= 0 && i < cierre; i++) {
+                if (b[i] == '\\') {
+                    return -1;
+                }
+            }
+            return cierre;
+        }
+
+        private long entero() {
+            int inicio = pos;
+            long valor = 0;
+            while (pos < fin && b[pos] >= '0' && b[pos] <= '9') {
+                if (pos - inicio >= 18) {
+                    return -1;
+                }
+                valor = valor * 10 + (b[pos++] - '0');
+            }
+            if (pos == inicio || (b[inicio] == '0' && pos - inicio > 1)
+                    || (pos < fin && (b[pos] == '.' || b[pos] == 'e' || b[pos] == 'E'))) {
+                return -1;
+            }
+            return valor;
+        }
+
+        private boolean saltarValor(int profundidad) {
+            if (pos >= fin || profundidad > 16) {
+                return false;
+            }
+            byte c = b[pos];
+            if (c == '"') {
+                return cadena() >= 0;
+            }
+            if (c == '{' || c == '[') {
+                byte cierre = (byte) (c == '{' ? '}' : ']');
+                int primeraClave = cantidadClaves;
+                pos++;
+                espacios();
+                if (consumir(cierre)) {
+                    return true;
+                }
+                while (true) {
+                    espacios();
+                    if (c == '{') {
+                        int claveInicio = pos + 1;
+                        int claveFin = cadenaSinEscapes();
+                        if (claveFin < 0 || !registrarClave(primeraClave, claveInicio, claveFin)) {
+                            return false;
+                        }
+                        espacios();
+                        if (!consumir(':')) {
+                            return false;
+                        }
+                        espacios();
+                    }
+                    if (!saltarValor(profundidad + 1)) {
+                        return false;
+                    }
+                    espacios();
+                    if (consumir(',')) {
+                        continue;
+                    }
+                    cantidadClaves = primeraClave;
+                    return consumir(cierre);
+                }
+            }
+            if (literal("true") || literal("false") || literal("null")) {
+                return true;
+            }
+            return numero();
+        }
+
+        /**
+         * Avanza sobre un número con la gramática de JSON: {@code -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?}.
+         */
+        private boolean numero() {
+            consumir('-');
+            if (consumir('0')) {
+                if (digito()) {
+                    return false;
+                }
+            } else if (!digitos()) {
+                return false;
+            }
+            if (consumir('.') && !digitos()) {
+                return false;
+            }
+            if (consumir('e') || consumir('E')) {
+                if (!consumir('+')) {
+                    consumir('-');
+                }
+                return digitos();
+            }
+            return true;
+        }
+
+        private boolean digitos() {
+            if (!digito()) {
+                return false;
+            }
+            while (digito()) {
+                pos++;
+            }
+            return true;
+        }
+
+        private boolean digito() {
+            return pos < fin && b[pos] >= '0' && b[pos] <= '9';
+        }
+
+        private boolean literal(String texto) {
+            if (fin - pos < texto.length()) {
+                return false;
+            }
+            for (int i = 0; i < texto.length(); i++) {
+                if (b[pos + i] != texto.charAt(i)) {
+                    return false;
+                }
+            }
+            pos += texto.length();
+            return true;
+        }
+
+        private void espacios() {
+            while (pos < fin && (b[pos] == ' ' || b[pos] == '\t' || b[pos] == '\n' || b[pos] == '\r')) {
+                pos++;
+            }
+        }
+
+        private boolean esperar(char c) {
+            return pos < fin && b[pos] == c;
+        }
+
+        private boolean consumir(char c) {
+            if (esperar(c)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consumir(byte c) {
+            return consumir((char) c);
+        }
+
+        private boolean finDeDocumento() {
+            espacios();
+            return pos == fin;
+        }
+    }
+}
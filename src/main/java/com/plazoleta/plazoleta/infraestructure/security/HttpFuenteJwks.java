@@ -0,0 +1,46 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * JWKS publicado por HTTP. Usa {@code If-None-Match} con el ETag de la última respuesta, de modo que
+ * un documento sin cambios se resuelve con un 304 sin volver a descargarlo.
+ */
+class HttpFuenteJwks implements FuenteJwks {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI uri;
+    private final HttpClient httpClient;
+    private String etag;
+
+    HttpFuenteJwks(URI uri) {
+        this.uri = uri;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    }
+
+    @Override
+    public synchronized String leerSiCambio() throws IOException, InterruptedException {
+        HttpRequest.Builder peticion = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        if (etag != null) {
+            peticion.header("If-None-Match", etag);
+        }
+        HttpResponse<String> respuesta = httpClient.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() == 304) {
+            return null;
+        }
+        if (respuesta.statusCode() != 200) {
+            throw new IOException("Respuesta " + respuesta.statusCode() + " al descargar el JWKS de " + uri);
+        }
+        etag = respuesta.headers().firstValue("ETag").orElse(null);
+        return respuesta.body();
+    }
+}
@@ -0,0 +1,59 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Verificador basado en jjwt. La clave (o el localizador de claves) y el parser se construyen una sola
+ * vez; el {@link JwtParser} de jjwt es inmutable y seguro para uso concurrente.
+ */
+public class JjwtVerificadorToken implements VerificadorToken {
+
+    private static final String CLAIM_ROLE = "role";
+
+    private final JwtParser parser;
+
+    public JjwtVerificadorToken(String jwtSecret) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * Resuelve la clave de cada token con el localizador, por ejemplo {@link ClavesJwks} para RS256/ES256.
+     */
+    public JjwtVerificadorToken(Locator<Key> localizadorClaves) {
+        this.parser = Jwts.parser()
+                .keyLocator(localizadorClaves)
+                .build();
+    }
+
+    @Override
+    public TokenVerificado verificar(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String sub = claims.getSubject();
+            Long userId = sub == null || sub.isEmpty() ? null : Long.parseLong(sub);
+            return new TokenVerificado(userId, claims.get(CLAIM_ROLE, String.class),
+                    instante(claims.getIssuedAt()), instante(claims.getExpiration()), claims.getId());
+        } catch (ExpiredJwtException e) {
+            throw new TokenInvalidoException("Token expirado", true, e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new TokenInvalidoException("Token inválido", false, e);
+        }
+    }
+
+    private static Instant instante(Date fecha) {
+        return fecha != null ? fecha.toInstant() : null;
+    }
+}
@@ -1,14 +1,14 @@
 package com.plazoleta.plazoleta.infraestructure.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,23 +16,117 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Filtro que valida el JWT en el header Authorization y establece el usuario en el SecurityContext.
+ * El principal es un {@link UsuarioAutenticado} con el rol ya resuelto, de modo que el resto de la
+ * petición no vuelve a interpretar el token ni las authorities.
+ * Los tokens ya verificados se recuerdan hasta su expiración, de modo que las peticiones repetidas
+ * con el mismo token no vuelven a verificar la firma ni a parsear el JSON.
+ * La revocación se consulta en cada petición, también para los tokens recordados.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final String CLAIM_ROLE = "role";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final Map<Rol, List<SimpleGrantedAuthority>> AUTORIDADES = new EnumMap<>(Rol.class);
+    private static final String[] RUTAS_PUBLICAS = {"/actuator/health", "/v3/api-docs", "/swagger-ui"};
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    static {
+        for (Rol rol : Rol.values()) {
+            AUTORIDADES.put(rol, List.of(new SimpleGrantedAuthority(ROLE_PREFIX + rol.name())));
+        }
+    }
+
+    private final VerificadorToken verificadorToken;
+    private final ClavesJwks clavesJwks;
+    private final RegistroRevocaciones registroRevocaciones;
+
+    /**
+     * @param verificador   {@code hs256}: verificador HS256 propio con jjwt como respaldo; {@code jjwt}:
+     *                      solo jjwt
+     * @param jwksUbicacion archivo o URL del JWKS para aceptar tokens RS256/ES256; vacío para aceptar
+     *                      solo tokens HMAC firmados con {@code jwt.secret}
+     */
+    @Autowired
+    public JwtAuthenticationFilter(@Value("${jwt.secret}") String jwtSecret,
+                                   @Value("${jwt.verificador:hs256}") String verificador,
+                                   @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                                   @Value("${jwt.cache.ttl-sin-expiracion:5m}") Duration ttlSinExpiracion,
+                                   @Value("${jwt.jwks.ubicacion:}") String jwksUbicacion,
+                                   @Value("${jwt.jwks.intervalo-recarga:1m}") Duration jwksIntervaloRecarga,
+                                   @Value("${jwt.jwks.espera-kid-desconocido:30s}") Duration jwksEsperaKidDesconocido,
+                                   ObjectProvider<RegistroRevocaciones> registroRevocaciones) {
+        this(clavesJwks(jwtSecret, jwksUbicacion, jwksIntervaloRecarga, jwksEsperaKidDesconocido),
+                jwtSecret, verificador, cacheMaximumSize, ttlSinExpiracion, registroRevocaciones.getIfAvailable());
+    }
+
+    private JwtAuthenticationFilter(ClavesJwks clavesJwks, String jwtSecret, String verificador,
+                                    long cacheMaximumSize, Duration ttlSinExpiracion,
+                                    RegistroRevocaciones registroRevocaciones) {
+        this.clavesJwks = clavesJwks;
+        this.verificadorToken = new CacheVerificadorToken(verificador(jwtSecret, verificador, clavesJwks),
+                cacheMaximumSize, ttlSinExpiracion);
+        this.registroRevocaciones = registroRevocaciones;
+    }
+
+    public JwtAuthenticationFilter(VerificadorToken verificadorToken) {
+        this(verificadorToken, null);
+    }
+
+    public JwtAuthenticationFilter(VerificadorToken verificadorToken, RegistroRevocaciones registroRevocaciones) {
+        this.verificadorToken = verificadorToken;
+        this.clavesJwks = null;
+        this.registroRevocaciones = registroRevocaciones;
+    }
+
+    private static ClavesJwks clavesJwks(String jwtSecret, String ubicacion, Duration intervaloRecarga,
+                                         Duration esperaKidDesconocido) {
+        if (ubicacion == null || ubicacion.isBlank()) {
+            return null;
+        }
+        return new ClavesJwks(FuenteJwks.desde(ubicacion.trim()),
+                Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)), intervaloRecarga,
+                esperaKidDesconocido);
+    }
+
+    private static VerificadorToken verificador(String jwtSecret, String tipo, ClavesJwks clavesJwks) {
+        VerificadorToken jjwt = clavesJwks != null
+                ? new JjwtVerificadorToken(clavesJwks)
+                : new JjwtVerificadorToken(jwtSecret);
+        return "jjwt".equalsIgnoreCase(tipo) ? jjwt : new Hs256VerificadorToken(jwtSecret, jjwt);
+    }
+
+    @Override
+    public void destroy() {
+        if (clavesJwks != null) {
+            clavesJwks.close();
+        }
+    }
+
+    /**
+     * Las rutas públicas de Swagger y de salud no necesitan autenticación; se omite la verificación
+     * del token para no pagar su costo en cada sondeo de salud o carga de la documentación. El resto
+     * de actuator (métricas) sí pasa por el filtro porque exige rol de administrador.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String ruta = request.getServletPath();
+        for (String publica : RUTAS_PUBLICAS) {
+            if (ruta.startsWith(publica)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -46,43 +140,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length()).trim();
 
+        TokenVerificado verificado;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            String sub = claims.getSubject();
-            if (sub == null || sub.isEmpty()) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            Long userId = Long.parseLong(sub);
-            String role = claims.get(CLAIM_ROLE, String.class);
-            if (role == null) {
-                role = "USER";
-            }
-            String authority = role.startsWith("ROLE_") ? role : "ROLE_" + role;
-
-            List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                    new SimpleGrantedAuthority(authority));
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        } catch (ExpiredJwtException e) {
+            verificado = verificadorToken.verificar(token);
+        } catch (TokenInvalidoException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Token expirado");
+            response.getWriter().write(e.isExpirado() ? "Token expirado" : "Token inválido");
             return;
-        } catch (JwtException | NumberFormatException e) {
+        }
+
+        if (registroRevocaciones != null && verificado.jti() != null
+                && registroRevocaciones.estaRevocado(verificado.jti())) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Token inválido");
+            response.getWriter().write("Token revocado");
             return;
         }
 
+        if (verificado.userId() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Rol rol = Rol.desdeNombre(sinPrefijo(verificado.role()));
+        UsuarioAutenticado usuario = new UsuarioAutenticado(verificado.userId(), rol, verificado.emitidoEn());
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(usuario, null, autoridades(rol, verificado.role()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static String sinPrefijo(String role) {
+        return role != null && role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role;
+    }
+
+    private static List<SimpleGrantedAuthority> autoridades(Rol rol, String role) {
+        if (rol != null) {
+            return AUTORIDADES.get(rol);
+        }
+        String nombre = role != null ? role : "USER";
+        return Collections.singletonList(
+                new SimpleGrantedAuthority(nombre.startsWith(ROLE_PREFIX) ? nombre : ROLE_PREFIX + nombre));
+    }
+}
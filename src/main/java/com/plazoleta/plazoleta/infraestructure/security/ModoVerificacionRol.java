@@ -0,0 +1,16 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+/**
+ * Estrategia para verificar el rol del usuario autenticado en los casos de uso.
+ */
+public enum ModoVerificacionRol {
+
+    /** Consulta siempre el rol en el microservicio de usuarios. */
+    REMOTE,
+
+    /** Confía en el claim {@code role} del JWT ya verificado por el filtro. */
+    TOKEN,
+
+    /** Confía en el token, pero verifica remotamente una fracción muestreada y los tokens antiguos. */
+    HYBRID
+}
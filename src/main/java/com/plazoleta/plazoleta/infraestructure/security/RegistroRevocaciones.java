@@ -0,0 +1,178 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorador de {@link TokenRevocadoPersistencePort} que mantiene en memoria los jti revocados para
+ * consultarlos en cada petición sin I/O.
+ * <p>
+ * Un filtro de Bloom descarta sin más trabajo los tokens que seguro no están revocados (la inmensa
+ * mayoría); solo los posibles aciertos se confirman contra el conjunto exacto. Ambos se actualizan
+ * de forma incremental leyendo las revocaciones nuevas por id. Los ids IDENTITY se asignan al insertar
+ * pero las filas se ven al confirmar, así que una transacción lenta puede aparecer detrás del último id
+ * leído; por eso cada lectura incremental vuelve a recorrer los últimos {@link #MARGEN_IDS} ids. La
+ * compactación elimina de la tabla las revocaciones de tokens ya expirados y reconstruye ambas
+ * estructuras a partir de una lectura completa.
+ */
+@Slf4j
+public class RegistroRevocaciones implements TokenRevocadoPersistencePort, AutoCloseable {
+
+    private static final int TAMANO_LOTE = 500;
+    /**
+     * Ids ya leídos que cada refresco vuelve a consultar; cubre revocaciones confirmadas fuera de orden
+     * mientras haya menos de este número de inserciones concurrentes.
+     */
+    static final long MARGEN_IDS = 100;
+
+    private final TokenRevocadoPersistencePort delegate;
+    private final int capacidadEsperada;
+    private final double probabilidadFalsoPositivo;
+    private final Clock clock;
+    private final ScheduledExecutorService tareas;
+
+    private volatile Estado estado;
+    private long ultimoId;
+
+    public RegistroRevocaciones(TokenRevocadoPersistencePort delegate, int capacidadEsperada,
+                                double probabilidadFalsoPositivo, Duration intervaloRefresco,
+                                Duration intervaloCompactacion) {
+        this(delegate, capacidadEsperada, probabilidadFalsoPositivo, Clock.systemUTC());
+        tareas.scheduleWithFixedDelay(this::refrescar, intervaloRefresco.toMillis(), intervaloRefresco.toMillis(),
+                TimeUnit.MILLISECONDS);
+        tareas.scheduleWithFixedDelay(this::compactar, intervaloCompactacion.toMillis(),
+                intervaloCompactacion.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sin tareas en segundo plano: el refresco y la compactación se invocan explícitamente.
+     */
+    public RegistroRevocaciones(TokenRevocadoPersistencePort delegate, int capacidadEsperada,
+                                double probabilidadFalsoPositivo, Clock clock) {
+        this.delegate = delegate;
+        this.capacidadEsperada = capacidadEsperada;
+        this.probabilidadFalsoPositivo = probabilidadFalsoPositivo;
+        this.clock = clock;
+        this.estado = new Estado(new FiltroBloom(capacidadEsperada, probabilidadFalsoPositivo));
+        this.tareas = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("revocaciones-refresco").daemon().factory());
+        recargar();
+    }
+
+    public boolean estaRevocado(String jti) {
+        Estado actual = estado;
+        if (!actual.filtro.podriaContener(jti)) {
+            return false;
+        }
+        Instant expiraEn = actual.revocados.get(jti);
+        return expiraEn != null && expiraEn.isAfter(clock.instant());
+    }
+
+    @Override
+    public void guardar(TokenRevocado tokenRevocado) {
+        delegate.guardar(tokenRevocado);
+        estado.agregar(tokenRevocado.getJti(), tokenRevocado.getExpiraEn());
+    }
+
+    @Override
+    public List<TokenRevocado> buscarDesde(long idDesde, int limite) {
+        return delegate.buscarDesde(idDesde, limite);
+    }
+
+    @Override
+    public int eliminarExpirados(Instant ahora) {
+        return delegate.eliminarExpirados(ahora);
+    }
+
+    /**
+     * Incorpora las revocaciones creadas desde el último refresco.
+     */
+    public synchronized void refrescar() {
+        try {
+            ultimoId = Math.max(ultimoId, leerDesde(estado, Math.max(0, ultimoId - MARGEN_IDS)));
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron refrescar los tokens revocados: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Elimina las revocaciones expiradas y reconstruye el filtro y el conjunto exacto.
+     */
+    public synchronized void compactar() {
+        try {
+            int eliminadas = delegate.eliminarExpirados(clock.instant());
+            if (eliminadas > 0) {
+                log.info("Compactación de tokens revocados: {} revocaciones expiradas eliminadas", eliminadas);
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron eliminar las revocaciones expiradas: {}", e.getMessage());
+        }
+        recargar();
+    }
+
+    public int getCantidadRevocados() {
+        return estado.revocados.size();
+    }
+
+    private synchronized void recargar() {
+        try {
+            Estado nuevo = new Estado(new FiltroBloom(
+                    Math.max(capacidadEsperada, estado.revocados.size() * 2), probabilidadFalsoPositivo));
+            long id = leerDesde(nuevo, 0);
+            // Las revocaciones locales guardadas durante la lectura ya están en la tabla o llegan
+            // en el próximo refresco
+            estado = nuevo;
+            ultimoId = id;
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron cargar los tokens revocados: {}", e.getMessage());
+        }
+    }
+
+    private long leerDesde(Estado destino, long desde) {
+        Instant ahora = clock.instant();
+        long id = desde;
+        List<TokenRevocado> lote;
+        do {
+            lote = delegate.buscarDesde(id, TAMANO_LOTE);
+            for (TokenRevocado revocado : lote) {
+                if (revocado.getExpiraEn().isAfter(ahora)) {
+                    destino.agregar(revocado.getJti(), revocado.getExpiraEn());
+                }
+                id = Math.max(id, revocado.getId());
+            }
+        } while (lote.size() == TAMANO_LOTE);
+        return id;
+    }
+
+    @Override
+    public void close() {
+        tareas.shutdownNow();
+    }
+
+    private static final class Estado {
+        private final FiltroBloom filtro;
+        private final ConcurrentHashMap<String, Instant> revocados = new ConcurrentHashMap<>();
+
+        private Estado(FiltroBloom filtro) {
+            this.filtro = filtro;
+        }
+
+        /**
+         * Primero el conjunto exacto y luego el filtro: quien vea el bit encendido encuentra el jti.
+         */
+        private void agregar(String jti, Instant expiraEn) {
+            revocados.put(jti, expiraEn);
+            filtro.agregar(jti);
+        }
+    }
+}
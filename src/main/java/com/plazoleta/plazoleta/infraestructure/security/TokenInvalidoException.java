@@ -0,0 +1,18 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+/**
+ * El JWT no pudo verificarse: firma inválida, formato incorrecto, claims inválidos o token expirado.
+ */
+public class TokenInvalidoException extends RuntimeException {
+
+    private final boolean expirado;
+
+    public TokenInvalidoException(String message, boolean expirado, Throwable cause) {
+        super(message, cause);
+        this.expirado = expirado;
+    }
+
+    public boolean isExpirado() {
+        return expirado;
+    }
+}
@@ -0,0 +1,19 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import java.time.Instant;
+
+/**
+ * Datos del JWT necesarios para autenticar la petición, obtenidos tras verificar su firma.
+ *
+ * @param userId    valor del claim {@code sub}, o {@code null} si el token no lo trae
+ * @param role      valor del claim {@code role}, o {@code null} si el token no lo trae
+ * @param emitidoEn claim {@code iat}, o {@code null} si el token no lo trae
+ * @param expiraEn  claim {@code exp}, o {@code null} si el token no expira
+ * @param jti       claim {@code jti}, o {@code null} si el token no lo trae (no se puede revocar)
+ */
+public record TokenVerificado(Long userId, String role, Instant emitidoEn, Instant expiraEn, String jti) {
+
+    public TokenVerificado(Long userId, String role, Instant emitidoEn, Instant expiraEn) {
+        this(userId, role, emitidoEn, expiraEn, null);
+    }
+}
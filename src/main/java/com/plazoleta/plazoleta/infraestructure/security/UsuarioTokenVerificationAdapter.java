@@ -0,0 +1,88 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+import com.plazoleta.plazoleta.application.security.ICurrentUserProvider;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decorador de {@link UsuarioValidationPort} que evita la consulta remota del rol cuando el usuario
+ * consultado es el mismo usuario autenticado y su rol ya viene en el JWT verificado.
+ * <p>
+ * En modo {@link ModoVerificacionRol#HYBRID} se consulta el servicio remoto para una fracción
+ * muestreada de las peticiones y para los tokens emitidos hace más de la edad máxima configurada
+ * (o sin claim {@code iat}). Las consultas de otros usuarios se delegan siempre.
+ */
+public class UsuarioTokenVerificationAdapter implements UsuarioValidationPort {
+
+    private final UsuarioValidationPort delegate;
+    private final ICurrentUserProvider currentUserProvider;
+    private final ModoVerificacionRol modo;
+    private final double fraccionMuestreo;
+    private final Duration edadMaximaToken;
+    private final Clock clock;
+    private final DoubleSupplier aleatorio;
+
+    public UsuarioTokenVerificationAdapter(UsuarioValidationPort delegate,
+                                           ICurrentUserProvider currentUserProvider,
+                                           ModoVerificacionRol modo,
+                                           double fraccionMuestreo,
+                                           Duration edadMaximaToken) {
+        this(delegate, currentUserProvider, modo, fraccionMuestreo, edadMaximaToken,
+                Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public UsuarioTokenVerificationAdapter(UsuarioValidationPort delegate,
+                                           ICurrentUserProvider currentUserProvider,
+                                           ModoVerificacionRol modo,
+                                           double fraccionMuestreo,
+                                           Duration edadMaximaToken,
+                                           Clock clock,
+                                           DoubleSupplier aleatorio) {
+        this.delegate = delegate;
+        this.currentUserProvider = currentUserProvider;
+        this.modo = modo;
+        this.fraccionMuestreo = fraccionMuestreo;
+        this.edadMaximaToken = edadMaximaToken;
+        this.clock = clock;
+        this.aleatorio = aleatorio;
+    }
+
+    @Override
+    public UsuarioModelo getUserById(Long userId) {
+        if (modo == ModoVerificacionRol.REMOTE || userId == null) {
+            return delegate.getUserById(userId);
+        }
+
+        UsuarioAutenticado actual = currentUserProvider.getUsuarioActual();
+        if (actual == null || actual.rol() == null || actual.userId() != userId) {
+            return delegate.getUserById(userId);
+        }
+
+        if (modo == ModoVerificacionRol.HYBRID && requiereVerificacionRemota(actual.emitidoEn())) {
+            return delegate.getUserById(userId);
+        }
+
+        return new UsuarioModelo(userId, actual.rol().name());
+    }
+
+    @Override
+    public Map<Long, UsuarioModelo> getUsersByIds(Collection<Long> userIds) {
+        return delegate.getUsersByIds(userIds);
+    }
+
+    private boolean requiereVerificacionRemota(Instant emitidoEn) {
+        if (emitidoEn == null || emitidoEn.plus(edadMaximaToken).isBefore(clock.instant())) {
+            return true;
+        }
+        return aleatorio.getAsDouble() < fraccionMuestreo;
+    }
+}
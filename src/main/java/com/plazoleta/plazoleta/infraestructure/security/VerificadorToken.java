@@ -0,0 +1,12 @@
+package com.plazoleta.plazoleta.infraestructure.security;
+
+/**
+ * Verifica la firma y la vigencia de un JWT y extrae los claims que usa el servicio.
+ */
+public interface VerificadorToken {
+
+    /**
+     * @throws TokenInvalidoException si el token no es válido o está expirado
+     */
+    TokenVerificado verificar(String token);
+}
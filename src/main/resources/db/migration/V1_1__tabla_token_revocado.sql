@@ -0,0 +1,8 @@
+-- Revocaciones de tokens por jti. Va después de la línea base: las bases existentes se marcan en V1 sin
+-- ejecutarlo, y esta tabla no existía antes de las migraciones.
+CREATE TABLE token_revocado (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jti       VARCHAR(100)             NOT NULL,
+    expira_en TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_token_revocado_jti UNIQUE (jti)
+);
@@ -0,0 +1,24 @@
+-- Esquema existente antes de las migraciones (generado hasta ahora por Hibernate).
+-- En bases que ya lo tienen, Flyway lo toma como línea base (baseline-on-migrate) y no lo ejecuta.
+
+CREATE TABLE restaurante (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre         VARCHAR(100) NOT NULL,
+    direccion      VARCHAR(200) NOT NULL,
+    propietario_id BIGINT       NOT NULL,
+    telefono       VARCHAR(13)  NOT NULL,
+    url_logo       VARCHAR(500),
+    nit            VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_restaurante_nit UNIQUE (nit)
+);
+
+CREATE TABLE plato (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre         VARCHAR(100) NOT NULL,
+    precio         INTEGER      NOT NULL,
+    descripcion    VARCHAR(500) NOT NULL,
+    url_imagen     VARCHAR(255) NOT NULL,
+    categoria      VARCHAR(50)  NOT NULL,
+    activo         BOOLEAN      NOT NULL,
+    restaurante_id BIGINT       NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Menú por restaurante paginado por (categoria, id): el índice entrega las filas ya ordenadas y cada
+-- página continúa desde la última posición sin OFFSET.
+CREATE INDEX idx_plato_restaurante_categoria_id ON plato (restaurante_id, categoria, id);
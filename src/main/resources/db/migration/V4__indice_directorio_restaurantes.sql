@@ -0,0 +1,3 @@
+-- Directorio de restaurantes por (nombre, id): el índice incluye url_logo para que el listado se
+-- resuelva solo con el índice, sin leer direccion ni nit.
+CREATE INDEX idx_restaurante_nombre_id_logo ON restaurante (nombre, id, url_logo);
@@ -1,12 +1,22 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.ActualizarPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteResponseDto;
+import com.plazoleta.plazoleta.application.dto.ResultadoPlatoLoteDto;
 import com.plazoleta.plazoleta.application.mapper.PlatoApplicationMapper;
 import com.plazoleta.plazoleta.application.security.ICurrentUserProvider;
+import com.plazoleta.plazoleta.domain.api.AjustarPreciosServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoServicePort;
 import com.plazoleta.plazoleta.domain.api.PlatoUpdateServicePort;
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.ResultadoCreacionPlato;
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.TipoAjustePrecio;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +38,8 @@ class PlatoHandlerTest {
     @Mock
     private PlatoUpdateServicePort platoUpdateServicePort;
     @Mock
+    private AjustarPreciosServicePort ajustarPreciosServicePort;
+    @Mock
     private PlatoApplicationMapper mapper;
     @Mock
     private ICurrentUserProvider currentUserProvider;
@@ -54,7 +69,8 @@ class PlatoHandlerTest {
     @Test
     @DisplayName("createDish - Deberia delegar al servicio de dominio")
     void createDishShouldDelegateToServicePort() {
-        when(currentUserProvider.getCurrentUserId()).thenReturn(propietarioId);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(propietarioId, Rol.PROPIETARIO, null));
         when(mapper.toDomain(crearPlatoRequestDto)).thenReturn(platoValido);
         platoHandler.createDish(crearPlatoRequestDto);
         verify(mapper).toDomain(crearPlatoRequestDto);
@@ -65,9 +81,46 @@ class PlatoHandlerTest {
     @DisplayName("updateDish - Deberia delegar al servicio de dominio")
     void updateDishShouldDelegateToDomainService() {
         Long platoId = 10L;
-        when(currentUserProvider.getCurrentUserId()).thenReturn(propietarioId);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(propietarioId, Rol.PROPIETARIO, null));
         platoHandler.updateDish(platoId, actualizarPlatoRequestDto);
         verify(platoUpdateServicePort).updateDish(platoId, actualizarPlatoRequestDto.getPrecio(),
                 actualizarPlatoRequestDto.getDescripcion(), propietarioId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("createDishes - Deberia delegar el lote y contar creados y rechazados")
+    void createDishesShouldDelegateBatchAndCountResults() {
+        CrearPlatosLoteRequestDto lote = new CrearPlatosLoteRequestDto(List.of(crearPlatoRequestDto, crearPlatoRequestDto));
+        List<ResultadoCreacionPlato> resultados = List.of(
+                ResultadoCreacionPlato.creado(0, 5L),
+                ResultadoCreacionPlato.rechazado(1, "El precio debe ser mayor a cero"));
+        List<ResultadoPlatoLoteDto> resultadosDto = List.of(
+                new ResultadoPlatoLoteDto(0, true, 5L, null),
+                new ResultadoPlatoLoteDto(1, false, null, "El precio debe ser mayor a cero"));
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(propietarioId, Rol.PROPIETARIO, null));
+        when(mapper.toDomainList(lote.getPlatos())).thenReturn(List.of(platoValido, platoValido));
+        when(platoServicePort.crearPlatos(List.of(platoValido, platoValido), propietarioId)).thenReturn(resultados);
+        when(mapper.toDtoList(resultados)).thenReturn(resultadosDto);
+
+        CrearPlatosLoteResponseDto respuesta = platoHandler.createDishes(lote);
+
+        assertEquals(1, respuesta.getCreados());
+        assertEquals(1, respuesta.getRechazados());
+        assertEquals(resultadosDto, respuesta.getResultados());
+    }
+
+    @Test
+    @DisplayName("adjustPrices - Deberia delegar el ajuste y retornar los platos actualizados")
+    void adjustPricesShouldDelegateAndReturnAffectedRows() {
+        AjustarPreciosRequestDto dto = new AjustarPreciosRequestDto(10L, "PORCENTAJE", BigDecimal.TEN, null, null, null);
+        AjustePrecios ajuste = new AjustePrecios(10L, TipoAjustePrecio.PORCENTAJE, BigDecimal.TEN, null, null, null);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(propietarioId, Rol.PROPIETARIO, null));
+        when(mapper.toDomain(dto)).thenReturn(ajuste);
+        when(ajustarPreciosServicePort.ajustarPrecios(ajuste, propietarioId)).thenReturn(25);
+
+        assertEquals(25, platoHandler.adjustPrices(dto).getPlatosActualizados());
+    }
+}
@@ -1,9 +1,15 @@
 package com.plazoleta.plazoleta.application.handler;
 
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 import com.plazoleta.plazoleta.application.mapper.RestauranteApplicationMapper;
+import com.plazoleta.plazoleta.domain.api.ListarRestaurantesServicePort;
 import com.plazoleta.plazoleta.domain.api.RestauranteServicePort;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.Pagina;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -25,6 +36,9 @@ class RestauranteHandlerTest {
     @Mock
     private RestauranteServicePort servicePort;
 
+    @Mock
+    private ListarRestaurantesServicePort listarRestaurantesServicePort;
+
     @Mock
     private RestauranteApplicationMapper mapper;
 
@@ -89,4 +103,35 @@ class RestauranteHandlerTest {
         verify(mapper, times(1)).toDomain(requestDto);
         verify(servicePort, never()).crearRestaurante(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe mapear la página del directorio y codificar el cursor siguiente")
+    void shouldMapDirectoryPageAndEncodeNextCursor() {
+        List<RestauranteDirectorio> restaurantes = List.of(
+                new RestauranteDirectorio(3L, "La Arepa Feliz", "https://ejemplo.com/logo.png"));
+        List<RestauranteDirectorioResponseDto> dtos = List.of(
+                new RestauranteDirectorioResponseDto(3L, "La Arepa Feliz", "https://ejemplo.com/logo.png"));
+        CursorPagina siguiente = new CursorPagina("La Arepa Feliz", 3L);
+        when(listarRestaurantesServicePort.listarRestaurantes("abc", 1))
+                .thenReturn(new Pagina<>(restaurantes, siguiente));
+        when(mapper.toDirectorioResponseList(restaurantes)).thenReturn(dtos);
+
+        PaginaResponseDto<RestauranteDirectorioResponseDto> respuesta = handler.listRestaurantes("abc", 1);
+
+        assertSame(dtos, respuesta.getElementos());
+        assertEquals(siguiente.codificar(), respuesta.getSiguienteCursor());
+        assertTrue(respuesta.isHaySiguiente());
+    }
+
+    @Test
+    @DisplayName("Debe omitir el cursor cuando es la última página del directorio")
+    void shouldOmitCursorOnLastDirectoryPage() {
+        when(listarRestaurantesServicePort.listarRestaurantes(null, null)).thenReturn(new Pagina<>(List.of(), null));
+        when(mapper.toDirectorioResponseList(List.of())).thenReturn(List.of());
+
+        PaginaResponseDto<RestauranteDirectorioResponseDto> respuesta = handler.listRestaurantes(null, null);
+
+        assertNull(respuesta.getSiguienteCursor());
+        assertTrue(respuesta.getElementos().isEmpty());
+    }
+}
@@ -1,24 +1,26 @@
 package com.plazoleta.plazoleta.domain.usecase;
 
 import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.PlatoNoEncontradoException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
 import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
-import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
-import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
 import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,64 +34,40 @@ class ActualizarPlatoUseCaseTest {
     @Mock
     private UsuarioValidationPort userValidationPort;
 
-    @Mock
-    private RestauranteValidationPort restaurantValidationPort;
-
     private ActualizarPlatoUseCase updateDishUseCase;
 
     private Long propietarioId;
     private Long platoId;
-    private Plato platoExistente;
     private UsuarioModelo usuarioPropietario;
 
     @BeforeEach
     void setUp() {
-        updateDishUseCase = new ActualizarPlatoUseCase(dishPersistencePort, userValidationPort, restaurantValidationPort);
+        updateDishUseCase = new ActualizarPlatoUseCase(dishPersistencePort, userValidationPort);
 
         propietarioId = 1L;
         platoId = 10L;
 
         usuarioPropietario = new UsuarioModelo(propietarioId, "PROPIETARIO");
-
-        platoExistente = new Plato(
-                "Hamburguesa Especial",
-                25000,
-                "Carne artesanal",
-                "http://img.com/burger.png",
-                "COMIDA_RAPIDA",
-                99L
-        );
-        platoExistente.setId(platoId);
-        platoExistente.setActivo(true);
     }
 
     @Test
-    @DisplayName("Debería modificar precio y descripción y guardar el plato")
+    @DisplayName("Debería modificar precio y descripción con una sola actualización condicional")
     void shouldUpdateDishPriceAndDescription() {
         // Given
-        when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
-        when(dishPersistencePort.getById(platoId)).thenReturn(platoExistente);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(platoExistente.getRestauranteId(), propietarioId)).thenReturn(true);
-
         Integer nuevoPrecio = 18000;
         String nuevaDescripcion = "Hamburguesa artesanal con queso y tocineta";
+        when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
+        when(dishPersistencePort.actualizarPrecioYDescripcion(platoId, nuevoPrecio, nuevaDescripcion, propietarioId))
+                .thenReturn(1);
 
         // When
         updateDishUseCase.updateDish(platoId, nuevoPrecio, nuevaDescripcion, propietarioId);
 
         // Then
-        ArgumentCaptor<Plato> captor = ArgumentCaptor.forClass(Plato.class);
-        verify(dishPersistencePort).save(captor.capture());
-
-        Plato guardado = captor.getValue();
-        assertNotNull(guardado);
-        assertEquals(platoId, guardado.getId());
-        assertEquals(nuevoPrecio, guardado.getPrecio());
-        assertEquals(nuevaDescripcion, guardado.getDescripcion());
-        // No debe tocar nombre/restauranteId/activo
-        assertEquals("Hamburguesa Especial", guardado.getNombre());
-        assertEquals(99L, guardado.getRestauranteId());
-        assertEquals(true, guardado.getActivo());
+        verify(dishPersistencePort).actualizarPrecioYDescripcion(platoId, nuevoPrecio, nuevaDescripcion, propietarioId);
+        verify(dishPersistencePort, never()).verificarPropiedadPlato(any(), any());
+        verify(dishPersistencePort, never()).getById(any());
+        verify(dishPersistencePort, never()).save(any());
     }
 
     @Test
@@ -102,7 +80,7 @@ class ActualizarPlatoUseCaseTest {
                 () -> updateDishUseCase.updateDish(platoId, 18000, "desc", propietarioId));
 
         assertEquals("El usuario no existe", ex.getMessage());
-        verify(dishPersistencePort, never()).save(any());
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(anyLong(), anyInt(), anyString(), anyLong());
     }
 
     @Test
@@ -114,54 +92,55 @@ class ActualizarPlatoUseCaseTest {
                 () -> updateDishUseCase.updateDish(platoId, 18000, "desc", propietarioId));
 
         assertEquals("El usuario no tiene el rol de propietario", ex.getMessage());
-        verify(dishPersistencePort, never()).save(any());
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(anyLong(), anyInt(), anyString(), anyLong());
     }
 
     @Test
     @DisplayName("Debería aceptar rol propietario como '2'")
     void shouldAcceptOwnerRoleAs2() {
         when(userValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "2"));
-        when(dishPersistencePort.getById(platoId)).thenReturn(platoExistente);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(platoExistente.getRestauranteId(), propietarioId)).thenReturn(true);
+        when(dishPersistencePort.actualizarPrecioYDescripcion(platoId, 18000, "Nueva desc", propietarioId))
+                .thenReturn(1);
 
         updateDishUseCase.updateDish(platoId, 18000, "Nueva desc", propietarioId);
 
-        verify(dishPersistencePort).save(any(Plato.class));
+        verify(dishPersistencePort).actualizarPrecioYDescripcion(platoId, 18000, "Nueva desc", propietarioId);
     }
 
     @Test
     @DisplayName("Debería lanzar excepción si el plato no existe")
     void shouldThrowIfDishDoesNotExist() {
         when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
-        when(dishPersistencePort.getById(platoId)).thenReturn(null);
+        when(dishPersistencePort.actualizarPrecioYDescripcion(platoId, 18000, "desc", propietarioId)).thenReturn(0);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.NO_EXISTE);
 
-        DominioException ex = assertThrows(DominioException.class,
+        PlatoNoEncontradoException ex = assertThrows(PlatoNoEncontradoException.class,
                 () -> updateDishUseCase.updateDish(platoId, 18000, "desc", propietarioId));
 
         assertEquals("El plato no existe", ex.getMessage());
-        verify(dishPersistencePort, never()).save(any());
     }
 
     @Test
     @DisplayName("Debería lanzar excepción si el restaurante no pertenece al propietario")
     void shouldThrowIfRestaurantNotBelongsToOwner() {
         when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
-        when(dishPersistencePort.getById(platoId)).thenReturn(platoExistente);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(platoExistente.getRestauranteId(), propietarioId)).thenReturn(false);
+        when(dishPersistencePort.actualizarPrecioYDescripcion(platoId, 18000, "desc", propietarioId)).thenReturn(0);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.AJENO);
 
-        DominioException ex = assertThrows(DominioException.class,
+        RestauranteNoPerteneceException ex = assertThrows(RestauranteNoPerteneceException.class,
                 () -> updateDishUseCase.updateDish(platoId, 18000, "desc", propietarioId));
 
         assertEquals("El restaurante no pertenece al propietario", ex.getMessage());
-        verify(dishPersistencePort, never()).save(any());
     }
 
     @Test
     @DisplayName("Debería lanzar excepción si el precio es nulo o <= 0")
     void shouldThrowIfPriceInvalid() {
         when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
-        when(dishPersistencePort.getById(platoId)).thenReturn(platoExistente);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(platoExistente.getRestauranteId(), propietarioId)).thenReturn(true);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         DominioException ex1 = assertThrows(DominioException.class,
                 () -> updateDishUseCase.updateDish(platoId, null, "desc", propietarioId));
@@ -171,15 +150,15 @@ class ActualizarPlatoUseCaseTest {
                 () -> updateDishUseCase.updateDish(platoId, 0, "desc", propietarioId));
         assertEquals("El precio debe ser mayor a cero", ex2.getMessage());
 
-        verify(dishPersistencePort, never()).save(any());
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("Debería lanzar excepción si la descripción es nula o vacía")
     void shouldThrowIfDescriptionInvalid() {
         when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
-        when(dishPersistencePort.getById(platoId)).thenReturn(platoExistente);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(platoExistente.getRestauranteId(), propietarioId)).thenReturn(true);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         DominioException ex1 = assertThrows(DominioException.class,
                 () -> updateDishUseCase.updateDish(platoId, 18000, null, propietarioId));
@@ -189,6 +168,30 @@ class ActualizarPlatoUseCaseTest {
                 () -> updateDishUseCase.updateDish(platoId, 18000, "   ", propietarioId));
         assertEquals("La descripción del plato es obligatoria", ex2.getMessage());
 
-        verify(dishPersistencePort, never()).save(any());
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debería responder 403 antes que 400 si el plato es de otro propietario y el precio es inválido")
+    void shouldReportOwnershipBeforeInvalidPrice() {
+        when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.AJENO);
+
+        assertThrows(RestauranteNoPerteneceException.class,
+                () -> updateDishUseCase.updateDish(platoId, -5, "desc", propietarioId));
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debería responder 404 antes que 400 si el plato no existe y la descripción es inválida")
+    void shouldReportMissingDishBeforeInvalidDescription() {
+        when(userValidationPort.getUserById(propietarioId)).thenReturn(usuarioPropietario);
+        when(dishPersistencePort.verificarPropiedadPlato(platoId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.NO_EXISTE);
+
+        assertThrows(PlatoNoEncontradoException.class,
+                () -> updateDishUseCase.updateDish(platoId, 18000, " ", propietarioId));
+        verify(dishPersistencePort, never()).actualizarPrecioYDescripcion(any(), any(), any(), any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
+import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
+import com.plazoleta.plazoleta.domain.model.TipoAjustePrecio;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
+import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AjustarPreciosPlatosUseCaseTest {
+
+    @Mock
+    private PlatoPersistencePort platoPersistencePort;
+
+    @Mock
+    private UsuarioValidationPort usuarioValidationPort;
+
+    @Mock
+    private RestauranteValidationPort restauranteValidationPort;
+
+    private AjustarPreciosPlatosUseCase useCase;
+
+    private final Long propietarioId = 1L;
+    private final Long restauranteId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AjustarPreciosPlatosUseCase(platoPersistencePort, usuarioValidationPort, restauranteValidationPort);
+    }
+
+    private AjustePrecios ajuste(TipoAjustePrecio tipo, String valor) {
+        return new AjustePrecios(restauranteId, tipo, valor != null ? new BigDecimal(valor) : null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Debería aplicar el ajuste y retornar los platos actualizados")
+    void shouldApplyAdjustmentAndReturnAffectedRows() {
+        AjustePrecios ajuste = ajuste(TipoAjustePrecio.PORCENTAJE, "12.5");
+        when(usuarioValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "PROPIETARIO"));
+        when(restauranteValidationPort.verificarPropiedad(restauranteId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+        when(platoPersistencePort.ajustarPrecios(ajuste)).thenReturn(42);
+
+        assertEquals(42, useCase.ajustarPrecios(ajuste, propietarioId));
+    }
+
+    @Test
+    @DisplayName("Debería calcular el factor del porcentaje y el incremento del valor fijo")
+    void shouldComputeFactorAndIncrement() {
+        AjustePrecios porcentaje = ajuste(TipoAjustePrecio.PORCENTAJE, "-10");
+        AjustePrecios valor = ajuste(TipoAjustePrecio.VALOR, "1500");
+
+        assertEquals(0, new BigDecimal("0.9").compareTo(porcentaje.getFactor()));
+        assertEquals(0, porcentaje.getIncremento());
+        assertEquals(BigDecimal.ONE, valor.getFactor());
+        assertEquals(1500, valor.getIncremento());
+    }
+
+    @Test
+    @DisplayName("Debería tratar una categoría vacía como sin filtro")
+    void shouldTreatBlankCategoryAsNoFilter() {
+        AjustePrecios ajuste = ajuste(TipoAjustePrecio.VALOR, "500");
+        ajuste.setCategoria("  ");
+        when(usuarioValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "PROPIETARIO"));
+        when(restauranteValidationPort.verificarPropiedad(restauranteId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+
+        useCase.ajustarPrecios(ajuste, propietarioId);
+
+        assertNull(ajuste.getCategoria());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción si el usuario no es propietario")
+    void shouldThrowIfUserIsNotOwner() {
+        when(usuarioValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "CLIENTE"));
+
+        AjustePrecios ajuste = ajuste(TipoAjustePrecio.VALOR, "500");
+        assertThrows(RolNoAutorizadoException.class, () -> useCase.ajustarPrecios(ajuste, propietarioId));
+        verify(platoPersistencePort, never()).ajustarPrecios(any());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción si el restaurante no existe o no es del propietario")
+    void shouldThrowIfRestaurantMissingOrForeign() {
+        AjustePrecios ajuste = ajuste(TipoAjustePrecio.VALOR, "500");
+        when(usuarioValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "PROPIETARIO"));
+        when(restauranteValidationPort.verificarPropiedad(restauranteId, propietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.NO_EXISTE, EstadoPropiedadRestaurante.AJENO);
+
+        assertThrows(RestauranteNoEncontradoException.class, () -> useCase.ajustarPrecios(ajuste, propietarioId));
+        assertThrows(RestauranteNoPerteneceException.class, () -> useCase.ajustarPrecios(ajuste, propietarioId));
+        verify(platoPersistencePort, never()).ajustarPrecios(any());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar ajustes inválidos sin consultar el restaurante")
+    void shouldRejectInvalidAdjustments() {
+        when(usuarioValidationPort.getUserById(propietarioId)).thenReturn(new UsuarioModelo(propietarioId, "PROPIETARIO"));
+
+        assertMensaje("El tipo de ajuste debe ser PORCENTAJE o VALOR", ajuste(null, "10"));
+        assertMensaje("El valor del ajuste debe ser distinto de cero", ajuste(TipoAjustePrecio.VALOR, null));
+        assertMensaje("El valor del ajuste debe ser distinto de cero", ajuste(TipoAjustePrecio.PORCENTAJE, "0"));
+        assertMensaje("El porcentaje debe ser mayor a -100 y máximo 1000", ajuste(TipoAjustePrecio.PORCENTAJE, "-100"));
+        assertMensaje("El valor fijo del ajuste debe ser un número entero", ajuste(TipoAjustePrecio.VALOR, "10.5"));
+
+        AjustePrecios rangoInvertido = ajuste(TipoAjustePrecio.VALOR, "500");
+        rangoInvertido.setPrecioMinimo(20000);
+        rangoInvertido.setPrecioMaximo(10000);
+        assertMensaje("El precio mínimo no puede ser mayor al precio máximo", rangoInvertido);
+
+        verify(restauranteValidationPort, never()).verificarPropiedad(any(), any());
+        verify(platoPersistencePort, never()).ajustarPrecios(any());
+    }
+
+    private void assertMensaje(String mensaje, AjustePrecios ajuste) {
+        DominioException ex = assertThrows(DominioException.class, () -> useCase.ajustarPrecios(ajuste, propietarioId));
+        assertEquals(mensaje, ex.getMessage());
+    }
+}
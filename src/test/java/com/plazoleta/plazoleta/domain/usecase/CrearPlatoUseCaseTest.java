@@ -2,7 +2,9 @@ package com.plazoleta.plazoleta.domain.usecase;
 
 import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.ResultadoCreacionPlato;
 import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
 import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
 import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
@@ -14,11 +16,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -70,9 +82,8 @@ class CrearPlatoUseCaseTest {
     void shouldCreateDishSuccessfully() {
         // Given
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(true);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         // When
         createDishUseCase.crearPlato(validDish, validPropietarioId);
@@ -124,7 +135,8 @@ class CrearPlatoUseCaseTest {
     void shouldThrowExceptionWhenRestaurantDoesNotExist() {
         // Given
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(false);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.NO_EXISTE);
 
         // When & Then
         DominioException exception = assertThrows(DominioException.class, () -> {
@@ -140,9 +152,8 @@ class CrearPlatoUseCaseTest {
     void shouldThrowExceptionWhenRestaurantDoesNotBelongToOwner() {
         // Given
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(false);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.AJENO);
 
         // When & Then
         DominioException exception = assertThrows(DominioException.class, () -> {
@@ -159,9 +170,8 @@ class CrearPlatoUseCaseTest {
         // Given
         validDish.setPrecio(0);
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(true);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         // When & Then
         DominioException exception = assertThrows(DominioException.class, () -> {
@@ -178,9 +188,8 @@ class CrearPlatoUseCaseTest {
         // Given
         validDish.setPrecio(-5000);
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(true);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         // When & Then
         DominioException exception = assertThrows(DominioException.class, () -> {
@@ -272,9 +281,8 @@ class CrearPlatoUseCaseTest {
         // Given
         validDish.setActivo(null);
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(true);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         // When
         createDishUseCase.crearPlato(validDish, validPropietarioId);
@@ -296,9 +304,8 @@ class CrearPlatoUseCaseTest {
         ownerLowerCase.setRole("propietario");
 
         when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerLowerCase);
-        when(restaurantValidationPort.restauranteExiste(validDish.getRestauranteId())).thenReturn(true);
-        when(restaurantValidationPort.restaurantePerteneceAPropietario(validDish.getRestauranteId(), validPropietarioId))
-                .thenReturn(true);
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
 
         // When
         createDishUseCase.crearPlato(validDish, validPropietarioId);
@@ -306,4 +313,221 @@ class CrearPlatoUseCaseTest {
         // Then
         verify(dishPersistencePort).save(any(Plato.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debería validar el restaurante en paralelo con la consulta del usuario")
+    void shouldValidateRestaurantConcurrentlyWithUserLookup() throws Exception {
+        // Given
+        CountDownLatch consultaUsuarioIniciada = new CountDownLatch(1);
+        AtomicReference<Thread> hiloRestaurante = new AtomicReference<>();
+        when(userValidationPort.getUserById(validPropietarioId)).thenAnswer(invocation -> {
+            consultaUsuarioIniciada.countDown();
+            return ownerUser;
+        });
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenAnswer(invocation -> {
+                    hiloRestaurante.set(Thread.currentThread());
+                    return consultaUsuarioIniciada.await(5, TimeUnit.SECONDS)
+                            ? EstadoPropiedadRestaurante.PROPIO
+                            : EstadoPropiedadRestaurante.NO_EXISTE;
+                });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CrearPlatoUseCase paralelo = new CrearPlatoUseCase(
+                    dishPersistencePort, userValidationPort, restaurantValidationPort, executor);
+
+            // When
+            paralelo.crearPlato(validDish, validPropietarioId);
+        }
+
+        // Then
+        verify(dishPersistencePort).save(any(Plato.class));
+        assertTrue(hiloRestaurante.get() != Thread.currentThread(),
+                "La validación del restaurante debe ejecutarse fuera del hilo de la petición");
+    }
+
+    @Test
+    @DisplayName("Debería priorizar el error del usuario sobre el del restaurante en modo paralelo")
+    void shouldPreferUserErrorOverRestaurantErrorWhenParallel() {
+        // Given
+        when(userValidationPort.getUserById(validPropietarioId))
+                .thenThrow(new UsuarioNoEncontradoException("El usuario no existe"));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CrearPlatoUseCase paralelo = new CrearPlatoUseCase(
+                    dishPersistencePort, userValidationPort, restaurantValidationPort, executor);
+
+            // When & Then
+            UsuarioNoEncontradoException exception = assertThrows(UsuarioNoEncontradoException.class, () ->
+                    paralelo.crearPlato(validDish, validPropietarioId));
+            assertEquals("El usuario no existe", exception.getMessage());
+        }
+        verify(dishPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("No debería interrumpir la validación del restaurante en curso cuando falla la del usuario")
+    void shouldNotInterruptRestaurantCheckWhenUserCheckFails() throws InterruptedException {
+        // Given
+        CountDownLatch consultaRestauranteIniciada = new CountDownLatch(1);
+        CountDownLatch liberarConsulta = new CountDownLatch(1);
+        CountDownLatch consultaRestauranteTerminada = new CountDownLatch(1);
+        AtomicReference<Boolean> interrumpida = new AtomicReference<>();
+        when(userValidationPort.getUserById(validPropietarioId)).thenAnswer(invocation -> {
+            consultaRestauranteIniciada.await(5, TimeUnit.SECONDS);
+            throw new UsuarioNoEncontradoException("El usuario no existe");
+        });
+        when(restaurantValidationPort.verificarPropiedad(validDish.getRestauranteId(), validPropietarioId))
+                .thenAnswer(invocation -> {
+                    consultaRestauranteIniciada.countDown();
+                    try {
+                        liberarConsulta.await(5, TimeUnit.SECONDS);
+                        interrumpida.set(false);
+                    } catch (InterruptedException e) {
+                        interrumpida.set(true);
+                    } finally {
+                        consultaRestauranteTerminada.countDown();
+                    }
+                    return EstadoPropiedadRestaurante.PROPIO;
+                });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CrearPlatoUseCase paralelo = new CrearPlatoUseCase(
+                    dishPersistencePort, userValidationPort, restaurantValidationPort, executor);
+
+            // When
+            assertThrows(UsuarioNoEncontradoException.class, () ->
+                    paralelo.crearPlato(validDish, validPropietarioId));
+            liberarConsulta.countDown();
+
+            // Then
+            assertTrue(consultaRestauranteTerminada.await(5, TimeUnit.SECONDS));
+        }
+        assertEquals(Boolean.FALSE, interrumpida.get());
+        verify(dishPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Lote - Debería verificar cada restaurante una sola vez y guardar los platos válidos juntos")
+    void shouldCheckEachRestaurantOnceAndSaveValidDishesTogether() {
+        // Given
+        Plato segundo = new Plato("Papas", 8000, "Papas a la francesa", "http://img.com/papas.png",
+                "ACOMPAÑANTES", 10L);
+        Plato tercero = new Plato("Pizza", 30000, "Pizza napolitana", "http://img.com/pizza.png",
+                "PIZZA", 20L);
+        when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
+        when(restaurantValidationPort.verificarPropiedad(10L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+        when(restaurantValidationPort.verificarPropiedad(20L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+        when(dishPersistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Plato> platos = invocation.getArgument(0);
+            for (int i = 0; i < platos.size(); i++) {
+                platos.get(i).setId(100L + i);
+            }
+            return platos;
+        });
+
+        // When
+        List<ResultadoCreacionPlato> resultados = createDishUseCase.crearPlatos(
+                List.of(validDish, segundo, tercero), validPropietarioId);
+
+        // Then
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.stream().allMatch(ResultadoCreacionPlato::isCreado));
+        assertEquals(List.of(100L, 101L, 102L), resultados.stream().map(ResultadoCreacionPlato::platoId).toList());
+        verify(userValidationPort, times(1)).getUserById(validPropietarioId);
+        verify(restaurantValidationPort, times(1)).verificarPropiedad(10L, validPropietarioId);
+        verify(restaurantValidationPort, times(1)).verificarPropiedad(20L, validPropietarioId);
+        verify(dishPersistencePort, times(1)).saveAll(anyList());
+        verify(dishPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Lote - Debería rechazar los platos inválidos o ajenos sin impedir los demás")
+    void shouldRejectInvalidDishesAndCreateTheRest() {
+        // Given
+        Plato sinPrecio = new Plato("Gaseosa", 0, "Gaseosa 400ml", "http://img.com/gaseosa.png",
+                "BEBIDAS", 10L);
+        Plato ajeno = new Plato("Pizza", 30000, "Pizza napolitana", "http://img.com/pizza.png",
+                "PIZZA", 20L);
+        Plato sinRestaurante = new Plato("Sushi", 40000, "Rollo de salmón", "http://img.com/sushi.png",
+                "JAPONESA", 30L);
+        when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
+        when(restaurantValidationPort.verificarPropiedad(10L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+        when(restaurantValidationPort.verificarPropiedad(20L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.AJENO);
+        when(restaurantValidationPort.verificarPropiedad(30L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.NO_EXISTE);
+        when(dishPersistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Plato> platos = invocation.getArgument(0);
+            platos.get(0).setId(7L);
+            return platos;
+        });
+
+        // When
+        List<ResultadoCreacionPlato> resultados = createDishUseCase.crearPlatos(
+                Arrays.asList(sinPrecio, validDish, null, ajeno, sinRestaurante), validPropietarioId);
+
+        // Then
+        assertEquals("El precio debe ser mayor a cero", resultados.get(0).error());
+        assertEquals(7L, resultados.get(1).platoId());
+        assertEquals("El plato es obligatorio", resultados.get(2).error());
+        assertEquals("El restaurante no pertenece al propietario", resultados.get(3).error());
+        assertEquals("El restaurante especificado no existe", resultados.get(4).error());
+
+        ArgumentCaptor<List<Plato>> captor = ArgumentCaptor.captor();
+        verify(dishPersistencePort).saveAll(captor.capture());
+        assertEquals(List.of(validDish), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Lote - No debería guardar nada cuando ningún plato es válido")
+    void shouldNotSaveWhenNoDishIsValid() {
+        // Given
+        validDish.setNombre("");
+        when(userValidationPort.getUserById(validPropietarioId)).thenReturn(ownerUser);
+        when(restaurantValidationPort.verificarPropiedad(10L, validPropietarioId))
+                .thenReturn(EstadoPropiedadRestaurante.PROPIO);
+
+        // When
+        List<ResultadoCreacionPlato> resultados = createDishUseCase.crearPlatos(
+                List.of(validDish), validPropietarioId);
+
+        // Then
+        assertEquals("El nombre del plato es obligatorio", resultados.get(0).error());
+        verify(dishPersistencePort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Lote - Debería rechazar el lote completo cuando el usuario no es propietario")
+    void shouldRejectWholeBatchWhenUserIsNotOwner() {
+        // Given
+        UsuarioModelo clientUser = new UsuarioModelo();
+        clientUser.setId(validPropietarioId);
+        clientUser.setRole("CLIENTE");
+        when(userValidationPort.getUserById(validPropietarioId)).thenReturn(clientUser);
+
+        // When & Then
+        List<Plato> lote = List.of(validDish);
+        DominioException exception = assertThrows(DominioException.class, () ->
+                createDishUseCase.crearPlatos(lote, validPropietarioId));
+
+        assertEquals("El usuario no tiene el rol de propietario", exception.getMessage());
+        verify(dishPersistencePort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Lote - Debería rechazar un lote vacío o mayor al máximo permitido")
+    void shouldRejectEmptyOrOversizedBatch() {
+        List<Plato> vacio = List.of();
+        List<Plato> grande = Collections.nCopies(CrearPlatoUseCase.TAMANO_MAXIMO_LOTE + 1, validDish);
+
+        assertEquals("El lote debe contener al menos un plato", assertThrows(DominioException.class, () ->
+                createDishUseCase.crearPlatos(vacio, validPropietarioId)).getMessage());
+        assertEquals("El lote admite máximo 500 platos", assertThrows(DominioException.class, () ->
+                createDishUseCase.crearPlatos(grande, validPropietarioId)).getMessage());
+        verify(userValidationPort, never()).getUserById(any());
+    }
+}
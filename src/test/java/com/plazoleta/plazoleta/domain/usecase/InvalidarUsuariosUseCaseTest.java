@@ -0,0 +1,56 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.spi.UsuarioCacheInvalidationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidarUsuariosUseCaseTest {
+
+    @Mock
+    private UsuarioCacheInvalidationPort invalidationPort;
+
+    private InvalidarUsuariosUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new InvalidarUsuariosUseCase(invalidationPort);
+    }
+
+    @Test
+    @DisplayName("Debería invalidar los usuarios sin duplicados ni nulos")
+    void shouldInvalidateDistinctNonNullIds() {
+        useCase.invalidarUsuarios(Arrays.asList(1L, null, 2L, 1L));
+
+        verify(invalidationPort).invalidarUsuarios(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando no se indican usuarios")
+    void shouldThrowWhenNoIds() {
+        DominioException ex = assertThrows(DominioException.class, () -> useCase.invalidarUsuarios(List.of()));
+
+        assertEquals("Debe indicar al menos un usuario a invalidar", ex.getMessage());
+        verifyNoInteractions(invalidationPort);
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando la lista de usuarios es nula")
+    void shouldThrowWhenIdsAreNull() {
+        assertThrows(DominioException.class, () -> useCase.invalidarUsuarios(null));
+
+        verifyNoInteractions(invalidationPort);
+    }
+}
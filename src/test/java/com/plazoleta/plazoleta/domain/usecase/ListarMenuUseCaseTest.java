@@ -0,0 +1,122 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+import com.plazoleta.plazoleta.domain.spi.PlatoPersistencePort;
+import com.plazoleta.plazoleta.domain.spi.RestauranteValidationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListarMenuUseCaseTest {
+
+    @Mock
+    private PlatoPersistencePort platoPersistencePort;
+
+    @Mock
+    private RestauranteValidationPort restauranteValidationPort;
+
+    private ListarMenuUseCase useCase;
+
+    private final Long restauranteId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListarMenuUseCase(platoPersistencePort, restauranteValidationPort);
+    }
+
+    private static List<PlatoMenu> platos(int cantidad) {
+        List<PlatoMenu> platos = new ArrayList<>();
+        for (int i = 1; i <= cantidad; i++) {
+            platos.add(new PlatoMenu((long) i, "Plato " + i, 10000, "Descripción", "http://img.com/p.png",
+                    i <= 2 ? "BEBIDAS" : "PIZZA", true));
+        }
+        return platos;
+    }
+
+    @Test
+    @DisplayName("Debería pedir una fila extra y devolver el cursor de la última fila de la página")
+    void shouldReturnNextCursorWhenThereAreMoreRows() {
+        when(restauranteValidationPort.existe(restauranteId)).thenReturn(true);
+        when(platoPersistencePort.listarMenu(restauranteId, null, null, null, 4)).thenReturn(platos(4));
+
+        Pagina<PlatoMenu> pagina = useCase.listarMenu(restauranteId, null, null, null, 3);
+
+        assertEquals(3, pagina.elementos().size());
+        assertTrue(pagina.haySiguiente());
+        assertEquals(new CursorPagina("PIZZA", 3L), pagina.siguiente());
+    }
+
+    @Test
+    @DisplayName("Debería indicar que no hay página siguiente cuando no sobra ninguna fila")
+    void shouldReturnLastPageWithoutCursor() {
+        when(restauranteValidationPort.existe(restauranteId)).thenReturn(true);
+        when(platoPersistencePort.listarMenu(restauranteId, "PIZZA", true, null, 21)).thenReturn(platos(2));
+
+        Pagina<PlatoMenu> pagina = useCase.listarMenu(restauranteId, " PIZZA ", true, null, null);
+
+        assertEquals(2, pagina.elementos().size());
+        assertFalse(pagina.haySiguiente());
+        assertNull(pagina.siguiente());
+    }
+
+    @Test
+    @DisplayName("Debería continuar desde la posición del cursor recibido")
+    void shouldContinueFromCursor() {
+        CursorPagina cursor = new CursorPagina("BEBIDAS", 2L);
+        when(restauranteValidationPort.existe(restauranteId)).thenReturn(true);
+        when(platoPersistencePort.listarMenu(restauranteId, null, null, cursor, 11)).thenReturn(List.of());
+
+        useCase.listarMenu(restauranteId, null, null, cursor.codificar(), 10);
+
+        verify(platoPersistencePort).listarMenu(restauranteId, null, null, cursor, 11);
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción si el restaurante no existe")
+    void shouldThrowWhenRestaurantDoesNotExist() {
+        when(restauranteValidationPort.existe(restauranteId)).thenReturn(false);
+
+        assertThrows(RestauranteNoEncontradoException.class,
+                () -> useCase.listarMenu(restauranteId, null, null, null, null));
+        verify(platoPersistencePort, never()).listarMenu(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tamaños de página fuera de rango y cursores inválidos")
+    void shouldRejectInvalidPageSizeAndCursor() {
+        assertThrows(DominioException.class, () -> useCase.listarMenu(restauranteId, null, null, null, 0));
+        assertThrows(DominioException.class, () -> useCase.listarMenu(restauranteId, null, null, null, 101));
+        DominioException ex = assertThrows(DominioException.class,
+                () -> useCase.listarMenu(restauranteId, null, null, "no-es-un-cursor", 10));
+        assertEquals("El cursor de paginación no es válido", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debería codificar y decodificar el cursor conservando clave e id")
+    void shouldRoundTripCursor() {
+        CursorPagina cursor = new CursorPagina("Comida rápida\ncon salto", 123456789L);
+
+        assertEquals(cursor, CursorPagina.decodificar(cursor.codificar()));
+        assertNull(CursorPagina.decodificar(" "));
+    }
+}
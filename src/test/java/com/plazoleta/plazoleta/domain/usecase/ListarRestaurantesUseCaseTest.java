@@ -0,0 +1,92 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.Pagina;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+import com.plazoleta.plazoleta.domain.spi.RestaurantePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListarRestaurantesUseCaseTest {
+
+    @Mock
+    private RestaurantePersistencePort restaurantePersistencePort;
+
+    private ListarRestaurantesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListarRestaurantesUseCase(restaurantePersistencePort);
+    }
+
+    private static List<RestauranteDirectorio> restaurantes(int cantidad) {
+        List<RestauranteDirectorio> restaurantes = new ArrayList<>();
+        for (int i = 1; i <= cantidad; i++) {
+            restaurantes.add(new RestauranteDirectorio((long) i, "Restaurante " + i, "http://img.com/logo.png"));
+        }
+        return restaurantes;
+    }
+
+    @Test
+    @DisplayName("Debería pedir una fila extra y devolver el cursor del último restaurante de la página")
+    void shouldReturnNextCursorWhenThereAreMoreRows() {
+        when(restaurantePersistencePort.listarDirectorio(null, 3)).thenReturn(restaurantes(3));
+
+        Pagina<RestauranteDirectorio> pagina = useCase.listarRestaurantes(null, 2);
+
+        assertEquals(2, pagina.elementos().size());
+        assertTrue(pagina.haySiguiente());
+        assertEquals(new CursorPagina("Restaurante 2", 2L), pagina.siguiente());
+    }
+
+    @Test
+    @DisplayName("Debería usar el tamaño por defecto e indicar que no hay página siguiente")
+    void shouldUseDefaultSizeAndReturnLastPage() {
+        when(restaurantePersistencePort.listarDirectorio(null, 21)).thenReturn(restaurantes(5));
+
+        Pagina<RestauranteDirectorio> pagina = useCase.listarRestaurantes(null, null);
+
+        assertEquals(5, pagina.elementos().size());
+        assertFalse(pagina.haySiguiente());
+        assertNull(pagina.siguiente());
+    }
+
+    @Test
+    @DisplayName("Debería continuar desde la posición del cursor recibido")
+    void shouldContinueFromCursor() {
+        CursorPagina cursor = new CursorPagina("La Esquina", 8L);
+        when(restaurantePersistencePort.listarDirectorio(cursor, 11)).thenReturn(List.of());
+
+        Pagina<RestauranteDirectorio> pagina = useCase.listarRestaurantes(cursor.codificar(), 10);
+
+        assertTrue(pagina.elementos().isEmpty());
+        assertFalse(pagina.haySiguiente());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tamaños de página fuera de rango y cursores inválidos")
+    void shouldRejectInvalidPageSizeAndCursor() {
+        assertThrows(DominioException.class, () -> useCase.listarRestaurantes(null, 0));
+        assertThrows(DominioException.class, () -> useCase.listarRestaurantes(null, 101));
+        assertThrows(DominioException.class, () -> useCase.listarRestaurantes("no-es-un-cursor", 10));
+        verify(restaurantePersistencePort, never()).listarDirectorio(any(), anyInt());
+    }
+}
@@ -0,0 +1,84 @@
+package com.plazoleta.plazoleta.domain.usecase;
+
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RevocarTokenUseCaseTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private TokenRevocadoPersistencePort tokenRevocadoPersistencePort;
+
+    private RevocarTokenUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RevocarTokenUseCase(tokenRevocadoPersistencePort, Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Debería guardar la revocación de un token vigente")
+    void shouldSaveRevocation() {
+        Instant expiraEn = AHORA.plusSeconds(3600);
+
+        useCase.revocarToken("jti-1", expiraEn);
+
+        verify(tokenRevocadoPersistencePort).guardar(argThat((TokenRevocado revocado) ->
+                revocado.getId() == null && "jti-1".equals(revocado.getJti()) && expiraEn.equals(revocado.getExpiraEn())));
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando no se indica el jti")
+    void shouldThrowWhenJtiIsBlank() {
+        DominioException ex = assertThrows(DominioException.class,
+                () -> useCase.revocarToken(" ", AHORA.plusSeconds(60)));
+
+        assertEquals("El identificador (jti) del token es obligatorio", ex.getMessage());
+        verifyNoInteractions(tokenRevocadoPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando el jti supera 100 caracteres")
+    void shouldThrowWhenJtiTooLong() {
+        DominioException ex = assertThrows(DominioException.class,
+                () -> useCase.revocarToken("x".repeat(101), AHORA.plusSeconds(60)));
+
+        assertEquals("El identificador (jti) del token debe tener máximo 100 caracteres", ex.getMessage());
+        verifyNoInteractions(tokenRevocadoPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando no se indica la expiración")
+    void shouldThrowWhenExpirationIsNull() {
+        DominioException ex = assertThrows(DominioException.class, () -> useCase.revocarToken("jti-1", null));
+
+        assertEquals("La fecha de expiración del token es obligatoria", ex.getMessage());
+        verifyNoInteractions(tokenRevocadoPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando el token ya expiró")
+    void shouldThrowWhenTokenAlreadyExpired() {
+        DominioException ex = assertThrows(DominioException.class, () -> useCase.revocarToken("jti-1", AHORA));
+
+        assertEquals("El token ya expiró; no es necesario revocarlo", ex.getMessage());
+        verifyNoInteractions(tokenRevocadoPersistencePort);
+    }
+}
@@ -6,6 +6,7 @@ import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException
 import com.plazoleta.plazoleta.domain.exception.RestauranteNoPerteneceException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
 import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioSaturadoException;
 import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
 import com.plazoleta.plazoleta.infraestructure.exceptionhandler.GlobalExceptionHandler;
 import com.plazoleta.plazoleta.infraestructure.exceptionhandler.dto.ErrorResponseDto;
@@ -91,6 +92,17 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError()).isEqualTo("Bad Gateway");
     }
 
+    @Test
+    @DisplayName("Debe retornar 503 para ServicioUsuarioSaturadoException")
+    void shouldHandleServicioUsuarioSaturado() {
+        ResponseEntity<ErrorResponseDto> response = handler.handleServicioUsuarioSaturado(
+                new ServicioUsuarioSaturadoException("Servicio saturado"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+        assertThat(response.getBody().getError()).isEqualTo("Service Unavailable");
+    }
+
     @Test
     @DisplayName("Debe retornar 400 para DominioException")
     void shouldHandleDominioException() {
@@ -0,0 +1,41 @@
+package com.plazoleta.plazoleta.infrastructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.ReconstruccionIndiceResponseDto;
+import com.plazoleta.plazoleta.application.handler.IIndicePropietariosHandler;
+import com.plazoleta.plazoleta.infraestructure.input.rest.IndicePropietariosController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(IndicePropietariosController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Tests de Integración - IndicePropietariosController")
+class IndicePropietariosControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IIndicePropietariosHandler indicePropietariosHandler;
+
+    @Test
+    @DisplayName("POST /api/v1/restaurantes/indice-propietarios/reconstrucciones - Debe retornar 200 con la cantidad indexada")
+    void shouldReturn200WithIndexedCount() throws Exception {
+        when(indicePropietariosHandler.reconstruir()).thenReturn(new ReconstruccionIndiceResponseDto(42));
+
+        mockMvc.perform(post("/api/v1/restaurantes/indice-propietarios/reconstrucciones"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.restaurantes").value(42));
+
+        verify(indicePropietariosHandler).reconstruir();
+    }
+}
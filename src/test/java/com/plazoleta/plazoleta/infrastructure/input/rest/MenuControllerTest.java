@@ -0,0 +1,72 @@
+package com.plazoleta.plazoleta.infrastructure.input.rest;
+
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.PlatoMenuResponseDto;
+import com.plazoleta.plazoleta.application.handler.IMenuHandler;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.domain.exception.RestauranteNoEncontradoException;
+import com.plazoleta.plazoleta.infraestructure.input.rest.MenuController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MenuController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Tests de Integración - MenuController")
+class MenuControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IMenuHandler menuHandler;
+
+    @Test
+    @DisplayName("GET /api/v1/restaurantes/{id}/platos - Debe retornar 200 con la página y el cursor siguiente")
+    void shouldReturn200WithPageAndNextCursor() throws Exception {
+        when(menuHandler.listMenu(10L, "PIZZA", true, "abc", 2)).thenReturn(new PaginaResponseDto<>(
+                List.of(new PlatoMenuResponseDto(5L, "Pizza", 30000, "Napolitana", "http://img.com/pizza.png",
+                        "PIZZA", true)),
+                "def", true));
+
+        mockMvc.perform(get("/api/v1/restaurantes/{id}/platos", 10L)
+                        .param("categoria", "PIZZA")
+                        .param("activo", "true")
+                        .param("cursor", "abc")
+                        .param("tamano", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].nombre").value("Pizza"))
+                .andExpect(jsonPath("$.siguienteCursor").value("def"))
+                .andExpect(jsonPath("$.haySiguiente").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/restaurantes/{id}/platos - Debe retornar 404 si el restaurante no existe")
+    void shouldReturn404WhenRestaurantDoesNotExist() throws Exception {
+        when(menuHandler.listMenu(any(), any(), any(), any(), any()))
+                .thenThrow(new RestauranteNoEncontradoException("El restaurante especificado no existe"));
+
+        mockMvc.perform(get("/api/v1/restaurantes/{id}/platos", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/restaurantes/{id}/platos - Debe retornar 400 con un cursor inválido")
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        when(menuHandler.listMenu(any(), any(), any(), any(), any()))
+                .thenThrow(new DominioException("El cursor de paginación no es válido"));
+
+        mockMvc.perform(get("/api/v1/restaurantes/{id}/platos", 10L).param("cursor", "x"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -3,6 +3,11 @@ package com.plazoleta.plazoleta.infrastructure.input.rest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plazoleta.plazoleta.application.dto.CrearPlatoRequestDto;
 import com.plazoleta.plazoleta.application.dto.ActualizarPlatoRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustarPreciosRequestDto;
+import com.plazoleta.plazoleta.application.dto.AjustePreciosResponseDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteRequestDto;
+import com.plazoleta.plazoleta.application.dto.CrearPlatosLoteResponseDto;
+import com.plazoleta.plazoleta.application.dto.ResultadoPlatoLoteDto;
 import com.plazoleta.plazoleta.application.handler.IPlatoHandler;
 import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.PlatoNoEncontradoException;
@@ -19,13 +24,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PlatoController.class)
@@ -290,4 +299,84 @@ class PlatoControllerTest {
                         .content(invalidJson))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /platos/lote - Debería retornar 200 con el resultado de cada plato")
+    void shouldCreateDishesInBatchAndReturnResults() throws Exception {
+        String loteJson = objectMapper.writeValueAsString(new CrearPlatosLoteRequestDto(List.of(validDto, validDto)));
+        when(platoHandler.createDishes(any(CrearPlatosLoteRequestDto.class)))
+                .thenReturn(new CrearPlatosLoteResponseDto(1, 1, List.of(
+                        new ResultadoPlatoLoteDto(0, true, 5L, null),
+                        new ResultadoPlatoLoteDto(1, false, null, "El precio debe ser mayor a cero"))));
+
+        mockMvc.perform(post(BASE_URL + "/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loteJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creados").value(1))
+                .andExpect(jsonPath("$.rechazados").value(1))
+                .andExpect(jsonPath("$.resultados[0].id").value(5))
+                .andExpect(jsonPath("$.resultados[1].error").value("El precio debe ser mayor a cero"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/platos/lote - Debería retornar 400 cuando el lote está vacío")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        when(platoHandler.createDishes(any(CrearPlatosLoteRequestDto.class)))
+                .thenThrow(new DominioException("El lote debe contener al menos un plato"));
+
+        mockMvc.perform(post(BASE_URL + "/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"platos\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/platos/lote - Debería retornar 403 cuando el usuario no es propietario")
+    void shouldReturn403WhenBatchUserIsNotOwner() throws Exception {
+        when(platoHandler.createDishes(any(CrearPlatosLoteRequestDto.class)))
+                .thenThrow(new RolNoAutorizadoException("El usuario no tiene el rol de propietario"));
+
+        mockMvc.perform(post(BASE_URL + "/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"platos\":[]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("PATCH /platos/precios - Debería retornar 200 con la cantidad de platos actualizados")
+    void shouldAdjustPricesAndReturnAffectedCount() throws Exception {
+        when(platoHandler.adjustPrices(any(AjustarPreciosRequestDto.class)))
+                .thenReturn(new AjustePreciosResponseDto(120));
+
+        mockMvc.perform(patch(BASE_URL + "/precios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"restauranteId\":10,\"tipo\":\"PORCENTAJE\",\"valor\":8.5,\"categoria\":\"PIZZA\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.platosActualizados").value(120));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/platos/precios - Debería retornar 400 cuando el ajuste es inválido")
+    void shouldReturn400WhenAdjustmentIsInvalid() throws Exception {
+        when(platoHandler.adjustPrices(any(AjustarPreciosRequestDto.class)))
+                .thenThrow(new DominioException("El valor del ajuste debe ser distinto de cero"));
+
+        mockMvc.perform(patch(BASE_URL + "/precios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"restauranteId\":10,\"tipo\":\"VALOR\",\"valor\":0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/platos/precios - Debería retornar 403 cuando el restaurante no pertenece al propietario")
+    void shouldReturn403WhenAdjustingForeignRestaurant() throws Exception {
+        when(platoHandler.adjustPrices(any(AjustarPreciosRequestDto.class)))
+                .thenThrow(new RestauranteNoPerteneceException("El restaurante no pertenece al propietario"));
+
+        mockMvc.perform(patch(BASE_URL + "/precios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"restauranteId\":10,\"tipo\":\"VALOR\",\"valor\":500}"))
+                .andExpect(status().isForbidden());
+    }
+}
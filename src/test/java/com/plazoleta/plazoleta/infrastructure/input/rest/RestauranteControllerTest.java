@@ -2,6 +2,8 @@ package com.plazoleta.plazoleta.infrastructure.input.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plazoleta.plazoleta.application.dto.CrearRestauranteRequestDto;
+import com.plazoleta.plazoleta.application.dto.PaginaResponseDto;
+import com.plazoleta.plazoleta.application.dto.RestauranteDirectorioResponseDto;
 import com.plazoleta.plazoleta.application.handler.IRestauranteHandler;
 import com.plazoleta.plazoleta.domain.exception.DominioException;
 import com.plazoleta.plazoleta.domain.exception.RolNoAutorizadoException;
@@ -15,11 +17,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -166,4 +171,30 @@ class RestauranteControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.timestamp").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/v1/restaurantes - Debe retornar 200 con la página del directorio")
+    void shouldReturn200WithDirectoryPage() throws Exception {
+        when(restauranteHandler.listRestaurantes("abc", 1)).thenReturn(new PaginaResponseDto<>(
+                List.of(new RestauranteDirectorioResponseDto(3L, "La Arepa Feliz", "https://ejemplo.com/logo.png")),
+                "def", true));
+
+        mockMvc.perform(get(BASE_URL).param("cursor", "abc").param("tamano", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].nombre").value("La Arepa Feliz"))
+                .andExpect(jsonPath("$.elementos[0].urlLogo").value("https://ejemplo.com/logo.png"))
+                .andExpect(jsonPath("$.elementos[0].direccion").doesNotExist())
+                .andExpect(jsonPath("$.siguienteCursor").value("def"))
+                .andExpect(jsonPath("$.haySiguiente").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/restaurantes - Debe retornar 400 con un tamaño de página inválido")
+    void shouldReturn400WhenPageSizeIsInvalid() throws Exception {
+        when(restauranteHandler.listRestaurantes(null, 500))
+                .thenThrow(new DominioException("El tamaño de página debe estar entre 1 y 100"));
+
+        mockMvc.perform(get(BASE_URL).param("tamano", "500"))
+                .andExpect(status().isBadRequest());
+    }
+}
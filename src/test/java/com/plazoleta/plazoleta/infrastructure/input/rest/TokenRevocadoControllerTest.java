@@ -0,0 +1,66 @@
+package com.plazoleta.plazoleta.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plazoleta.plazoleta.application.dto.RevocarTokenRequestDto;
+import com.plazoleta.plazoleta.application.handler.ITokenRevocadoHandler;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.infraestructure.input.rest.TokenRevocadoController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.Instant;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TokenRevocadoController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Tests de Integración - TokenRevocadoController")
+class TokenRevocadoControllerTest {
+
+    private static final String BASE_URL = "/api/v1/tokens/revocaciones";
+    private static final Instant EXPIRA_EN = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ITokenRevocadoHandler tokenRevocadoHandler;
+
+    @Test
+    @DisplayName("POST /api/v1/tokens/revocaciones - Debe retornar 204 NO CONTENT")
+    void shouldReturn204WhenRevokingToken() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RevocarTokenRequestDto("jti-1", EXPIRA_EN))))
+                .andExpect(status().isNoContent());
+
+        verify(tokenRevocadoHandler).revocarToken(argThat(dto ->
+                "jti-1".equals(dto.getJti()) && EXPIRA_EN.equals(dto.getExpiraEn())));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tokens/revocaciones - Debe retornar 400 cuando falta el jti")
+    void shouldReturn400WhenJtiMissing() throws Exception {
+        doThrow(new DominioException("El identificador (jti) del token es obligatorio"))
+                .when(tokenRevocadoHandler).revocarToken(any(RevocarTokenRequestDto.class));
+
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RevocarTokenRequestDto(null, EXPIRA_EN))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("El identificador (jti) del token es obligatorio"));
+    }
+}
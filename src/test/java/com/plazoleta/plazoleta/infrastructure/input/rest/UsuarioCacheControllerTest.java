@@ -0,0 +1,64 @@
+package com.plazoleta.plazoleta.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plazoleta.plazoleta.application.dto.InvalidarUsuariosRequestDto;
+import com.plazoleta.plazoleta.application.handler.IUsuarioCacheHandler;
+import com.plazoleta.plazoleta.domain.exception.DominioException;
+import com.plazoleta.plazoleta.infraestructure.input.rest.UsuarioCacheController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UsuarioCacheController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Tests de Integración - UsuarioCacheController")
+class UsuarioCacheControllerTest {
+
+    private static final String BASE_URL = "/api/v1/usuarios/invalidaciones";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private IUsuarioCacheHandler usuarioCacheHandler;
+
+    @Test
+    @DisplayName("POST /api/v1/usuarios/invalidaciones - Debe retornar 204 NO CONTENT")
+    void shouldReturn204WhenInvalidatingUsers() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new InvalidarUsuariosRequestDto(List.of(1L, 2L)))))
+                .andExpect(status().isNoContent());
+
+        verify(usuarioCacheHandler).invalidarUsuarios(argThat(dto -> dto.getUserIds().equals(List.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/usuarios/invalidaciones - Debe retornar 400 cuando no hay usuarios")
+    void shouldReturn400WhenNoUsers() throws Exception {
+        doThrow(new DominioException("Debe indicar al menos un usuario a invalidar"))
+                .when(usuarioCacheHandler).invalidarUsuarios(any(InvalidarUsuariosRequestDto.class));
+
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new InvalidarUsuariosRequestDto(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Debe indicar al menos un usuario a invalidar"));
+    }
+}
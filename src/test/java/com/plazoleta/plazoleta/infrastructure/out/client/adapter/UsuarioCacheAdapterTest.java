@@ -0,0 +1,185 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.adapter;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioCacheAdapter")
+class UsuarioCacheAdapterTest {
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    private AtomicLong nanos;
+    private UsuarioCacheAdapter adapter;
+    private UsuarioModelo propietario;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        adapter = new UsuarioCacheAdapter(delegate, 100, Duration.ofMinutes(5), nanos::get);
+        propietario = new UsuarioModelo(1L, "PROPIETARIO");
+    }
+
+    @Test
+    @DisplayName("Debe consultar el servicio remoto una sola vez para lecturas repetidas")
+    void shouldHitCacheOnRepeatedLookups() {
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+
+        UsuarioModelo primero = adapter.getUserById(1L);
+        UsuarioModelo segundo = adapter.getUserById(1L);
+
+        assertThat(primero).isSameAs(propietario);
+        assertThat(segundo).isSameAs(propietario);
+        verify(delegate, times(1)).getUserById(1L);
+
+        CacheStats stats = adapter.getUsuarios().stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe volver a consultar cuando la entrada expira por TTL")
+    void shouldReloadAfterTtl() {
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+
+        adapter.getUserById(1L);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        adapter.getUserById(1L);
+
+        verify(delegate, times(2)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("No debe cachear errores del servicio remoto")
+    void shouldNotCacheErrors() {
+        when(delegate.getUserById(2L))
+                .thenThrow(new ServicioUsuarioNoDisponibleException("caído"))
+                .thenReturn(new UsuarioModelo(2L, "PROPIETARIO"));
+
+        assertThatThrownBy(() -> adapter.getUserById(2L))
+                .isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+        UsuarioModelo result = adapter.getUserById(2L);
+
+        assertThat(result.getId()).isEqualTo(2L);
+        verify(delegate, times(2)).getUserById(2L);
+    }
+
+    @Test
+    @DisplayName("Debe propagar UsuarioNoEncontradoException sin cachearla")
+    void shouldPropagateNotFound() {
+        when(delegate.getUserById(999L)).thenThrow(new UsuarioNoEncontradoException("El usuario no existe"));
+
+        assertThatThrownBy(() -> adapter.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+        assertThatThrownBy(() -> adapter.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+
+        verify(delegate, times(2)).getUserById(999L);
+    }
+
+    @Test
+    @DisplayName("Debe respetar el tamaño máximo de la caché")
+    void shouldRespectMaximumSize() {
+        UsuarioCacheAdapter pequena = new UsuarioCacheAdapter(delegate, 2, Duration.ofMinutes(5), nanos::get);
+        for (long id = 1; id <= 10; id++) {
+            when(delegate.getUserById(id)).thenReturn(new UsuarioModelo(id, "PROPIETARIO"));
+            pequena.getUserById(id);
+        }
+
+        pequena.getUsuarios().cleanUp();
+
+        assertThat(pequena.getUsuarios().estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(pequena.getUsuarios().stats().evictionCount()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Debe responder localmente las consultas repetidas de usuarios inexistentes")
+    void shouldCacheNotFoundInNegativeCache() {
+        UsuarioCacheAdapter conNegativos = new UsuarioCacheAdapter(delegate, 100, Duration.ofMinutes(5),
+                10, Duration.ofSeconds(30), nanos::get);
+        when(delegate.getUserById(999L)).thenThrow(new UsuarioNoEncontradoException("El usuario no existe"));
+
+        assertThatThrownBy(() -> conNegativos.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+        assertThatThrownBy(() -> conNegativos.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class)
+                .hasMessage("El usuario no existe");
+
+        verify(delegate, times(1)).getUserById(999L);
+        assertThat(conNegativos.getNoEncontrados().stats().hitCount()).isEqualTo(1);
+        assertThat(conNegativos.getUsuarios().estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe volver a consultar cuando expira la entrada negativa")
+    void shouldReloadAfterNegativeTtl() {
+        UsuarioCacheAdapter conNegativos = new UsuarioCacheAdapter(delegate, 100, Duration.ofMinutes(5),
+                10, Duration.ofSeconds(30), nanos::get);
+        when(delegate.getUserById(999L))
+                .thenThrow(new UsuarioNoEncontradoException("El usuario no existe"))
+                .thenReturn(new UsuarioModelo(999L, "PROPIETARIO"));
+
+        assertThatThrownBy(() -> conNegativos.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(conNegativos.getUserById(999L).getId()).isEqualTo(999L);
+        verify(delegate, times(2)).getUserById(999L);
+    }
+
+    @Test
+    @DisplayName("Debe descartar la entrada negativa al invalidar un usuario re-creado")
+    void shouldEvictNegativeEntryOnInvalidation() {
+        UsuarioCacheAdapter conNegativos = new UsuarioCacheAdapter(delegate, 100, Duration.ofMinutes(5),
+                10, Duration.ofSeconds(30), nanos::get);
+        when(delegate.getUserById(999L))
+                .thenThrow(new UsuarioNoEncontradoException("El usuario no existe"))
+                .thenReturn(new UsuarioModelo(999L, "PROPIETARIO"));
+
+        assertThatThrownBy(() -> conNegativos.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+        conNegativos.invalidar(999L);
+
+        assertThat(conNegativos.getUserById(999L).getRole()).isEqualTo("PROPIETARIO");
+    }
+
+    @Test
+    @DisplayName("Debe registrar en la caché negativa los IDs ausentes de una consulta en lote")
+    void shouldCacheMissingIdsFromBulkLookup() {
+        UsuarioCacheAdapter conNegativos = new UsuarioCacheAdapter(delegate, 100, Duration.ofMinutes(5),
+                10, Duration.ofSeconds(30), nanos::get);
+        when(delegate.getUsersByIds(anyCollection())).thenReturn(Map.of(1L, propietario));
+
+        Map<Long, UsuarioModelo> primero = conNegativos.getUsersByIds(List.of(1L, 999L));
+        Map<Long, UsuarioModelo> segundo = conNegativos.getUsersByIds(List.of(1L, 999L));
+
+        assertThat(primero).containsOnlyKeys(1L);
+        assertThat(segundo).containsOnlyKeys(1L);
+        verify(delegate, times(1)).getUsersByIds(anyCollection());
+        assertThatThrownBy(() -> conNegativos.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class);
+        verify(delegate, never()).getUserById(999L);
+    }
+}
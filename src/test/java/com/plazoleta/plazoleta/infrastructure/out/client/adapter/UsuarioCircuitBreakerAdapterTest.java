@@ -0,0 +1,123 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioCircuitBreakerAdapter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioCircuitBreakerAdapter")
+class UsuarioCircuitBreakerAdapterTest {
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private UsuarioCircuitBreakerAdapter adapter;
+    private UsuarioModelo propietario;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .recordExceptions(ServicioUsuarioNoDisponibleException.class)
+                .build();
+        circuitBreaker = CircuitBreaker.of("user-service", config);
+        adapter = new UsuarioCircuitBreakerAdapter(delegate, circuitBreaker, 100, Duration.ofHours(1));
+        propietario = new UsuarioModelo(1L, "PROPIETARIO");
+    }
+
+    @Test
+    @DisplayName("Debe delegar mientras el circuito está cerrado")
+    void shouldDelegateWhenClosed() {
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(propietario);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debe abrir el circuito tras fallos y responder con el último rol conocido")
+    void shouldServeLastKnownGoodWhenOpen() {
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+        adapter.getUserById(1L);
+        doThrow(new ServicioUsuarioNoDisponibleException("caído")).when(delegate).getUserById(1L);
+        assertThatThrownBy(() -> adapter.getUserById(1L)).isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(adapter.getUserById(1L)).isSameAs(propietario);
+        assertThat(adapter.getRespuestasObsoletas()).isEqualTo(1);
+        verify(delegate, times(2)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe fallar de inmediato con el circuito abierto si no hay rol conocido")
+    void shouldFailFastWhenOpenWithoutLastKnownGood() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> adapter.getUserById(2L))
+                .isInstanceOf(ServicioUsuarioNoDisponibleException.class)
+                .hasMessageContaining("circuito abierto");
+        verify(delegate, never()).getUserById(2L);
+        assertThat(adapter.getRechazos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No debe contar usuarios inexistentes como fallos del servicio")
+    void shouldNotCountNotFoundAsFailure() {
+        when(delegate.getUserById(999L)).thenThrow(new UsuarioNoEncontradoException("El usuario no existe"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> adapter.getUserById(999L)).isInstanceOf(UsuarioNoEncontradoException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debe cerrar el circuito cuando la llamada de prueba en semiabierto tiene éxito")
+    void shouldCloseAfterSuccessfulHalfOpenProbe() {
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+
+        adapter.getUserById(1L);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debe responder consultas en lote con usuarios conocidos mientras el circuito está abierto")
+    void shouldServeBulkLookupFromLastKnownGoodWhenOpen() {
+        when(delegate.getUsersByIds(List.of(1L))).thenReturn(Map.of(1L, propietario));
+        adapter.getUsersByIds(List.of(1L));
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(adapter.getUsersByIds(List.of(1L))).containsEntry(1L, propietario);
+        assertThatThrownBy(() -> adapter.getUsersByIds(List.of(1L, 2L)))
+                .isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+    }
+}
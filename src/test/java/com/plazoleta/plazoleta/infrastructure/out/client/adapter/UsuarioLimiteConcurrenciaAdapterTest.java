@@ -0,0 +1,127 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioSaturadoException;
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioLimiteConcurrenciaAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioLimiteConcurrenciaAdapter")
+class UsuarioLimiteConcurrenciaAdapterTest {
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    private AtomicLong nanos;
+    private UsuarioModelo propietario;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        propietario = new UsuarioModelo(1L, "PROPIETARIO");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar de inmediato las llamadas que exceden el límite")
+    void shouldRejectCallsOverLimit() throws Exception {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate, 1, 1, 10,
+                Duration.ofSeconds(1), 0.9);
+        CountDownLatch enCurso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            enCurso.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return propietario;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<UsuarioModelo> primera = executor.submit(() -> adapter.getUserById(1L));
+            assertThat(enCurso.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> adapter.getUserById(1L))
+                    .isInstanceOf(ServicioUsuarioSaturadoException.class);
+            assertThat(adapter.getEnCurso()).isEqualTo(1);
+            assertThat(adapter.getRechazos()).isEqualTo(1);
+
+            liberar.countDown();
+            assertThat(primera.get(5, TimeUnit.SECONDS)).isSameAs(propietario);
+            assertThat(adapter.getEnCurso()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando una llamada supera la latencia máxima")
+    void shouldDecreaseLimitOnSlowCall() {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate, 20, 2, 200,
+                Duration.ofSeconds(1), 0.9, nanos::get);
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+            return propietario;
+        });
+
+        adapter.getUserById(1L);
+
+        assertThat(adapter.getLimite()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando el servicio no está disponible sin bajar del mínimo")
+    void shouldDecreaseLimitOnUnavailable() {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate, 3, 2, 200,
+                Duration.ofSeconds(1), 0.5, nanos::get);
+        when(delegate.getUserById(1L)).thenThrow(new ServicioUsuarioNoDisponibleException("caído"));
+
+        assertThatThrownBy(() -> adapter.getUserById(1L)).isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+        assertThatThrownBy(() -> adapter.getUserById(1L)).isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+
+        assertThat(adapter.getLimite()).isEqualTo(2);
+        assertThat(adapter.getEnCurso()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe aumentar el límite con llamadas rápidas cuando está en uso")
+    void shouldIncreaseLimitWhenSaturatedAndFast() {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate, 1, 1, 200,
+                Duration.ofSeconds(1), 0.9, nanos::get);
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+
+        adapter.getUserById(1L);
+
+        assertThat(adapter.getLimite()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("No debe aumentar el límite cuando está ocioso ni reducirlo por usuarios inexistentes")
+    void shouldKeepLimitWhenIdleOrNotFound() {
+        UsuarioLimiteConcurrenciaAdapter adapter = new UsuarioLimiteConcurrenciaAdapter(delegate, 10, 2, 200,
+                Duration.ofSeconds(1), 0.9, nanos::get);
+        when(delegate.getUserById(1L)).thenReturn(propietario);
+        when(delegate.getUserById(999L)).thenThrow(new UsuarioNoEncontradoException("El usuario no existe"));
+
+        adapter.getUserById(1L);
+        assertThatThrownBy(() -> adapter.getUserById(999L)).isInstanceOf(UsuarioNoEncontradoException.class);
+
+        assertThat(adapter.getLimite()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,124 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.exception.ServicioUsuarioNoDisponibleException;
+import com.plazoleta.plazoleta.domain.exception.UsuarioNoEncontradoException;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioLoteDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioLoteDispatcher")
+class UsuarioLoteDispatcherTest {
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debe agrupar en una sola consulta las peticiones que llegan dentro de la ventana")
+    void shouldGroupRequestsWithinWindow() throws Exception {
+        UsuarioLoteDispatcher dispatcher = new UsuarioLoteDispatcher(delegate, Duration.ofMillis(300), 100);
+        when(delegate.getUsersByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> new UsuarioModelo(id, "PROPIETARIO")));
+        });
+
+        List<Future<UsuarioModelo>> resultados = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            long userId = id;
+            resultados.add(executor.submit(() -> dispatcher.getUserById(userId)));
+        }
+
+        for (int i = 0; i < resultados.size(); i++) {
+            assertThat(resultados.get(i).get(5, TimeUnit.SECONDS).getId()).isEqualTo(i + 1L);
+        }
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(delegate, times(1)).getUsersByIds(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("Debe despachar inmediatamente cuando el lote alcanza el tamaño máximo")
+    void shouldDispatchWhenBatchIsFull() {
+        UsuarioLoteDispatcher dispatcher = new UsuarioLoteDispatcher(delegate, Duration.ofMinutes(1), 1);
+        when(delegate.getUsersByIds(List.of(7L))).thenReturn(Map.of(7L, new UsuarioModelo(7L, "PROPIETARIO")));
+
+        UsuarioModelo result = dispatcher.getUserById(7L);
+
+        assertThat(result.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar UsuarioNoEncontradoException para IDs ausentes en la respuesta del lote")
+    void shouldThrowNotFoundForMissingIds() {
+        UsuarioLoteDispatcher dispatcher = new UsuarioLoteDispatcher(delegate, Duration.ofMillis(1), 100);
+        when(delegate.getUsersByIds(List.of(999L))).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> dispatcher.getUserById(999L))
+                .isInstanceOf(UsuarioNoEncontradoException.class)
+                .hasMessage("El usuario no existe");
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error de la consulta en lote a todas las peticiones")
+    void shouldPropagateBatchErrorToAllRequests() throws Exception {
+        UsuarioLoteDispatcher dispatcher = new UsuarioLoteDispatcher(delegate, Duration.ofMillis(300), 100);
+        when(delegate.getUsersByIds(anyCollection()))
+                .thenThrow(new ServicioUsuarioNoDisponibleException("caído"));
+
+        Future<UsuarioModelo> primero = executor.submit(() -> dispatcher.getUserById(1L));
+        Future<UsuarioModelo> segundo = executor.submit(() -> dispatcher.getUserById(2L));
+
+        assertThatThrownBy(() -> primero.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServicioUsuarioNoDisponibleException.class);
+        assertThatThrownBy(() -> segundo.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServicioUsuarioNoDisponibleException.class);
+        verify(delegate, times(1)).getUsersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debe delegar las consultas en lote explícitas")
+    void shouldDelegateExplicitBulkLookups() {
+        UsuarioLoteDispatcher dispatcher = new UsuarioLoteDispatcher(delegate, Duration.ofMillis(1), 100);
+        Map<Long, UsuarioModelo> usuarios = Map.of(1L, new UsuarioModelo(1L, "PROPIETARIO"));
+        when(delegate.getUsersByIds(List.of(1L))).thenReturn(usuarios);
+
+        assertThat(dispatcher.getUsersByIds(List.of(1L))).isSameAs(usuarios);
+    }
+}
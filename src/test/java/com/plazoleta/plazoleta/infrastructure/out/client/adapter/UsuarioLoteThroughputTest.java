@@ -0,0 +1,95 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.adapter;
+
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioLoteDispatcher;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioMicroserviceAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.client.mapper.UsuarioClientMapper;
+import com.plazoleta.plazoleta.infrastructure.out.client.stub.HttpUsuarioFeignClient;
+import com.plazoleta.plazoleta.infrastructure.out.client.stub.UsuarioServiceStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el throughput de consultas individuales contra el microservicio de usuarios con y sin
+ * micro-batching, usando un servidor HTTP local como reemplazo del servicio real.
+ * Se ejecuta con {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Micro-batching de consultas de usuarios")
+class UsuarioLoteThroughputTest {
+
+    private static final int CONSULTAS = 5_000;
+    private static final int CONCURRENCIA = 64;
+
+    private UsuarioServiceStubServer server;
+    private UsuarioValidationPort adapter;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new UsuarioServiceStubServer(Duration.ofMillis(1));
+        UsuarioClientMapper mapper = Mappers.getMapper(UsuarioClientMapper.class);
+        adapter = new UsuarioMicroserviceAdapter(new HttpUsuarioFeignClient(server.getUrl()), mapper);
+        executor = Executors.newFixedThreadPool(CONCURRENCIA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("El modo en lote debe reducir las peticiones HTTP y mejorar el throughput")
+    void batchedModeShouldReduceHttpRequests() throws Exception {
+        ejecutar(adapter);
+        server.reiniciarContador();
+
+        long inicioUnitario = System.nanoTime();
+        ejecutar(adapter);
+        long nanosUnitario = System.nanoTime() - inicioUnitario;
+        long peticionesUnitario = server.getPeticiones();
+
+        UsuarioValidationPort dispatcher = new UsuarioLoteDispatcher(adapter, Duration.ofMillis(2), 100);
+        server.reiniciarContador();
+        long inicioLote = System.nanoTime();
+        ejecutar(dispatcher);
+        long nanosLote = System.nanoTime() - inicioLote;
+        long peticionesLote = server.getPeticiones();
+
+        System.out.printf("Sin lote: %d consultas, %d peticiones HTTP, %.0f consultas/s%n",
+                CONSULTAS, peticionesUnitario, throughput(nanosUnitario));
+        System.out.printf("Con lote: %d consultas, %d peticiones HTTP, %.0f consultas/s%n",
+                CONSULTAS, peticionesLote, throughput(nanosLote));
+
+        assertThat(peticionesUnitario).isEqualTo(CONSULTAS);
+        assertThat(peticionesLote).isLessThan(peticionesUnitario / 10);
+    }
+
+    private void ejecutar(UsuarioValidationPort port) throws Exception {
+        List<Future<?>> futuros = new ArrayList<>(CONSULTAS);
+        for (long id = 1; id <= CONSULTAS; id++) {
+            long userId = id;
+            futuros.add(executor.submit(() -> port.getUserById(userId)));
+        }
+        for (Future<?> futuro : futuros) {
+            futuro.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static double throughput(long nanos) {
+        return CONSULTAS / (nanos / 1_000_000_000.0);
+    }
+}
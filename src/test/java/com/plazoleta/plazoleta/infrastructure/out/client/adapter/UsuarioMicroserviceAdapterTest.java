@@ -16,7 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -169,4 +177,130 @@ class UsuarioMicroserviceAdapterTest {
         verify(userFeignClient, times(1)).getUserById(2L);
         verify(userClientMapper, times(2)).toUserModel(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe compartir una sola llamada remota entre consultas concurrentes del mismo usuario")
+    void shouldCoalesceConcurrentLookupsForSameUser() throws Exception {
+        CountDownLatch llamadaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarLlamada = new CountDownLatch(1);
+        when(userFeignClient.getUserById(1L)).thenAnswer(invocation -> {
+            llamadaIniciada.countDown();
+            liberarLlamada.await(5, TimeUnit.SECONDS);
+            return userResponseDto;
+        });
+        when(userClientMapper.toUserModel(userResponseDto)).thenReturn(userModel);
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<UsuarioModelo>> resultados = new ArrayList<>();
+            resultados.add(executor.submit(() -> adapter.getUserById(1L)));
+            assertThat(llamadaIniciada.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) {
+                resultados.add(executor.submit(() -> adapter.getUserById(1L)));
+            }
+            Thread.sleep(200);
+            liberarLlamada.countDown();
+
+            for (Future<UsuarioModelo> resultado : resultados) {
+                assertThat(resultado.get(5, TimeUnit.SECONDS)).isSameAs(userModel);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userFeignClient, times(1)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe propagar el mismo error a todas las consultas concurrentes del mismo usuario")
+    void shouldShareErrorWithConcurrentLookups() throws Exception {
+        Request request = Request.create(
+                Request.HttpMethod.GET,
+                "/usuarios/999",
+                new HashMap<>(),
+                null,
+                new RequestTemplate()
+        );
+        CountDownLatch llamadaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarLlamada = new CountDownLatch(1);
+        when(userFeignClient.getUserById(999L)).thenAnswer(invocation -> {
+            llamadaIniciada.countDown();
+            liberarLlamada.await(5, TimeUnit.SECONDS);
+            throw new FeignException.NotFound("User not found", request, null, null);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<UsuarioModelo>> resultados = new ArrayList<>();
+            resultados.add(executor.submit(() -> adapter.getUserById(999L)));
+            assertThat(llamadaIniciada.await(5, TimeUnit.SECONDS)).isTrue();
+            resultados.add(executor.submit(() -> adapter.getUserById(999L)));
+            resultados.add(executor.submit(() -> adapter.getUserById(999L)));
+            Thread.sleep(200);
+            liberarLlamada.countDown();
+
+            for (Future<UsuarioModelo> resultado : resultados) {
+                assertThatThrownBy(() -> resultado.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(UsuarioNoEncontradoException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userFeignClient, times(1)).getUserById(999L);
+    }
+
+    @Test
+    @DisplayName("Debe realizar una nueva llamada cuando la anterior ya terminó")
+    void shouldCallAgainAfterPreviousCallCompleted() {
+        when(userFeignClient.getUserById(1L)).thenReturn(userResponseDto);
+        when(userClientMapper.toUserModel(userResponseDto)).thenReturn(userModel);
+
+        adapter.getUserById(1L);
+        adapter.getUserById(1L);
+
+        verify(userFeignClient, times(2)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe consultar usuarios en lote indexando el resultado por ID")
+    void shouldGetUsersByIdsInOneCall() {
+        UsuarioResponseDto otroDto = new UsuarioResponseDto(2L, "CLIENTE");
+        UsuarioModelo otroModelo = new UsuarioModelo(2L, "CLIENTE");
+        List<UsuarioResponseDto> respuesta = List.of(userResponseDto, otroDto);
+        when(userFeignClient.getUsersByIds(List.of(1L, 2L))).thenReturn(respuesta);
+        when(userClientMapper.toUserModels(respuesta)).thenReturn(List.of(userModel, otroModelo));
+
+        Map<Long, UsuarioModelo> result = adapter.getUsersByIds(List.of(1L, 2L, 2L));
+
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L)).isSameAs(otroModelo);
+        verify(userFeignClient, times(1)).getUsersByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("No debe llamar al microservicio cuando la lista de IDs está vacía")
+    void shouldNotCallFeignForEmptyBulkLookup() {
+        Map<Long, UsuarioModelo> result = adapter.getUsersByIds(List.of());
+
+        assertThat(result).isEmpty();
+        verify(userFeignClient, never()).getUsersByIds(any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ServicioUsuarioNoDisponibleException cuando falla la consulta en lote")
+    void shouldThrowServicioUsuarioNoDisponibleWhenBulkLookupFails() {
+        Request request = Request.create(
+                Request.HttpMethod.POST,
+                "/usuarios/lote",
+                new HashMap<>(),
+                null,
+                new RequestTemplate()
+        );
+        when(userFeignClient.getUsersByIds(any())).thenThrow(
+                new FeignException.ServiceUnavailable("Service Unavailable", request, null, null));
+
+        assertThatThrownBy(() -> adapter.getUsersByIds(List.of(1L)))
+                .isInstanceOf(ServicioUsuarioNoDisponibleException.class);
+    }
+}
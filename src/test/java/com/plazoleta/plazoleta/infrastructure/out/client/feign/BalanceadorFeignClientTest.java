@@ -0,0 +1,185 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.feign;
+
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.BalanceadorFeignClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests Unitarios - BalanceadorFeignClient")
+class BalanceadorFeignClientTest {
+
+    private static final String URL_BASE = "http://user-service:8080";
+    private static final String RUTA = "/api/v1/usuarios/1";
+    private static final String ENDPOINT_A = "http://usuarios-a:8080";
+    private static final String ENDPOINT_B = "http://usuarios-b:8080";
+
+    private SimpleMeterRegistry meterRegistry;
+    private Request.Options options;
+    private List<String> urlsInvocadas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        options = new Request.Options();
+        urlsInvocadas = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Debe preferir la instancia con menor latencia observada")
+    void shouldPreferFastestEndpoint() throws IOException {
+        AtomicLong nanos = new AtomicLong();
+        Client transporte = (request, opts) -> {
+            urlsInvocadas.add(request.url());
+            nanos.addAndGet(request.url().startsWith(ENDPOINT_A)
+                    ? Duration.ofMillis(50).toNanos()
+                    : Duration.ofMillis(5).toNanos());
+            return respuesta(request);
+        };
+        BalanceadorFeignClient client = new BalanceadorFeignClient(transporte, URL_BASE,
+                List.of(ENDPOINT_A, ENDPOINT_B), false, Duration.ofMillis(20), meterRegistry, nanos::get);
+
+        for (int i = 0; i < 10; i++) {
+            client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+        }
+
+        assertThat(urlsInvocadas).filteredOn(url -> url.startsWith(ENDPOINT_A)).hasSize(1);
+        assertThat(urlsInvocadas).filteredOn(url -> url.startsWith(ENDPOINT_B)).hasSize(9);
+        assertThat(meterRegistry.get("usuarios.http.client.latencia_ewma").tag("endpoint", ENDPOINT_A)
+                .gauge().value()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("Debe reescribir la URL base hacia la instancia elegida")
+    void shouldRewriteBaseUrl() throws IOException {
+        Client transporte = (request, opts) -> {
+            urlsInvocadas.add(request.url());
+            return respuesta(request);
+        };
+        BalanceadorFeignClient client = new BalanceadorFeignClient(transporte, URL_BASE + "/",
+                List.of(ENDPOINT_B + "/"), false, Duration.ofMillis(20), meterRegistry);
+
+        client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+        client.execute(peticion(Request.HttpMethod.GET, "http://otro-servicio" + RUTA), options);
+
+        assertThat(urlsInvocadas).containsExactly(ENDPOINT_B + RUTA, "http://otro-servicio" + RUTA);
+    }
+
+    @Test
+    @DisplayName("Debe volver a probar una instancia penalizada cuando su latencia decae")
+    void shouldRetryPenalizedEndpointAfterDecay() throws IOException {
+        AtomicLong nanos = new AtomicLong();
+        AtomicBoolean fallarA = new AtomicBoolean(true);
+        Client transporte = (request, opts) -> {
+            urlsInvocadas.add(request.url());
+            nanos.addAndGet(Duration.ofMillis(5).toNanos());
+            if (request.url().startsWith(ENDPOINT_A) && fallarA.get()) {
+                throw new IOException("conexión rechazada");
+            }
+            return respuesta(request);
+        };
+        BalanceadorFeignClient client = new BalanceadorFeignClient(transporte, URL_BASE,
+                List.of(ENDPOINT_A, ENDPOINT_B), false, Duration.ofMillis(20), meterRegistry, nanos::get);
+
+        try {
+            client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+        } catch (IOException esperado) {
+            fallarA.set(false);
+        }
+        for (int i = 0; i < 100; i++) {
+            nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+            client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+        }
+
+        assertThat(urlsInvocadas.get(1)).startsWith(ENDPOINT_B);
+        assertThat(urlsInvocadas).filteredOn(url -> url.startsWith(ENDPOINT_A)).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Debe enviar una petición de respaldo cuando la primera supera el p95")
+    void shouldHedgeSlowRequest() throws Exception {
+        AtomicBoolean lento = new AtomicBoolean(false);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Client transporte = (request, opts) -> {
+            urlsInvocadas.add(request.url());
+            if (lento.compareAndSet(true, false)) {
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return respuesta(request);
+        };
+        try (BalanceadorFeignClient client = new BalanceadorFeignClient(transporte, URL_BASE,
+                List.of(ENDPOINT_A, ENDPOINT_B), true, Duration.ofMillis(20), meterRegistry)) {
+            for (int i = 0; i < 32; i++) {
+                client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+            }
+            urlsInvocadas.clear();
+            lento.set(true);
+
+            long inicio = System.nanoTime();
+            Response response = client.execute(peticion(Request.HttpMethod.GET, URL_BASE + RUTA), options);
+            long duracion = System.nanoTime() - inicio;
+
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(Duration.ofNanos(duracion)).isLessThan(Duration.ofSeconds(2));
+            assertThat(urlsInvocadas).hasSize(2);
+            assertThat(urlsInvocadas.get(0)).isNotEqualTo(urlsInvocadas.get(1));
+            assertThat(response.request().url()).isEqualTo(urlsInvocadas.get(1));
+            assertThat(meterRegistry.get("usuarios.http.client.hedges").tag("resultado", "lanzado")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("usuarios.http.client.hedges").tag("resultado", "ganado")
+                    .counter().count()).isEqualTo(1);
+        } finally {
+            liberar.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("No debe enviar peticiones de respaldo para métodos no idempotentes")
+    void shouldNotHedgePost() throws Exception {
+        Client transporte = (request, opts) -> {
+            urlsInvocadas.add(request.url());
+            return respuesta(request);
+        };
+        try (BalanceadorFeignClient client = new BalanceadorFeignClient(transporte, URL_BASE,
+                List.of(ENDPOINT_A, ENDPOINT_B), true, Duration.ofMillis(20), meterRegistry)) {
+            for (int i = 0; i < 40; i++) {
+                client.execute(peticion(Request.HttpMethod.POST, URL_BASE + "/api/v1/usuarios/lote"), options);
+            }
+
+            assertThat(urlsInvocadas).hasSize(40);
+            assertThat(meterRegistry.get("usuarios.http.client.hedges").tag("resultado", "lanzado")
+                    .counter().count()).isZero();
+        }
+    }
+
+    private static Request peticion(Request.HttpMethod metodo, String url) {
+        return Request.create(metodo, url, new HashMap<>(), Request.Body.empty(), new RequestTemplate());
+    }
+
+    private static Response respuesta(Request request) {
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.feign;
+
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.JdkHttpFeignClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - JdkHttpFeignClient")
+class JdkHttpFeignClientTest {
+
+    private static final String URL = "http://usuarios:8080/api/v1/usuarios/1";
+
+    @Mock
+    private Client delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Request request;
+    private Request.Options options;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        request = Request.create(Request.HttpMethod.GET, URL, new HashMap<>(), null, new RequestTemplate());
+        options = new Request.Options();
+    }
+
+    @Test
+    @DisplayName("Debe delegar la petición y registrar la latencia por host y status")
+    void shouldDelegateAndRecordLatency() throws IOException {
+        JdkHttpFeignClient client = new JdkHttpFeignClient(delegate, 2, Duration.ofMillis(10), meterRegistry);
+        Response response = respuesta(200);
+        when(delegate.execute(request, options)).thenReturn(response);
+
+        assertThat(client.execute(request, options)).isSameAs(response);
+
+        assertThat(meterRegistry.get("usuarios.http.client.requests")
+                .tag("host", "usuarios:8080")
+                .tag("status", "200")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("usuarios.http.client.en_curso").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe registrar cada timer una sola vez y reutilizarlo en las peticiones siguientes")
+    void shouldReuseTimerPerHostAndMethod() throws IOException {
+        JdkHttpFeignClient client = new JdkHttpFeignClient(delegate, 2, Duration.ofMillis(10), meterRegistry);
+        when(delegate.execute(request, options)).thenReturn(respuesta(200));
+
+        client.execute(request, options);
+        Timer timer = meterRegistry.get("usuarios.http.client.requests").tag("method", "GET").timer();
+        client.execute(request, options);
+
+        assertThat(meterRegistry.find("usuarios.http.client.requests").timers()).containsExactly(timer);
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTag("version")).isEqualTo("HTTP_1_1");
+    }
+
+    @Test
+    @DisplayName("Debe liberar el permiso cuando la petición falla")
+    void shouldReleasePermitOnFailure() throws IOException {
+        JdkHttpFeignClient client = new JdkHttpFeignClient(delegate, 1, Duration.ofMillis(10), meterRegistry);
+        when(delegate.execute(any(), any())).thenThrow(new IOException("conexión rechazada")).thenReturn(respuesta(200));
+
+        assertThatThrownBy(() -> client.execute(request, options)).isInstanceOf(IOException.class);
+
+        assertThat(client.execute(request, options).status()).isEqualTo(200);
+        assertThat(meterRegistry.get("usuarios.http.client.requests").tag("status", "IO_ERROR").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar peticiones cuando se alcanza el límite por host")
+    void shouldRejectWhenHostLimitReached() throws Exception {
+        JdkHttpFeignClient client = new JdkHttpFeignClient(delegate, 1, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch enCurso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+            enCurso.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return respuesta(200);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> primera = executor.submit(() -> client.execute(request, options));
+            assertThat(enCurso.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> client.execute(request, options))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("usuarios:8080");
+            assertThat(meterRegistry.get("usuarios.http.client.rechazos").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("usuarios.http.client.en_curso").gauge().value()).isEqualTo(1);
+
+            liberar.countDown();
+            assertThat(primera.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Response respuesta(int status) {
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(new HashMap<>())
+                .protocolVersion(Request.ProtocolVersion.HTTP_1_1)
+                .build();
+    }
+}
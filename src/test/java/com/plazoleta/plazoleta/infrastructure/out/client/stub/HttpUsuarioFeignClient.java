@@ -0,0 +1,82 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plazoleta.plazoleta.infraestructure.out.client.dto.UsuarioResponseDto;
+import com.plazoleta.plazoleta.infraestructure.out.client.feign.UsuarioFeignClient;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Implementación mínima de {@link UsuarioFeignClient} sobre el HttpClient del JDK, usada en pruebas
+ * de rendimiento contra {@link UsuarioServiceStubServer}. Cada consulta abre una petición HTTP real.
+ */
+public class HttpUsuarioFeignClient implements UsuarioFeignClient {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final String baseUrl;
+
+    public HttpUsuarioFeignClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public UsuarioResponseDto getUserById(Long id) {
+        String url = baseUrl + "/api/v1/usuarios/" + id;
+        HttpResponse<byte[]> response = enviar(HttpRequest.newBuilder(URI.create(url)).GET().build());
+        if (response.statusCode() == 404) {
+            throw new FeignException.NotFound("User not found", feignRequest(Request.HttpMethod.GET, url), null, null);
+        }
+        return leer(response, new TypeReference<>() { });
+    }
+
+    @Override
+    public List<UsuarioResponseDto> getUsersByIds(Collection<Long> ids) {
+        String url = baseUrl + "/api/v1/usuarios/lote";
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(ids)))
+                    .build();
+            return leer(enviar(request), new TypeReference<>() { });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<byte[]> enviar(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T leer(HttpResponse<byte[]> response, TypeReference<T> tipo) {
+        try {
+            return objectMapper.readValue(response.body(), tipo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Request feignRequest(Request.HttpMethod method, String url) {
+        return Request.create(method, url, new HashMap<>(), null, new RequestTemplate());
+    }
+}
@@ -0,0 +1,102 @@
+package com.plazoleta.plazoleta.infrastructure.out.client.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plazoleta.plazoleta.infraestructure.out.client.dto.UsuarioResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor HTTP local que simula el microservicio de usuarios para pruebas de rendimiento.
+ * Responde GET /api/v1/usuarios/{id} y POST /api/v1/usuarios/lote con usuarios PROPIETARIO,
+ * salvo los IDs negativos, que no existen. Permite simular una latencia fija por petición.
+ */
+public class UsuarioServiceStubServer implements AutoCloseable {
+
+    private static final String BASE_PATH = "/api/v1/usuarios/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong peticiones = new AtomicLong();
+    private final Duration latencia;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public UsuarioServiceStubServer(Duration latencia) throws IOException {
+        this.latencia = latencia;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.createContext(BASE_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getPeticiones() {
+        return peticiones.get();
+    }
+
+    public void reiniciarContador() {
+        peticiones.set(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        peticiones.incrementAndGet();
+        try (exchange) {
+            simularLatencia();
+            String path = exchange.getRequestURI().getPath();
+            String recurso = path.substring(BASE_PATH.length());
+            if ("POST".equals(exchange.getRequestMethod()) && "lote".equals(recurso)) {
+                List<Long> ids = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() { });
+                List<UsuarioResponseDto> usuarios = ids.stream()
+                        .filter(id -> id > 0)
+                        .map(id -> new UsuarioResponseDto(id, "PROPIETARIO"))
+                        .toList();
+                responder(exchange, 200, objectMapper.writeValueAsBytes(usuarios));
+                return;
+            }
+            long id = Long.parseLong(recurso);
+            if (id <= 0) {
+                responder(exchange, 404, "{}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            responder(exchange, 200, objectMapper.writeValueAsBytes(new UsuarioResponseDto(id, "PROPIETARIO")));
+        }
+    }
+
+    private void simularLatencia() {
+        if (latencia.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latencia);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void responder(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
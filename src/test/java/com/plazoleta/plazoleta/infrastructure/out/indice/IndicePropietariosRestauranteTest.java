@@ -0,0 +1,147 @@
+package com.plazoleta.plazoleta.infrastructure.out.indice;
+
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
+import com.plazoleta.plazoleta.infraestructure.out.indice.MapaLongLong;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests Unitarios - IndicePropietariosRestaurante")
+class IndicePropietariosRestauranteTest {
+
+    private RestauranteRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RestauranteRepository.class);
+    }
+
+    @Test
+    @DisplayName("Debe cargar el índice por lotes al iniciar y responder sin consultar la base de datos")
+    void shouldWarmUpInBatches() {
+        List<RestauranteRepository.PropietarioRestaurante> filas = LongStream.rangeClosed(1, 1001)
+                .mapToObj(id -> fila(id, id * 10))
+                .toList();
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenReturn(filas.subList(0, 1000));
+        when(repository.findPropietariosDesde(eq(1000L), any(Limit.class))).thenReturn(filas.subList(1000, 1001));
+
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(repository);
+
+        assertThat(indice.getCantidad()).isEqualTo(1001);
+        assertThat(indice.propietario(1)).isEqualTo(10L);
+        assertThat(indice.propietario(1001)).isEqualTo(10010L);
+        assertThat(indice.getBytes()).isPositive();
+        verify(repository, never()).findPropietarioIdById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos ante un fallo del índice e incorporar el resultado")
+    void shouldFallBackToDatabaseOnMiss() {
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenReturn(List.of());
+        when(repository.findPropietarioIdById(7L)).thenReturn(Optional.of(3L));
+        when(repository.findPropietarioIdById(8L)).thenReturn(Optional.empty());
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(repository);
+
+        assertThat(indice.propietario(7)).isEqualTo(3L);
+        assertThat(indice.propietario(7)).isEqualTo(3L);
+        assertThat(indice.propietario(8)).isEqualTo(MapaLongLong.AUSENTE);
+
+        verify(repository, times(1)).findPropietarioIdById(7L);
+        assertThat(indice.getConsultasBaseDatos()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("La reconstrucción debe conservar los restaurantes registrados mientras se carga")
+    void shouldKeepWritesDuringRebuild() {
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenReturn(List.of(fila(1, 10)));
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(repository);
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenAnswer(invocacion -> {
+            indice.registrar(2, 20);
+            return List.of(fila(1, 11));
+        });
+
+        int cantidad = indice.reconstruir();
+
+        assertThat(cantidad).isEqualTo(2);
+        assertThat(indice.propietario(1)).isEqualTo(11L);
+        assertThat(indice.propietario(2)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("Debe conservar el índice anterior si la reconstrucción falla")
+    void shouldKeepIndexWhenRebuildFails() {
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenReturn(List.of(fila(1, 10)));
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(repository);
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenThrow(new IllegalStateException("sin conexión"));
+
+        assertThatThrownBy(indice::reconstruir).isInstanceOf(IllegalStateException.class);
+        indice.registrar(2, 20);
+
+        assertThat(indice.propietario(1)).isEqualTo(10L);
+        assertThat(indice.propietario(2)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("El mapa primitivo debe crecer y actualizar valores sin perder entradas")
+    void mapShouldGrowAndOverwrite() {
+        MapaLongLong mapa = new MapaLongLong();
+        LongStream.rangeClosed(1, 10_000).forEach(id -> mapa.put(id, -id));
+        mapa.put(5, 55);
+
+        assertThat(mapa.size()).isEqualTo(10_000);
+        assertThat(LongStream.rangeClosed(1, 10_000).filter(id -> id != 5).allMatch(id -> mapa.get(id) == -id)).isTrue();
+        assertThat(mapa.get(5)).isEqualTo(55);
+        assertThat(mapa.get(10_001)).isEqualTo(MapaLongLong.AUSENTE);
+        assertThatThrownBy(() -> mapa.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("El mapa primitivo debe tratar las claves no positivas como ausentes")
+    void mapShouldReportNonPositiveKeysAsMissing() {
+        MapaLongLong mapa = new MapaLongLong();
+        mapa.put(1, 10);
+
+        assertThat(mapa.get(0)).isEqualTo(MapaLongLong.AUSENTE);
+        assertThat(mapa.get(-1)).isEqualTo(MapaLongLong.AUSENTE);
+        assertThat(new MapaLongLong().get(0)).isEqualTo(MapaLongLong.AUSENTE);
+    }
+
+    @Test
+    @DisplayName("Debe reportar como inexistente el restaurante con id 0")
+    void shouldReportRestaurantZeroAsMissing() {
+        when(repository.findPropietariosDesde(eq(0L), any(Limit.class))).thenReturn(List.of(fila(1, 10)));
+        when(repository.findPropietarioIdById(0L)).thenReturn(Optional.empty());
+        IndicePropietariosRestaurante indice = new IndicePropietariosRestaurante(repository);
+
+        assertThat(indice.propietario(0)).isEqualTo(MapaLongLong.AUSENTE);
+    }
+
+    private static RestauranteRepository.PropietarioRestaurante fila(long id, long propietarioId) {
+        return new RestauranteRepository.PropietarioRestaurante() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPropietarioId() {
+                return propietarioId;
+            }
+        };
+    }
+}
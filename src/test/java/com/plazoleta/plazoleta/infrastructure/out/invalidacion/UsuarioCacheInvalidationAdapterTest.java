@@ -0,0 +1,89 @@
+package com.plazoleta.plazoleta.infrastructure.out.invalidacion;
+
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.out.client.adapter.UsuarioCacheAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.invalidacion.LoopbackInvalidacionUsuariosBus;
+import com.plazoleta.plazoleta.infraestructure.out.invalidacion.UsuarioCacheInvalidationAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioCacheInvalidationAdapter")
+class UsuarioCacheInvalidationAdapterTest {
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    private LoopbackInvalidacionUsuariosBus bus;
+    private UsuarioCacheInvalidationAdapter nodoA;
+    private UsuarioCacheInvalidationAdapter nodoB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LoopbackInvalidacionUsuariosBus();
+        nodoA = new UsuarioCacheInvalidationAdapter(bus);
+        nodoB = new UsuarioCacheInvalidationAdapter(bus);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar las cachés locales y las de los demás nodos")
+    void shouldEvictLocalAndPeerCaches() {
+        UsuarioCacheAdapter cacheA = new UsuarioCacheAdapter(delegate, 100, Duration.ofHours(1));
+        UsuarioCacheAdapter cacheB = new UsuarioCacheAdapter(delegate, 100, Duration.ofHours(1));
+        nodoA.registrar(cacheA::invalidar);
+        nodoB.registrar(cacheB::invalidar);
+        when(delegate.getUserById(1L))
+                .thenReturn(new UsuarioModelo(1L, "PROPIETARIO"))
+                .thenReturn(new UsuarioModelo(1L, "PROPIETARIO"))
+                .thenReturn(new UsuarioModelo(1L, "CLIENTE"));
+        cacheA.getUserById(1L);
+        cacheB.getUserById(1L);
+
+        nodoA.invalidarUsuarios(Set.of(1L));
+
+        assertThat(cacheA.getUserById(1L).getRole()).isEqualTo("CLIENTE");
+        assertThat(cacheB.getUsuarios().getIfPresent(1L)).isNull();
+        verify(delegate, times(3)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar una sola vez la invalidación en el nodo que la publica")
+    void shouldNotReapplyOwnMessages() {
+        List<Long> invalidadosA = new ArrayList<>();
+        List<Long> invalidadosB = new ArrayList<>();
+        nodoA.registrar(invalidadosA::add);
+        nodoB.registrar(invalidadosB::add);
+
+        nodoA.invalidarUsuarios(Set.of(7L));
+
+        assertThat(invalidadosA).containsExactly(7L);
+        assertThat(invalidadosB).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Debe seguir entregando el mensaje aunque un suscriptor falle")
+    void shouldDeliverDespiteFailingSubscriber() {
+        List<Long> invalidadosB = new ArrayList<>();
+        bus.suscribir(invalidacion -> {
+            throw new IllegalStateException("suscriptor caído");
+        });
+        nodoB.registrar(invalidadosB::add);
+
+        nodoA.invalidarUsuarios(Set.of(3L));
+
+        assertThat(invalidadosB).containsExactly(3L);
+    }
+}
@@ -1,6 +1,11 @@
 package com.plazoleta.plazoleta.infrastructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.AjustePrecios;
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
 import com.plazoleta.plazoleta.domain.model.Plato;
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+import com.plazoleta.plazoleta.domain.model.TipoAjustePrecio;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.PlatoJpaAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.PlatoEntityMapper;
@@ -13,6 +18,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -263,4 +271,72 @@ class PlatoJpaAdapterTest {
         orderVerifier.verify(dishEntityMapper).toEntity(validDish);
         orderVerifier.verify(dishRepository).save(dishEntity);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debería guardar todos los platos en una llamada y retornarlos con su id")
+    void shouldSaveAllDishesInOneCall() {
+        // Given
+        Plato guardado = new Plato(1L, "Hamburguesa Especial", 25000, "Carne artesanal con queso cheddar",
+                "http://img.com/burger.png", "COMIDA_RAPIDA", 10L, true);
+        when(dishEntityMapper.toEntity(validDish)).thenReturn(dishEntity);
+        when(dishRepository.saveAll(List.of(dishEntity))).thenReturn(List.of(dishEntity));
+        when(dishEntityMapper.toDomain(dishEntity)).thenReturn(guardado);
+
+        // When
+        List<Plato> result = dishJpaAdapter.saveAll(List.of(validDish));
+
+        // Then
+        assertEquals(List.of(guardado), result);
+        verify(dishRepository).saveAll(List.of(dishEntity));
+    }
+
+    @Test
+    @DisplayName("Debería delegar la actualización condicional y retornar las filas actualizadas")
+    void shouldDelegateConditionalUpdate() {
+        // Given
+        when(dishRepository.actualizarPrecioYDescripcion(1L, 18000, "Nueva desc", 7L)).thenReturn(1);
+
+        // When
+        int filas = dishJpaAdapter.actualizarPrecioYDescripcion(1L, 18000, "Nueva desc", 7L);
+
+        // Then
+        assertEquals(1, filas);
+    }
+
+    @Test
+    @DisplayName("Debería resolver la propiedad del plato a partir del propietario de su restaurante")
+    void shouldResolveDishOwnership() {
+        when(dishRepository.findPropietarioIdByPlatoId(1L)).thenReturn(Optional.of(7L));
+        when(dishRepository.findPropietarioIdByPlatoId(2L)).thenReturn(Optional.empty());
+
+        assertEquals(EstadoPropiedadRestaurante.PROPIO, dishJpaAdapter.verificarPropiedadPlato(1L, 7L));
+        assertEquals(EstadoPropiedadRestaurante.AJENO, dishJpaAdapter.verificarPropiedadPlato(1L, 8L));
+        assertEquals(EstadoPropiedadRestaurante.NO_EXISTE, dishJpaAdapter.verificarPropiedadPlato(2L, 7L));
+    }
+
+    @Test
+    @DisplayName("Debería traducir el ajuste de precios a factor e incremento")
+    void shouldTranslateAdjustmentToFactorAndIncrement() {
+        // Given
+        AjustePrecios ajuste = new AjustePrecios(10L, TipoAjustePrecio.VALOR, BigDecimal.valueOf(-2000),
+                "PIZZA", 5000, 50000);
+        when(dishRepository.ajustarPrecios(10L, BigDecimal.ONE, -2000, "PIZZA", 5000, 50000)).thenReturn(3);
+
+        // When & Then
+        assertEquals(3, dishJpaAdapter.ajustarPrecios(ajuste));
+    }
+
+    @Test
+    @DisplayName("Debería listar la primera página del menú sin cursor y las siguientes desde el cursor")
+    void shouldListMenuFirstPageAndFromCursor() {
+        // Given
+        List<PlatoMenu> menu = List.of(new PlatoMenu(1L, "Pizza", 30000, "Napolitana", "http://img.com/pizza.png",
+                "PIZZA", true));
+        when(dishRepository.findMenu(10L, "PIZZA", true, Limit.of(21))).thenReturn(menu);
+        when(dishRepository.findMenuDespues(10L, null, null, "BEBIDAS", 4L, Limit.of(21))).thenReturn(List.of());
+
+        // When & Then
+        assertEquals(menu, dishJpaAdapter.listarMenu(10L, "PIZZA", true, null, 21));
+        assertTrue(dishJpaAdapter.listarMenu(10L, null, null, new CursorPagina("BEBIDAS", 4L), 21).isEmpty());
+    }
+}
@@ -1,6 +1,9 @@
 package com.plazoleta.plazoleta.infrastructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.CursorPagina;
 import com.plazoleta.plazoleta.domain.model.Restaurante;
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.RestauranteJpaAdapter;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.RestauranteEntityMapper;
@@ -11,7 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -131,4 +139,37 @@ class RestauranteJpaAdapterTest {
         verify(mapper, times(2)).toEntity(any(Restaurante.class));
         verify(repository, times(2)).save(any(RestauranteEntity.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe registrar el restaurante guardado en el índice de propietarios")
+    void shouldWriteThroughToOwnerIndex() {
+        // Arrange
+        IndicePropietariosRestaurante indice = mock(IndicePropietariosRestaurante.class);
+        RestauranteJpaAdapter conIndice = new RestauranteJpaAdapter(repository, mapper, indice);
+        RestauranteEntity guardado = new RestauranteEntity();
+        guardado.setId(25L);
+        guardado.setPropietarioId(1L);
+        when(mapper.toEntity(validRestaurant)).thenReturn(validEntity);
+        when(repository.save(validEntity)).thenReturn(guardado);
+
+        // Act
+        conIndice.save(validRestaurant);
+
+        // Assert
+        verify(indice).registrar(25L, 1L);
+    }
+
+    @Test
+    @DisplayName("Debe listar la primera página del directorio sin cursor y las siguientes desde el cursor")
+    void shouldListDirectoryFirstPageAndFromCursor() {
+        // Arrange
+        List<RestauranteDirectorio> directorio = List.of(
+                new RestauranteDirectorio(3L, "La Arepa Feliz", "https://ejemplo.com/logo.png"));
+        when(repository.findDirectorio(Limit.of(21))).thenReturn(directorio);
+        when(repository.findDirectorioDespues("La Arepa Feliz", 3L, Limit.of(21))).thenReturn(List.of());
+
+        // Act & Assert
+        assertEquals(directorio, adapter.listarDirectorio(null, 21));
+        assertTrue(adapter.listarDirectorio(new CursorPagina("La Arepa Feliz", 3L), 21).isEmpty());
+    }
+}
@@ -1,7 +1,9 @@
 package com.plazoleta.plazoleta.infrastructure.out.jpa.adapter;
 
+import com.plazoleta.plazoleta.domain.model.EstadoPropiedadRestaurante;
+import com.plazoleta.plazoleta.infraestructure.out.indice.IndicePropietariosRestaurante;
+import com.plazoleta.plazoleta.infraestructure.out.indice.MapaLongLong;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.RestauranteValidationJpaAdapter;
-import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
 import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,10 +12,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.util.List;
 import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +33,6 @@ class RestauranteValidationJpaAdapterTest {
     @InjectMocks
     private RestauranteValidationJpaAdapter restaurantValidationJpaAdapter;
 
-    private RestauranteEntity restaurantEntity;
     private Long restaurantId;
     private Long propietarioId;
 
@@ -33,104 +40,51 @@ class RestauranteValidationJpaAdapterTest {
     void setUp() {
         restaurantId = 10L;
         propietarioId = 1L;
-
-        restaurantEntity = new RestauranteEntity();
-        restaurantEntity.setId(restaurantId);
-        restaurantEntity.setNombre("Restaurante Test");
-        restaurantEntity.setDireccion("Calle 123");
-        restaurantEntity.setPropietarioId(propietarioId);
-        restaurantEntity.setTelefono("+573001234567");
-        restaurantEntity.setUrlLogo("http://logo.com/test.png");
-        restaurantEntity.setNit("900123456");
     }
 
     @Test
-    @DisplayName("Debería retornar true cuando el restaurante pertenece al propietario")
-    void shouldReturnTrueWhenRestaurantBelongsToOwner() {
+    @DisplayName("Debería retornar PROPIO cuando el restaurante pertenece al propietario")
+    void shouldReturnOwnedWhenRestaurantBelongsToOwner() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.findPropietarioIdById(restaurantId)).thenReturn(Optional.of(propietarioId));
 
         // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, propietarioId);
+        EstadoPropiedadRestaurante result = restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, propietarioId);
 
         // Then
-        assertTrue(result);
-        verify(restaurantRepository).findById(restaurantId);
+        assertEquals(EstadoPropiedadRestaurante.PROPIO, result);
+        verify(restaurantRepository).findPropietarioIdById(restaurantId);
+        verifyNoMoreInteractions(restaurantRepository);
     }
 
     @Test
-    @DisplayName("Debería retornar false cuando el restaurante no pertenece al propietario")
-    void shouldReturnFalseWhenRestaurantDoesNotBelongToOwner() {
+    @DisplayName("Debería retornar AJENO cuando el restaurante no pertenece al propietario")
+    void shouldReturnNotOwnedWhenRestaurantDoesNotBelongToOwner() {
         // Given
         Long differentPropietarioId = 999L;
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-
-        // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, differentPropietarioId);
-
-        // Then
-        assertFalse(result);
-        verify(restaurantRepository).findById(restaurantId);
-    }
-
-    @Test
-    @DisplayName("Debería retornar false cuando el restaurante no existe")
-    void shouldReturnFalseWhenRestaurantDoesNotExist() {
-        // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
-
-        // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, propietarioId);
-
-        // Then
-        assertFalse(result);
-        verify(restaurantRepository).findById(restaurantId);
-    }
-
-    @Test
-    @DisplayName("Debería retornar true cuando el restaurante existe")
-    void shouldReturnTrueWhenRestaurantExists() {
-        // Given
-        when(restaurantRepository.existsById(restaurantId)).thenReturn(true);
-
-        // When
-        boolean result = restaurantValidationJpaAdapter.restauranteExiste(restaurantId);
-
-        // Then
-        assertTrue(result);
-        verify(restaurantRepository).existsById(restaurantId);
-    }
-
-    @Test
-    @DisplayName("Debería retornar false cuando el restaurante no existe")
-    void shouldReturnFalseWhenRestaurantDoesNotExistInExistsMethod() {
-        // Given
-        when(restaurantRepository.existsById(restaurantId)).thenReturn(false);
+        when(restaurantRepository.findPropietarioIdById(restaurantId)).thenReturn(Optional.of(propietarioId));
 
         // When
-        boolean result = restaurantValidationJpaAdapter.restauranteExiste(restaurantId);
+        EstadoPropiedadRestaurante result =
+                restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, differentPropietarioId);
 
         // Then
-        assertFalse(result);
-        verify(restaurantRepository).existsById(restaurantId);
+        assertEquals(EstadoPropiedadRestaurante.AJENO, result);
     }
 
     @Test
-    @DisplayName("Debería validar correctamente con diferentes IDs de restaurante")
-    void shouldValidateWithDifferentRestaurantIds() {
+    @DisplayName("Debería retornar NO_EXISTE cuando el restaurante no existe")
+    void shouldReturnMissingWhenRestaurantDoesNotExist() {
         // Given
-        Long anotherRestaurantId = 42L;
-        RestauranteEntity anotherRestaurant = new RestauranteEntity();
-        anotherRestaurant.setId(anotherRestaurantId);
-        anotherRestaurant.setPropietarioId(propietarioId);
-
-        when(restaurantRepository.findById(anotherRestaurantId)).thenReturn(Optional.of(anotherRestaurant));
+        when(restaurantRepository.findPropietarioIdById(restaurantId)).thenReturn(Optional.empty());
 
         // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(anotherRestaurantId, propietarioId);
+        EstadoPropiedadRestaurante result = restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, propietarioId);
 
         // Then
-        assertTrue(result);
+        assertEquals(EstadoPropiedadRestaurante.NO_EXISTE, result);
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).existsById(any());
     }
 
     @Test
@@ -138,58 +92,72 @@ class RestauranteValidationJpaAdapterTest {
     void shouldValidateWithDifferentPropietarioIds() {
         // Given
         Long anotherPropietarioId = 42L;
-        restaurantEntity.setPropietarioId(anotherPropietarioId);
-
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.findPropietarioIdById(restaurantId)).thenReturn(Optional.of(anotherPropietarioId));
 
         // When
-        boolean resultCorrect = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, anotherPropietarioId);
-        boolean resultIncorrect = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, propietarioId);
+        EstadoPropiedadRestaurante resultCorrect =
+                restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, anotherPropietarioId);
+        EstadoPropiedadRestaurante resultIncorrect =
+                restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, propietarioId);
 
         // Then
-        assertTrue(resultCorrect);
-        assertFalse(resultIncorrect);
+        assertEquals(EstadoPropiedadRestaurante.PROPIO, resultCorrect);
+        assertEquals(EstadoPropiedadRestaurante.AJENO, resultIncorrect);
     }
 
     @Test
-    @DisplayName("Debería manejar IDs nulos correctamente en belongsToOwner")
-    void shouldHandleNullIdsInBelongsToOwner() {
-        // Given
-        when(restaurantRepository.findById(null)).thenReturn(Optional.empty());
-
+    @DisplayName("Debería retornar NO_EXISTE sin consultar cuando el ID del restaurante es nulo")
+    void shouldHandleNullRestaurantId() {
         // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(null, propietarioId);
+        EstadoPropiedadRestaurante result = restaurantValidationJpaAdapter.verificarPropiedad(null, propietarioId);
 
         // Then
-        assertFalse(result);
+        assertEquals(EstadoPropiedadRestaurante.NO_EXISTE, result);
+        verifyNoMoreInteractions(restaurantRepository);
     }
 
     @Test
-    @DisplayName("Debería manejar IDs nulos correctamente en exists")
-    void shouldHandleNullIdsInExists() {
+    @DisplayName("Debería comparar IDs correctamente usando equals")
+    void shouldCompareIdsUsingEquals() {
         // Given
-        when(restaurantRepository.existsById(null)).thenReturn(false);
+        when(restaurantRepository.findPropietarioIdById(restaurantId)).thenReturn(Optional.of(Long.valueOf(1000)));
 
         // When
-        boolean result = restaurantValidationJpaAdapter.restauranteExiste(null);
+        EstadoPropiedadRestaurante result = restaurantValidationJpaAdapter.verificarPropiedad(restaurantId, 1000L);
 
         // Then
-        assertFalse(result);
+        assertEquals(EstadoPropiedadRestaurante.PROPIO, result);
     }
 
     @Test
-    @DisplayName("Debería comparar IDs correctamente usando equals")
-    void shouldCompareIdsUsingEquals() {
+    @DisplayName("Debería resolver la propiedad con el índice en memoria cuando está configurado")
+    void shouldUseOwnerIndexWhenConfigured() {
         // Given
-        Long propietarioIdAsLong = Long.valueOf(1);
-        restaurantEntity.setPropietarioId(propietarioIdAsLong);
-
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-
-        // When
-        boolean result = restaurantValidationJpaAdapter.restaurantePerteneceAPropietario(restaurantId, 1L);
+        IndicePropietariosRestaurante indice = mock(IndicePropietariosRestaurante.class);
+        when(indice.propietario(restaurantId)).thenReturn(propietarioId);
+        when(indice.propietario(99L)).thenReturn(MapaLongLong.AUSENTE);
+        RestauranteValidationJpaAdapter conIndice = new RestauranteValidationJpaAdapter(restaurantRepository, indice);
+
+        // When & Then
+        assertEquals(EstadoPropiedadRestaurante.PROPIO, conIndice.verificarPropiedad(restaurantId, propietarioId));
+        assertEquals(EstadoPropiedadRestaurante.AJENO, conIndice.verificarPropiedad(restaurantId, 2L));
+        assertEquals(EstadoPropiedadRestaurante.AJENO, conIndice.verificarPropiedad(restaurantId, null));
+        assertEquals(EstadoPropiedadRestaurante.NO_EXISTE, conIndice.verificarPropiedad(99L, propietarioId));
+        verifyNoMoreInteractions(restaurantRepository);
+    }
 
-        // Then
-        assertTrue(result);
+    @Test
+    @DisplayName("Debería retornar NO_EXISTE para el restaurante con ID 0 usando el índice en memoria")
+    void shouldReturnMissingForRestaurantZeroWithOwnerIndex() {
+        // Given
+        when(restaurantRepository.findPropietariosDesde(any(Long.class), any(Limit.class)))
+                .thenReturn(List.of());
+        when(restaurantRepository.findPropietarioIdById(0L)).thenReturn(Optional.empty());
+        RestauranteValidationJpaAdapter conIndice = new RestauranteValidationJpaAdapter(
+                restaurantRepository, new IndicePropietariosRestaurante(restaurantRepository));
+
+        // When & Then
+        assertEquals(EstadoPropiedadRestaurante.NO_EXISTE, conIndice.verificarPropiedad(0L, propietarioId));
+        assertFalse(conIndice.existe(0L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.adapter;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.adapter.TokenRevocadoJpaAdapter;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.TokenRevocadoEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.mapper.TokenRevocadoEntityMapper;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.TokenRevocadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.time.Instant;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocadoJpaAdapterTest {
+
+    @Mock
+    private TokenRevocadoRepository repository;
+
+    @Mock
+    private TokenRevocadoEntityMapper mapper;
+
+    @InjectMocks
+    private TokenRevocadoJpaAdapter adapter;
+
+    private TokenRevocado revocado;
+    private TokenRevocadoEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        revocado = new TokenRevocado("jti-1", Instant.parse("2100-01-01T00:00:00Z"));
+        entity = new TokenRevocadoEntity();
+        entity.setJti("jti-1");
+    }
+
+    @Test
+    @DisplayName("No debería insertar un jti ya revocado")
+    void shouldSkipAlreadyRevokedJti() {
+        // Given
+        when(repository.existsByJti("jti-1")).thenReturn(true);
+
+        // When
+        adapter.guardar(revocado);
+
+        // Then
+        verify(repository, never()).save(entity);
+    }
+
+    @Test
+    @DisplayName("Debería ignorar la violación de unicidad cuando otro nodo revocó el mismo jti")
+    void shouldIgnoreConcurrentDuplicateJti() {
+        // Given
+        when(repository.existsByJti("jti-1")).thenReturn(false, true);
+        when(mapper.toEntity(revocado)).thenReturn(entity);
+        when(repository.save(entity)).thenThrow(new DataIntegrityViolationException("uk_token_revocado_jti"));
+
+        // When & Then
+        assertDoesNotThrow(() -> adapter.guardar(revocado));
+    }
+
+    @Test
+    @DisplayName("Debería propagar las violaciones de integridad que no son un jti duplicado")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        DataIntegrityViolationException error = new DataIntegrityViolationException("expira_en no puede ser nulo");
+        when(repository.existsByJti("jti-1")).thenReturn(false);
+        when(mapper.toEntity(revocado)).thenReturn(entity);
+        when(repository.save(entity)).thenThrow(error);
+
+        // When & Then
+        assertSame(error, assertThrows(DataIntegrityViolationException.class, () -> adapter.guardar(revocado)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.benchmark;
+
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.PlatoRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserta 10.000 platos en la base H2 de pruebas con ids de secuencia (lotes JDBC) y con ids
+ * IDENTITY (una sentencia por fila), sobre el esquema creado por las migraciones.
+ * Se ejecuta con {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("Benchmark - Inserción de platos por lotes")
+class InsercionPlatosBenchmarkTest {
+
+    private static final int PLATOS = 10_000;
+
+    @Nested
+    @DisplayName("Ids de secuencia pooled-lo con lotes JDBC")
+    class ConSecuencia {
+
+        @Autowired
+        private PlatoRepository platoRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Test
+        @DisplayName("Debe insertar en lotes con pocas sentencias preparadas")
+        void shouldInsertInBatches() {
+            Statistics estadisticas = insertar("secuencia", platoRepository, entityManager);
+
+            assertThat(estadisticas.getEntityInsertCount()).isEqualTo(PLATOS);
+            assertThat(estadisticas.getPrepareStatementCount()).isLessThan(PLATOS / 10);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.jpa.mapping-resources=benchmark/plato-identity-orm.xml")
+    @DisplayName("Ids IDENTITY sin lotes")
+    class ConIdentity {
+
+        @Autowired
+        private PlatoRepository platoRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Test
+        @DisplayName("Debe ejecutar una sentencia por plato")
+        void shouldInsertOneByOne() {
+            Statistics estadisticas = insertar("identity", platoRepository, entityManager);
+
+            assertThat(estadisticas.getEntityInsertCount()).isEqualTo(PLATOS);
+            assertThat(estadisticas.getPrepareStatementCount()).isGreaterThanOrEqualTo(PLATOS);
+        }
+    }
+
+    private static Statistics insertar(String modo, PlatoRepository platoRepository, EntityManager entityManager) {
+        List<PlatoEntity> platos = new ArrayList<>(PLATOS);
+        for (int i = 0; i < PLATOS; i++) {
+            platos.add(new PlatoEntity(null, "Plato " + i, 10_000 + i, "Descripción " + i,
+                    "http://img.com/" + i + ".png", "PRINCIPAL", true, 1L + i % 20));
+        }
+        Statistics estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        long inicio = System.nanoTime();
+        platoRepository.saveAll(platos);
+        entityManager.flush();
+        long nanos = System.nanoTime() - inicio;
+
+        System.out.printf("Inserción con %s: %d platos en %d ms (%.0f platos/s), %d sentencias preparadas%n",
+                modo, PLATOS, nanos / 1_000_000, PLATOS * 1e9 / nanos, estadisticas.getPrepareStatementCount());
+        return estadisticas;
+    }
+}
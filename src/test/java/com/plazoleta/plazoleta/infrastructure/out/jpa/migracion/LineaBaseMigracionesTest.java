@@ -0,0 +1,73 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.migracion;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migra una base que ya tenía el esquema previo a Flyway (creado por Hibernate) con la misma
+ * configuración de línea base que application.yaml: V1 se marca sin ejecutarse y el resto debe
+ * completar el esquema sin perder datos.
+ */
+class LineaBaseMigracionesTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:linea-base-" + System.nanoTime()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE restaurante (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "nombre VARCHAR(100) NOT NULL, direccion VARCHAR(200) NOT NULL, propietario_id BIGINT NOT NULL, "
+                + "telefono VARCHAR(13) NOT NULL, url_logo VARCHAR(500), nit VARCHAR(20) NOT NULL, "
+                + "CONSTRAINT uk_restaurante_nit UNIQUE (nit))");
+        jdbcTemplate.execute("CREATE TABLE plato (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "nombre VARCHAR(100) NOT NULL, precio INTEGER NOT NULL, descripcion VARCHAR(500) NOT NULL, "
+                + "url_imagen VARCHAR(255) NOT NULL, categoria VARCHAR(50) NOT NULL, activo BOOLEAN NOT NULL, "
+                + "restaurante_id BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO restaurante (id, nombre, direccion, propietario_id, telefono, url_logo, nit) "
+                + "VALUES (42, 'La Esquina', 'Calle 1 # 2-3', 7, '+573001234567', 'http://img.com/logo.png', '900123456')");
+        jdbcTemplate.update("INSERT INTO plato (id, nombre, precio, descripcion, url_imagen, categoria, activo, "
+                + "restaurante_id) VALUES (99, 'Hamburguesa', 25000, 'Carne artesanal', 'http://img.com/burger.png', "
+                + "'COMIDA_RAPIDA', TRUE, 42)");
+    }
+
+    @Test
+    @DisplayName("Debería tomar la base existente como línea base V1 y aplicar las migraciones posteriores")
+    void shouldBaselineExistingDatabaseAndMigrate() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .locations("classpath:db/migration",
+                        "classpath:com/plazoleta/plazoleta/infraestructure/out/jpa/migracion")
+                .placeholders(Map.of("incremento_ids", "50"))
+                .load();
+
+        flyway.migrate();
+
+        MigrationInfo[] aplicadas = flyway.info().applied();
+        assertThat(aplicadas[0].getType().isBaseline()).isTrue();
+        List<String> versiones = Arrays.stream(aplicadas).map(info -> info.getVersion().toString()).toList();
+        assertThat(versiones).containsExactly("1", "1.1", "2", "3", "4");
+        assertThat(flyway.info().pending()).isEmpty();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token_revocado", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT nombre FROM plato WHERE id = 99", String.class))
+                .isEqualTo("Hamburguesa");
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR restaurante_seq", Long.class)).isEqualTo(43L);
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR plato_seq", Long.class)).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.migracion;
+
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.PlatoRepository;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Arrays;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aplica las migraciones sobre H2 en modo PostgreSQL y arranca JPA con {@code ddl-auto=validate}: si
+ * una entidad no coincide con el esquema migrado, el contexto no levanta.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migraciones;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MigracionesEsquemaTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private PlatoRepository platoRepository;
+
+    @Test
+    @DisplayName("Debería aplicar todas las migraciones versionadas sin dejar pendientes")
+    void shouldApplyAllMigrations() {
+        List<String> aplicadas = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertThat(aplicadas).containsExactly("1", "1.1", "2", "3", "4");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería crear los índices de los patrones de acceso")
+    void shouldCreateAccessPatternIndexes() {
+        assertThat(indices("plato")).contains("idx_plato_restaurante_categoria_id");
+        assertThat(indices("restaurante")).contains("idx_restaurante_nombre_id_logo");
+    }
+
+    @Test
+    @DisplayName("Debería guardar y leer entidades sobre el esquema migrado")
+    void shouldPersistEntitiesOnMigratedSchema() {
+        Long restauranteId = restauranteRepository.save(new RestauranteEntity(null, "La Esquina", "Calle 1 # 2-3",
+                7L, "+573001234567", "http://img.com/logo.png", "900123456")).getId();
+        Long platoId = platoRepository.save(new PlatoEntity(null, "Hamburguesa", 25000, "Carne artesanal",
+                "http://img.com/burger.png", "COMIDA_RAPIDA", true, restauranteId)).getId();
+        platoRepository.flush();
+
+        assertThat(restauranteRepository.findPropietarioIdById(restauranteId)).contains(7L);
+        assertThat(platoRepository.findById(platoId)).isPresent();
+    }
+
+    private List<String> indices(String tabla) {
+        return jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where lower(table_name) = ?",
+                String.class, tabla);
+    }
+}
@@ -0,0 +1,173 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.repository;
+
+import com.plazoleta.plazoleta.domain.model.PlatoMenu;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.PlatoEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.PlatoRepository;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class PlatoRepositoryTest {
+
+    private static final Long PROPIETARIO_ID = 7L;
+
+    @Autowired
+    private PlatoRepository platoRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long platoId;
+    private Long restauranteId;
+
+    @BeforeEach
+    void setUp() {
+        RestauranteEntity restaurante = restauranteRepository.save(new RestauranteEntity(null, "La Esquina",
+                "Calle 1 # 2-3", PROPIETARIO_ID, "+573001234567", "http://img.com/logo.png", "900123456"));
+        restauranteId = restaurante.getId();
+        platoId = platoRepository.save(new PlatoEntity(null, "Hamburguesa", 25000, "Carne artesanal",
+                "http://img.com/burger.png", "COMIDA_RAPIDA", true, restauranteId)).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debería actualizar precio y descripción cuando el plato es del propietario")
+    void shouldUpdateWhenOwnerMatches() {
+        int filas = platoRepository.actualizarPrecioYDescripcion(platoId, 18000, "Con tocineta", PROPIETARIO_ID);
+        entityManager.clear();
+
+        assertThat(filas).isEqualTo(1);
+        PlatoEntity plato = platoRepository.findById(platoId).orElseThrow();
+        assertThat(plato.getPrecio()).isEqualTo(18000);
+        assertThat(plato.getDescripcion()).isEqualTo("Con tocineta");
+        assertThat(plato.getNombre()).isEqualTo("Hamburguesa");
+    }
+
+    @Test
+    @DisplayName("No debería actualizar cuando el restaurante es de otro propietario")
+    void shouldNotUpdateWhenOwnerDiffers() {
+        int filas = platoRepository.actualizarPrecioYDescripcion(platoId, 18000, "Con tocineta", 99L);
+        entityManager.clear();
+
+        assertThat(filas).isZero();
+        assertThat(platoRepository.findById(platoId).orElseThrow().getPrecio()).isEqualTo(25000);
+    }
+
+    @Test
+    @DisplayName("No debería actualizar cuando el plato no existe")
+    void shouldNotUpdateWhenDishDoesNotExist() {
+        assertThat(platoRepository.actualizarPrecioYDescripcion(platoId + 1000, 18000, "Con tocineta", PROPIETARIO_ID))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Debería obtener el propietario del restaurante de un plato")
+    void shouldFindOwnerOfDish() {
+        assertThat(platoRepository.findPropietarioIdByPlatoId(platoId)).contains(PROPIETARIO_ID);
+        assertThat(platoRepository.findPropietarioIdByPlatoId(platoId + 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería ajustar por porcentaje solo los platos activos que cumplen los filtros")
+    void shouldAdjustActiveDishesMatchingFilters() {
+        Long pizza = guardarPlato("Pizza", 30000, "PIZZA", true);
+        Long inactiva = guardarPlato("Pizza vieja", 30000, "PIZZA", false);
+        Long cara = guardarPlato("Pizza gourmet", 80000, "PIZZA", true);
+
+        int filas = platoRepository.ajustarPrecios(restauranteId, new BigDecimal("1.105"), 0, "PIZZA", null, 50000);
+        entityManager.clear();
+
+        assertThat(filas).isEqualTo(1);
+        assertThat(precio(pizza)).isEqualTo(33150);
+        assertThat(precio(inactiva)).isEqualTo(30000);
+        assertThat(precio(cara)).isEqualTo(80000);
+        assertThat(precio(platoId)).isEqualTo(25000);
+    }
+
+    @Test
+    @DisplayName("Debería dejar sin cambios los platos cuyo precio no quedaría mayor a cero")
+    void shouldSkipDishesThatWouldNotStayPositive() {
+        Long gaseosa = guardarPlato("Gaseosa", 3000, "BEBIDAS", true);
+
+        int filas = platoRepository.ajustarPrecios(restauranteId, BigDecimal.ONE, -5000, null, null, null);
+        entityManager.clear();
+
+        assertThat(filas).isEqualTo(1);
+        assertThat(precio(platoId)).isEqualTo(20000);
+        assertThat(precio(gaseosa)).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("Debería dejar sin cambios los platos cuyo precio ajustado no cabe en un entero")
+    void shouldSkipDishesThatWouldOverflowInteger() {
+        Long caro = guardarPlato("Menú degustación", 2_000_000_000, "GOURMET", true);
+
+        int filas = platoRepository.ajustarPrecios(restauranteId, new BigDecimal("1.5"), 0, null, null, null);
+        entityManager.clear();
+
+        assertThat(filas).isEqualTo(1);
+        assertThat(precio(caro)).isEqualTo(2_000_000_000);
+        assertThat(precio(platoId)).isEqualTo(37500);
+    }
+
+    @Test
+    @DisplayName("Debería recorrer el menú por cursor en orden de categoría e id sin repetir ni saltar platos")
+    void shouldWalkMenuByKeysetWithoutGapsOrDuplicates() {
+        Long bebida = guardarPlato("Limonada", 6000, "BEBIDAS", true);
+        Long pizza1 = guardarPlato("Pizza", 30000, "PIZZA", true);
+        Long pizza2 = guardarPlato("Pizza hawaiana", 32000, "PIZZA", false);
+        Long pizza3 = guardarPlato("Pizza vegetariana", 31000, "PIZZA", true);
+        entityManager.clear();
+
+        List<Long> ids = new ArrayList<>();
+        List<PlatoMenu> pagina = platoRepository.findMenu(restauranteId, null, null, Limit.of(2));
+        while (!pagina.isEmpty()) {
+            pagina.forEach(plato -> ids.add(plato.id()));
+            PlatoMenu ultimo = pagina.get(pagina.size() - 1);
+            pagina = platoRepository.findMenuDespues(restauranteId, null, null, ultimo.categoria(), ultimo.id(),
+                    Limit.of(2));
+        }
+
+        assertThat(ids).containsExactly(bebida, platoId, pizza1, pizza2, pizza3);
+    }
+
+    @Test
+    @DisplayName("Debería aplicar los filtros de categoría y activo al listar el menú")
+    void shouldFilterMenuByCategoryAndActive() {
+        guardarPlato("Limonada", 6000, "BEBIDAS", true);
+        Long pizza1 = guardarPlato("Pizza", 30000, "PIZZA", true);
+        guardarPlato("Pizza hawaiana", 32000, "PIZZA", false);
+        entityManager.clear();
+
+        List<PlatoMenu> menu = platoRepository.findMenu(restauranteId, "PIZZA", true, Limit.of(10));
+
+        assertThat(menu).extracting(PlatoMenu::id).containsExactly(pizza1);
+        assertThat(menu.get(0).precio()).isEqualTo(30000);
+    }
+
+    private Long guardarPlato(String nombre, int precio, String categoria, boolean activo) {
+        Long id = platoRepository.save(new PlatoEntity(null, nombre, precio, nombre, "http://img.com/plato.png",
+                categoria, activo, restauranteId)).getId();
+        entityManager.flush();
+        return id;
+    }
+
+    private Integer precio(Long id) {
+        return platoRepository.findById(id).orElseThrow().getPrecio();
+    }
+}
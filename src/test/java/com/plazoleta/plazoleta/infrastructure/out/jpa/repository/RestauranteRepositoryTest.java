@@ -0,0 +1,53 @@
+package com.plazoleta.plazoleta.infrastructure.out.jpa.repository;
+
+import com.plazoleta.plazoleta.domain.model.RestauranteDirectorio;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.entity.RestauranteEntity;
+import com.plazoleta.plazoleta.infraestructure.out.jpa.repository.RestauranteRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class RestauranteRepositoryTest {
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private int nits;
+
+    @Test
+    @DisplayName("Debería recorrer el directorio por cursor en orden de nombre e id sin repetir ni saltar restaurantes")
+    void shouldWalkDirectoryByKeysetWithoutGapsOrDuplicates() {
+        Long pizzeria = guardarRestaurante("Pizzería Roma");
+        Long esquina1 = guardarRestaurante("La Esquina");
+        Long arepa = guardarRestaurante("Arepas Don Luis");
+        Long esquina2 = guardarRestaurante("La Esquina");
+        entityManager.clear();
+
+        List<Long> ids = new ArrayList<>();
+        List<RestauranteDirectorio> pagina = restauranteRepository.findDirectorio(Limit.of(2));
+        while (!pagina.isEmpty()) {
+            pagina.forEach(restaurante -> ids.add(restaurante.id()));
+            RestauranteDirectorio ultimo = pagina.get(pagina.size() - 1);
+            pagina = restauranteRepository.findDirectorioDespues(ultimo.nombre(), ultimo.id(), Limit.of(2));
+        }
+
+        assertThat(ids).containsExactly(arepa, esquina1, esquina2, pizzeria);
+    }
+
+    private Long guardarRestaurante(String nombre) {
+        Long id = restauranteRepository.save(new RestauranteEntity(null, nombre, "Calle 1 # 2-3", 7L,
+                "+573001234567", "http://img.com/logo.png", String.valueOf(900000000 + nits++))).getId();
+        entityManager.flush();
+        return id;
+    }
+}
@@ -0,0 +1,146 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import com.plazoleta.plazoleta.infraestructure.security.CacheVerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.TokenInvalidoException;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import com.plazoleta.plazoleta.infraestructure.security.VerificadorToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - CacheVerificadorToken")
+class CacheVerificadorTokenTest {
+
+    private static final Instant INICIO = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private VerificadorToken delegate;
+
+    private AtomicLong nanos;
+    private CacheVerificadorToken verificador;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        verificador = new CacheVerificadorToken(delegate, 100, Duration.ofMinutes(5), new RelojDePrueba(nanos),
+                nanos::get);
+    }
+
+    @Test
+    @DisplayName("Debe verificar una sola vez un token reutilizado")
+    void shouldVerifyReusedTokenOnce() {
+        TokenVerificado verificado = new TokenVerificado(1L, "PROPIETARIO", INICIO, INICIO.plusSeconds(3600));
+        when(delegate.verificar("token-a")).thenReturn(verificado);
+
+        assertThat(verificador.verificar("token-a")).isSameAs(verificado);
+        assertThat(verificador.verificar("token-a")).isSameAs(verificado);
+
+        verify(delegate, times(1)).verificar("token-a");
+        assertThat(verificador.getVerificados().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No debe confundir en la caché tokens que solo difieren en caracteres no ASCII")
+    void shouldNotCollideOnNonAsciiTokens() {
+        TokenVerificado verificado = new TokenVerificado(1L, "PROPIETARIO", INICIO, INICIO.plusSeconds(3600));
+        when(delegate.verificar("token-\u00e1")).thenReturn(verificado);
+        when(delegate.verificar("token-\u00e9")).thenThrow(new TokenInvalidoException("Token inválido", false, null));
+
+        assertThat(verificador.verificar("token-\u00e1")).isSameAs(verificado);
+        assertThatThrownBy(() -> verificador.verificar("token-\u00e9")).isInstanceOf(TokenInvalidoException.class);
+    }
+
+    @Test
+    @DisplayName("Debe descartar la entrada al llegar el exp del token")
+    void shouldEvictAtTokenExpiration() {
+        when(delegate.verificar("token-a"))
+                .thenReturn(new TokenVerificado(1L, "PROPIETARIO", INICIO, INICIO.plusSeconds(60)))
+                .thenThrow(new TokenInvalidoException("Token expirado", true, null));
+
+        verificador.verificar("token-a");
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        assertThatThrownBy(() -> verificador.verificar("token-a"))
+                .isInstanceOf(TokenInvalidoException.class)
+                .matches(e -> ((TokenInvalidoException) e).isExpirado());
+        verify(delegate, times(2)).verificar("token-a");
+    }
+
+    @Test
+    @DisplayName("Debe usar el TTL por defecto para tokens sin exp")
+    void shouldUseDefaultTtlWithoutExpiration() {
+        when(delegate.verificar("token-a")).thenReturn(new TokenVerificado(1L, "PROPIETARIO", null, null));
+
+        verificador.verificar("token-a");
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        verificador.verificar("token-a");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        verificador.verificar("token-a");
+
+        verify(delegate, times(2)).verificar("token-a");
+    }
+
+    @Test
+    @DisplayName("No debe cachear tokens inválidos")
+    void shouldNotCacheInvalidTokens() {
+        when(delegate.verificar("token-malo")).thenThrow(new TokenInvalidoException("Token inválido", false, null));
+
+        assertThatThrownBy(() -> verificador.verificar("token-malo")).isInstanceOf(TokenInvalidoException.class);
+        assertThatThrownBy(() -> verificador.verificar("token-malo")).isInstanceOf(TokenInvalidoException.class);
+
+        verify(delegate, times(2)).verificar("token-malo");
+        assertThat(verificador.getVerificados().estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe distinguir tokens distintos")
+    void shouldKeepTokensApart() {
+        TokenVerificado a = new TokenVerificado(1L, "PROPIETARIO", INICIO, INICIO.plusSeconds(3600));
+        TokenVerificado b = new TokenVerificado(2L, "CLIENTE", INICIO, INICIO.plusSeconds(3600));
+        when(delegate.verificar("token-a")).thenReturn(a);
+        when(delegate.verificar("token-b")).thenReturn(b);
+
+        assertThat(verificador.verificar("token-a")).isSameAs(a);
+        assertThat(verificador.verificar("token-b")).isSameAs(b);
+        assertThat(verificador.verificar("token-a")).isSameAs(a);
+    }
+
+    private static final class RelojDePrueba extends Clock {
+
+        private final AtomicLong nanos;
+
+        private RelojDePrueba(AtomicLong nanos) {
+            this.nanos = nanos;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return INICIO.plusNanos(nanos.get());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import com.plazoleta.plazoleta.infraestructure.security.ClavesJwks;
+import com.plazoleta.plazoleta.infraestructure.security.FuenteJwks;
+import com.plazoleta.plazoleta.infraestructure.security.JjwtVerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.TokenInvalidoException;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests Unitarios - ClavesJwks")
+class ClavesJwksTest {
+
+    private static final Duration SIN_RECARGA_PERIODICA = Duration.ofHours(1);
+    private static final Duration ESPERA_KID = Duration.ofSeconds(30);
+
+    private static KeyPair rsa;
+    private static KeyPair ec;
+
+    @TempDir
+    Path directorio;
+
+    private ClavesJwks claves;
+
+    @BeforeAll
+    static void generarClaves() {
+        rsa = JwksDePrueba.rsa();
+        ec = JwksDePrueba.ec();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (claves != null) {
+            claves.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe verificar tokens RS256 y ES256 con las claves del JWKS")
+    void shouldVerifyRs256AndEs256Tokens() throws IOException {
+        Path archivo = escribir(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa), JwksDePrueba.jwk("ec-1", ec)));
+        claves = new ClavesJwks(FuenteJwks.desde(archivo.toString()), null, SIN_RECARGA_PERIODICA, ESPERA_KID);
+        JjwtVerificadorToken verificador = new JjwtVerificadorToken(claves);
+
+        TokenVerificado conRsa = verificador.verificar(token("rsa-1", rsa.getPrivate(), Jwts.SIG.RS256));
+        TokenVerificado conEc = verificador.verificar(token("ec-1", ec.getPrivate(), Jwts.SIG.ES256));
+
+        assertThat(claves.getClaves()).containsOnlyKeys("rsa-1", "ec-1");
+        assertThat(conRsa.userId()).isEqualTo(7L);
+        assertThat(conRsa.role()).isEqualTo("CLIENTE");
+        assertThat(conEc.userId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens firmados con otra clave o con un kid de otro algoritmo")
+    void shouldRejectWrongKey() throws IOException {
+        Path archivo = escribir(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa), JwksDePrueba.jwk("ec-1", ec)));
+        claves = new ClavesJwks(FuenteJwks.desde(archivo.toString()), null, SIN_RECARGA_PERIODICA, ESPERA_KID);
+        JjwtVerificadorToken verificador = new JjwtVerificadorToken(claves);
+        String otraClave = token("rsa-1", JwksDePrueba.rsa().getPrivate(), Jwts.SIG.RS256);
+        String otroAlgoritmo = token("ec-1", rsa.getPrivate(), Jwts.SIG.RS256);
+
+        assertThatThrownBy(() -> verificador.verificar(otraClave)).isInstanceOf(TokenInvalidoException.class);
+        assertThatThrownBy(() -> verificador.verificar(otroAlgoritmo)).isInstanceOf(TokenInvalidoException.class);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar tokens HMAC solo si se configuró la clave compartida")
+    void shouldAcceptHmacOnlyWithSharedKey() throws IOException {
+        SecretKey hmac = Keys.hmacShaKeyFor("12345678901234567890123456789012".getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder().subject("7").signWith(hmac, Jwts.SIG.HS256).compact();
+        Path archivo = escribir(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa)));
+        claves = new ClavesJwks(FuenteJwks.desde(archivo.toString()), hmac, SIN_RECARGA_PERIODICA, ESPERA_KID);
+
+        assertThat(new JjwtVerificadorToken(claves).verificar(token).userId()).isEqualTo(7L);
+
+        try (ClavesJwks soloJwks = new ClavesJwks(FuenteJwks.desde(archivo.toString()), null,
+                SIN_RECARGA_PERIODICA, ESPERA_KID)) {
+            assertThatThrownBy(() -> new JjwtVerificadorToken(soloJwks).verificar(token))
+                    .isInstanceOf(TokenInvalidoException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe incorporar claves nuevas al recargar un archivo modificado")
+    void shouldReloadChangedFile() throws IOException {
+        Path archivo = escribir(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa)));
+        claves = new ClavesJwks(FuenteJwks.desde("file:" + archivo.toAbsolutePath()), null,
+                SIN_RECARGA_PERIODICA, ESPERA_KID);
+        JjwtVerificadorToken verificador = new JjwtVerificadorToken(claves);
+        String conEc = token("ec-1", ec.getPrivate(), Jwts.SIG.ES256);
+        assertThatThrownBy(() -> verificador.verificar(conEc)).isInstanceOf(TokenInvalidoException.class);
+
+        escribir(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa), JwksDePrueba.jwk("ec-1", ec)));
+        claves.recargar();
+
+        assertThat(verificador.verificar(conEc).userId()).isEqualTo(7L);
+        assertThat(claves.getClaves()).containsOnlyKeys("rsa-1", "ec-1");
+    }
+
+    @Test
+    @DisplayName("Debe conservar las claves anteriores si la recarga falla")
+    void shouldKeepKeysWhenReloadFails() throws Exception {
+        FuenteJwks fuente = mock(FuenteJwks.class);
+        when(fuente.leerSiCambio())
+                .thenReturn(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa)))
+                .thenThrow(new IOException("sin conexión"))
+                .thenReturn("{no es json");
+        claves = new ClavesJwks(fuente, null, SIN_RECARGA_PERIODICA, ESPERA_KID);
+
+        claves.recargar();
+        claves.recargar();
+
+        assertThat(claves.getClaves()).containsOnlyKeys("rsa-1");
+    }
+
+    @Test
+    @DisplayName("Un kid desconocido debe adelantar la recarga como máximo una vez por intervalo")
+    void shouldThrottleReloadsForUnknownKid() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        FuenteJwks fuente = mock(FuenteJwks.class);
+        when(fuente.leerSiCambio())
+                .thenReturn(JwksDePrueba.conjunto(JwksDePrueba.jwk("rsa-1", rsa)))
+                .thenReturn((String) null);
+        claves = new ClavesJwks(fuente, null, SIN_RECARGA_PERIODICA, ESPERA_KID, nanos::get);
+        JjwtVerificadorToken verificador = new JjwtVerificadorToken(claves);
+        String desconocido = token("rsa-2", rsa.getPrivate(), Jwts.SIG.RS256);
+
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> verificador.verificar(desconocido)).isInstanceOf(TokenInvalidoException.class);
+        }
+        verify(fuente, after(200).times(1)).leerSiCambio();
+
+        nanos.addAndGet(ESPERA_KID.toNanos());
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> verificador.verificar(desconocido)).isInstanceOf(TokenInvalidoException.class);
+        }
+        verify(fuente, timeout(1000).times(2)).leerSiCambio();
+        verify(fuente, after(200).times(2)).leerSiCambio();
+    }
+
+    private Path escribir(String jwks) throws IOException {
+        return Files.writeString(directorio.resolve("jwks.json"), jwks);
+    }
+
+    private static String token(String kid, PrivateKey clave, SignatureAlgorithm algoritmo) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("7")
+                .claim("role", "CLIENTE")
+                .signWith(clave, algoritmo)
+                .compact();
+    }
+}
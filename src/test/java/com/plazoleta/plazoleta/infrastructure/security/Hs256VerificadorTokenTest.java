@@ -0,0 +1,265 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import com.plazoleta.plazoleta.infraestructure.security.Hs256VerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.JjwtVerificadorToken;
+import com.plazoleta.plazoleta.infraestructure.security.TokenInvalidoException;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import com.plazoleta.plazoleta.infraestructure.security.VerificadorToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Tests Unitarios - Hs256VerificadorToken")
+class Hs256VerificadorTokenTest {
+
+    private static final String SECRETO = "12345678901234567890123456789012";
+    private static final Instant EMITIDO = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant EXPIRA = Instant.parse("2100-01-01T00:00:00Z");
+
+    private SecretKey clave;
+    private JjwtVerificadorToken respaldo;
+    private Hs256VerificadorToken verificador;
+
+    @BeforeEach
+    void setUp() {
+        clave = Keys.hmacShaKeyFor(SECRETO.getBytes(StandardCharsets.UTF_8));
+        respaldo = spy(new JjwtVerificadorToken(SECRETO));
+        verificador = new Hs256VerificadorToken(SECRETO, respaldo);
+    }
+
+    @Test
+    @DisplayName("Debe verificar un token HS256 sin usar jjwt y con el mismo resultado")
+    void shouldVerifyHs256TokenLikeJjwt() {
+        String token = Jwts.builder()
+                .subject("7")
+                .claim("role", "PROPIETARIO")
+                .claim("permisos", List.of("platos", "restaurantes"))
+                .claim("perfil", Map.of("nivel", 3, "flags", List.of(true, false)))
+                .id("c9f1b2e4-jti")
+                .issuedAt(Date.from(EMITIDO))
+                .expiration(Date.from(EXPIRA))
+                .signWith(clave, Jwts.SIG.HS256)
+                .compact();
+
+        TokenVerificado resultado = verificador.verificar(token);
+
+        assertThat(resultado).isEqualTo(new TokenVerificado(7L, "PROPIETARIO", EMITIDO, EXPIRA, "c9f1b2e4-jti"));
+        verify(respaldo, never()).verificar(any());
+        assertThat(resultado).isEqualTo(new JjwtVerificadorToken(SECRETO).verificar(token));
+    }
+
+    @Test
+    @DisplayName("Debe leer payloads con espacios, escapes y anidamiento en claims ignorados")
+    void shouldParseWhitespaceAndNestedClaims() throws Exception {
+        String token = firmar("{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+                " { \"sub\" : \"42\", \"extra\": [1, -2.5e3, {\"a\": \"b\\\"c\"}, null], \"role\":\"EMPLEADO\" ,"
+                        + " \"exp\": 4102444800 } ");
+
+        TokenVerificado resultado = verificador.verificar(token);
+
+        assertThat(resultado).isEqualTo(new TokenVerificado(42L, "EMPLEADO", null, EXPIRA));
+        verify(respaldo, never()).verificar(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con la firma alterada")
+    void shouldRejectTamperedSignature() {
+        String token = Jwts.builder().subject("7").signWith(clave, Jwts.SIG.HS256).compact();
+        String alterado = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BA" : "AA");
+
+        assertThatThrownBy(() -> verificador.verificar(alterado))
+                .isInstanceOf(TokenInvalidoException.class)
+                .hasMessage("Token inválido");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con el payload alterado")
+    void shouldRejectTamperedPayload() throws Exception {
+        String token = firmar("{\"alg\":\"HS256\"}", "{\"sub\":\"7\",\"role\":\"CLIENTE\"}");
+        String[] partes = token.split("\\.");
+        String payload = base64Url("{\"sub\":\"7\",\"role\":\"ADMINISTRADOR\"}");
+
+        assertThatThrownBy(() -> verificador.verificar(partes[0] + "." + payload + "." + partes[2]))
+                .isInstanceOf(TokenInvalidoException.class);
+        verify(respaldo, never()).verificar(any());
+    }
+
+    @Test
+    @DisplayName("Debe reportar tokens expirados")
+    void shouldReportExpiredToken() {
+        String token = Jwts.builder()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() - 10000))
+                .signWith(clave, Jwts.SIG.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(TokenInvalidoException.class)
+                .hasMessage("Token expirado")
+                .matches(e -> ((TokenInvalidoException) e).isExpirado());
+    }
+
+    @Test
+    @DisplayName("Debe devolver userId nulo cuando el token no trae subject")
+    void shouldReturnNullUserIdWithoutSubject() {
+        String token = Jwts.builder().claim("role", "CLIENTE").signWith(clave, Jwts.SIG.HS256).compact();
+
+        assertThat(verificador.verificar(token).userId()).isNull();
+        verify(respaldo, never()).verificar(any());
+    }
+
+    @Test
+    @DisplayName("Debe delegar en jjwt los tokens con otro algoritmo")
+    void shouldDelegateOtherAlgorithms() {
+        SecretKey claveLarga = Keys.hmacShaKeyFor("1234567890123456789012345678901234567890123456789012"
+                .getBytes(StandardCharsets.UTF_8));
+        Hs256VerificadorToken conClaveLarga = new Hs256VerificadorToken(
+                "1234567890123456789012345678901234567890123456789012", respaldo);
+        String token = Jwts.builder().subject("9").signWith(claveLarga, Jwts.SIG.HS384).compact();
+
+        assertThatThrownBy(() -> conClaveLarga.verificar(token)).isInstanceOf(TokenInvalidoException.class);
+        verify(respaldo).verificar(token);
+    }
+
+    @Test
+    @DisplayName("Debe delegar en jjwt los claims con escapes, nbf o subject no numérico")
+    void shouldDelegateUnusualClaims() {
+        String conEscape = Jwts.builder().subject("7").claim("role", "PROPIE\"TARIO")
+                .signWith(clave, Jwts.SIG.HS256).compact();
+        String conNbf = Jwts.builder().subject("7").notBefore(new Date(System.currentTimeMillis() - 10000))
+                .signWith(clave, Jwts.SIG.HS256).compact();
+        String subTexto = Jwts.builder().subject("not-a-number").signWith(clave, Jwts.SIG.HS256).compact();
+
+        assertThat(verificador.verificar(conEscape).role()).isEqualTo("PROPIE\"TARIO");
+        assertThat(verificador.verificar(conNbf).userId()).isEqualTo(7L);
+        assertThatThrownBy(() -> verificador.verificar(subTexto))
+                .isInstanceOf(TokenInvalidoException.class)
+                .hasMessage("Token inválido");
+
+        verify(respaldo).verificar(conEscape);
+        verify(respaldo).verificar(conNbf);
+        verify(respaldo).verificar(subTexto);
+    }
+
+    @Test
+    @DisplayName("Debe delegar en jjwt las claves escritas con escapes y respetar su exp")
+    void shouldDelegateEscapedClaimNames() throws Exception {
+        String token = firmar("{\"alg\":\"HS256\"}", "{\"s\\u0075b\":\"7\",\"\\u0065xp\":1000}");
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(TokenInvalidoException.class)
+                .hasMessage("Token expirado");
+        verify(respaldo).verificar(token);
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con jjwt ante payloads con JSON mal formado")
+    void shouldAgreeWithJjwtOnMalformedPayloads() throws Exception {
+        JjwtVerificadorToken jjwt = new JjwtVerificadorToken(SECRETO);
+        String[] payloads = {
+                "{\"sub\":\"7\",\"extra\":1-+e}",
+                "{\"sub\":\"7\",\"extra\":--}",
+                "{\"sub\":\"7\",\"extra\":01}",
+                "{\"sub\":\"7\",\"extra\":1.}",
+                "{\"sub\":\"7\",\"extra\":.5}",
+                "{\"sub\":\"7\",\"extra\":1e}",
+                "{\"sub\":\"7\",\"extra\":+1}",
+                "{\"sub\":\"7\",\"exp\":04102444800}",
+                "{\"sub\":\"7\",\"extra\":\"a\tb\"}",
+                "{\"sub\":\"7\",\"role\":\"CLIEN\nTE\"}",
+                "{\"sub\":\"7\",\"extra\":\"a\\qb\"}",
+                "{\"sub\":\"7\",\"extra\":\"a\\u12G4\"}",
+                "{\"sub\":\"7\",\"extra\":[1, 2,]}",
+                "{\"sub\":\"7\",\"sub\":\"8\"}",
+                "{\"sub\":\"7\",\"extra\":1,\"extra\":2}",
+                "{\"sub\":\"7\",\"extra\":[{\"a\":1,\"a\":2}]}"
+        };
+
+        for (String payload : payloads) {
+            String token = firmar("{\"alg\":\"HS256\"}", payload);
+            assertThatThrownBy(() -> jjwt.verificar(token)).as(payload).isInstanceOf(TokenInvalidoException.class);
+            assertThatThrownBy(() -> verificador.verificar(token)).as(payload)
+                    .isInstanceOf(TokenInvalidoException.class)
+                    .hasMessage("Token inválido");
+        }
+    }
+
+    @Test
+    @DisplayName("No debe aceptar un exp repetido que jjwt rechaza")
+    void shouldRejectDuplicatedExpLikeJjwt() throws Exception {
+        String token = firmar("{\"alg\":\"HS256\"}", "{\"sub\":\"7\",\"exp\":1000,\"exp\":4102444800}");
+
+        assertThat(resultado(verificador, token)).isEqualTo(resultado(new JjwtVerificadorToken(SECRETO), token));
+        verify(respaldo).verificar(token);
+    }
+
+    @Test
+    @DisplayName("Debe delegar en jjwt los payloads con bytes UTF-8 inválidos o no ASCII")
+    void shouldDelegateNonAsciiPayloads() throws Exception {
+        JjwtVerificadorToken jjwt = new JjwtVerificadorToken(SECRETO);
+        byte[] invalido = "{\"sub\":\"7\",\"extra\":\"a?b\"}".getBytes(StandardCharsets.US_ASCII);
+        invalido[invalido.length - 4] = (byte) 0xC3;
+        String[] tokens = {
+                firmar("{\"alg\":\"HS256\"}", invalido),
+                firmar("{\"alg\":\"HS256\"}", "{\"sub\":\"7\",\"nombre\":\"Mu\u00f1oz\"}")
+        };
+
+        for (String token : tokens) {
+            assertThat(resultado(verificador, token)).isEqualTo(resultado(jjwt, token));
+            verify(respaldo).verificar(token);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe aceptar sin jjwt los números y escapes válidos en claims ignorados")
+    void shouldAcceptValidNumbersAndEscapes() throws Exception {
+        String token = firmar("{\"alg\":\"HS256\"}",
+                "{\"sub\":\"7\",\"extra\":[0, -0.5, 1E+2, 3e-1, \"\\u00e9\\/\\\\\\n\"],"
+                        + " \"a\":{\"a\":{\"a\":1}}, \"b\":[{\"x\":1}, {\"x\":2}]}");
+
+        assertThat(verificador.verificar(token)).isEqualTo(new JjwtVerificadorToken(SECRETO).verificar(token));
+        verify(respaldo, never()).verificar(any());
+    }
+
+    private static Object resultado(VerificadorToken verificador, String token) {
+        try {
+            return verificador.verificar(token);
+        } catch (TokenInvalidoException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String firmar(String cabecera, String payload) throws Exception {
+        return firmar(cabecera, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String firmar(String cabecera, byte[] payload) throws Exception {
+        String contenido = base64Url(cabecera) + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRETO.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] firma = mac.doFinal(contenido.getBytes(StandardCharsets.US_ASCII));
+        return contenido + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(firma);
+    }
+
+    private static String base64Url(String texto) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+}
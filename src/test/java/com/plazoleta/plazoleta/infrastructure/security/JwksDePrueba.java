@@ -0,0 +1,70 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Pares de claves y documentos JWKS para pruebas y benchmarks de verificación RS256/ES256.
+ */
+public final class JwksDePrueba {
+
+    private JwksDePrueba() {
+    }
+
+    public static KeyPair rsa() {
+        try {
+            KeyPairGenerator generador = KeyPairGenerator.getInstance("RSA");
+            generador.initialize(2048);
+            return generador.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static KeyPair ec() {
+        try {
+            KeyPairGenerator generador = KeyPairGenerator.getInstance("EC");
+            generador.initialize(new ECGenParameterSpec("secp256r1"));
+            return generador.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String jwk(String kid, KeyPair par) {
+        if (par.getPublic() instanceof RSAPublicKey rsa) {
+            return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\""
+                    + base64Url(rsa.getModulus(), 0) + "\",\"e\":\"" + base64Url(rsa.getPublicExponent(), 0) + "\"}";
+        }
+        ECPublicKey ec = (ECPublicKey) par.getPublic();
+        return "{\"kty\":\"EC\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"ES256\",\"crv\":\"P-256\",\"x\":\""
+                + base64Url(ec.getW().getAffineX(), 32) + "\",\"y\":\"" + base64Url(ec.getW().getAffineY(), 32) + "\"}";
+    }
+
+    public static String conjunto(String... jwks) {
+        return "{\"keys\":[" + String.join(",", jwks) + "]}";
+    }
+
+    /**
+     * Codifica el entero sin signo en big-endian; con {@code largo > 0} lo rellena a ese tamaño.
+     */
+    private static String base64Url(BigInteger valor, int largo) {
+        byte[] bytes = valor.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (largo > bytes.length) {
+            byte[] relleno = new byte[largo];
+            System.arraycopy(bytes, 0, relleno, largo - bytes.length, bytes.length);
+            bytes = relleno;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
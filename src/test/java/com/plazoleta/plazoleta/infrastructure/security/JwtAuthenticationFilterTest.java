@@ -1,6 +1,14 @@
 package com.plazoleta.plazoleta.infrastructure.security;
 
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+import com.plazoleta.plazoleta.infraestructure.security.CacheVerificadorToken;
 import com.plazoleta.plazoleta.infraestructure.security.JwtAuthenticationFilter;
+import com.plazoleta.plazoleta.infraestructure.security.RegistroRevocaciones;
+import com.plazoleta.plazoleta.infraestructure.security.TokenVerificado;
+import com.plazoleta.plazoleta.infraestructure.security.VerificadorToken;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -10,20 +18,30 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.test.util.ReflectionTestUtils;
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @DisplayName("Tests - JwtAuthenticationFilter")
 class JwtAuthenticationFilterTest {
@@ -37,8 +55,9 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new JwtAuthenticationFilter();
-        ReflectionTestUtils.setField(filter, "jwtSecret", JWT_SECRET);
+        filter = new JwtAuthenticationFilter(JWT_SECRET, "hs256", 100, Duration.ofMinutes(5), "",
+                Duration.ofMinutes(1), Duration.ofSeconds(30),
+                new StaticListableBeanFactory().getBeanProvider(RegistroRevocaciones.class));
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         filterChain = mock(FilterChain.class);
@@ -69,6 +88,31 @@ class JwtAuthenticationFilterTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
+    @Test
+    @DisplayName("No debe verificar el token en rutas públicas de actuator y Swagger")
+    void shouldSkipPublicPaths() throws ServletException, IOException {
+        request.setServletPath("/actuator/health");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token-invalido");
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(eq(request), eq(response));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe verificar el token en las métricas de actuator")
+    void shouldVerifyTokenOnActuatorMetrics() throws ServletException, IOException {
+        request.setServletPath("/actuator/metrics");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token-invalido");
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
     @Test
     @DisplayName("Debe establecer autenticación cuando el token es válido")
     void shouldSetAuthenticationWhenTokenIsValid() throws ServletException, IOException {
@@ -79,7 +123,8 @@ class JwtAuthenticationFilterTest {
 
         verify(filterChain).doFilter(eq(request), eq(response));
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
-        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(1L);
+        assertThat(usuarioAutenticado().userId()).isEqualTo(1L);
+        assertThat(usuarioAutenticado().rol()).isEqualTo(Rol.PROPIETARIO);
         assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
                 .anyMatch(a -> "ROLE_PROPIETARIO".equals(a.getAuthority()));
     }
@@ -99,6 +144,7 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(eq(request), eq(response));
         assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
                 .anyMatch(a -> "ROLE_USER".equals(a.getAuthority()));
+        assertThat(usuarioAutenticado().rol()).isNull();
     }
 
     @Test
@@ -111,6 +157,7 @@ class JwtAuthenticationFilterTest {
 
         assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
                 .anyMatch(a -> "ROLE_ADMINISTRADOR".equals(a.getAuthority()));
+        assertThat(usuarioAutenticado().rol()).isEqualTo(Rol.ADMINISTRADOR);
     }
 
     @Test
@@ -170,6 +217,74 @@ class JwtAuthenticationFilterTest {
         assertThat(response.getContentAsString()).isEqualTo("Token inválido");
     }
 
+    @Test
+    @DisplayName("Debe guardar la fecha de emisión del token en el usuario autenticado")
+    void shouldStoreIssuedAtInAuthenticationDetails() throws ServletException, IOException {
+        SecretKey key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        Date emitidoEn = new Date((System.currentTimeMillis() / 1000) * 1000);
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("role", "PROPIETARIO")
+                .issuedAt(emitidoEn)
+                .signWith(key)
+                .compact();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        filter.doFilter(request, response, filterChain);
+
+        assertThat(usuarioAutenticado())
+                .isEqualTo(new UsuarioAutenticado(1L, Rol.PROPIETARIO, emitidoEn.toInstant()));
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la verificación de un token repetido")
+    void shouldReuseVerificationForRepeatedToken() throws ServletException, IOException {
+        VerificadorToken verificador = mock(VerificadorToken.class);
+        when(verificador.verificar("token-repetido"))
+                .thenReturn(new TokenVerificado(1L, "PROPIETARIO", null, null));
+        JwtAuthenticationFilter conCache = new JwtAuthenticationFilter(
+                new CacheVerificadorToken(verificador, 10, Duration.ofMinutes(5)));
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest peticion = new MockHttpServletRequest();
+            peticion.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token-repetido");
+            conCache.doFilter(peticion, new MockHttpServletResponse(), new MockFilterChain());
+            assertThat(usuarioAutenticado().userId()).isEqualTo(1L);
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(verificador, times(1)).verificar("token-repetido");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 un token revocado aunque su verificación esté en caché")
+    void shouldRejectRevokedToken() throws ServletException, IOException {
+        TokenRevocadoPersistencePort port = mock(TokenRevocadoPersistencePort.class);
+        when(port.buscarDesde(anyLong(), anyInt())).thenReturn(List.of());
+        RegistroRevocaciones registro = new RegistroRevocaciones(port, 100, 0.01, Clock.systemUTC());
+        VerificadorToken verificador = mock(VerificadorToken.class);
+        when(verificador.verificar("token-revocable"))
+                .thenReturn(new TokenVerificado(1L, "PROPIETARIO", null, null, "jti-1"));
+        JwtAuthenticationFilter conRevocacion = new JwtAuthenticationFilter(
+                new CacheVerificadorToken(verificador, 10, Duration.ofMinutes(5)), registro);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token-revocable");
+
+        conRevocacion.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        registro.guardar(new TokenRevocado("jti-1", Instant.now().plus(Duration.ofHours(1))));
+        conRevocacion.doFilter(request, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).isEqualTo("Token revocado");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain, never()).doFilter(request, response);
+        verify(verificador, times(1)).verificar("token-revocable");
+    }
+
+    private static UsuarioAutenticado usuarioAutenticado() {
+        return (UsuarioAutenticado) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
     private String createValidToken(Long userId, String role) {
         SecretKey key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
@@ -188,4 +303,4 @@ class JwtAuthenticationFilterTest {
                 .signWith(key)
                 .compact();
     }
-}
\ No newline at end of file
+}
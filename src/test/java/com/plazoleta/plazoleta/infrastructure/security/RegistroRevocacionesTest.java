@@ -0,0 +1,155 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import com.plazoleta.plazoleta.domain.model.TokenRevocado;
+import com.plazoleta.plazoleta.domain.spi.TokenRevocadoPersistencePort;
+import com.plazoleta.plazoleta.infraestructure.security.FiltroBloom;
+import com.plazoleta.plazoleta.infraestructure.security.RegistroRevocaciones;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests Unitarios - RegistroRevocaciones")
+class RegistroRevocacionesTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-01T10:00:00Z");
+
+    private TokenRevocadoPersistencePort port;
+    private RegistroRevocaciones registro;
+
+    @BeforeEach
+    void setUp() {
+        port = mock(TokenRevocadoPersistencePort.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (registro != null) {
+            registro.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe cargar al iniciar solo las revocaciones vigentes, en lotes")
+    void shouldLoadActiveRevocationsInBatches() {
+        List<TokenRevocado> filas = new ArrayList<>();
+        IntStream.rangeClosed(1, 501).forEach(i -> filas.add(revocado(i, "jti-" + i, AHORA.plusSeconds(60))));
+        filas.add(revocado(502, "expirado", AHORA.minusSeconds(1)));
+        when(port.buscarDesde(eq(0L), anyInt())).thenReturn(filas.subList(0, 500));
+        when(port.buscarDesde(eq(500L), anyInt())).thenReturn(filas.subList(500, 502));
+
+        registro = new RegistroRevocaciones(port, 1000, 0.01, Clock.fixed(AHORA, ZoneOffset.UTC));
+
+        assertThat(registro.getCantidadRevocados()).isEqualTo(501);
+        assertThat(registro.estaRevocado("jti-1")).isTrue();
+        assertThat(registro.estaRevocado("jti-501")).isTrue();
+        assertThat(registro.estaRevocado("expirado")).isFalse();
+        assertThat(registro.estaRevocado("otro")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe incorporar en el refresco las revocaciones creadas por otros nodos")
+    void shouldPickUpNewRevocationsOnRefresh() {
+        when(port.buscarDesde(eq(0L), anyInt()))
+                .thenReturn(List.of(revocado(1, "jti-1", AHORA.plusSeconds(60))))
+                .thenReturn(List.of(revocado(1, "jti-1", AHORA.plusSeconds(60)),
+                        revocado(2, "jti-2", AHORA.plusSeconds(60))));
+        registro = new RegistroRevocaciones(port, 1000, 0.01, Clock.fixed(AHORA, ZoneOffset.UTC));
+        assertThat(registro.estaRevocado("jti-2")).isFalse();
+
+        registro.refrescar();
+
+        assertThat(registro.estaRevocado("jti-2")).isTrue();
+        assertThat(registro.getCantidadRevocados()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe incorporar en el refresco una revocación confirmada después de otra con id mayor")
+    void shouldPickUpRevocationsCommittedOutOfOrder() {
+        List<TokenRevocado> iniciales = new ArrayList<>();
+        IntStream.rangeClosed(1, 300).filter(i -> i != 250)
+                .forEach(i -> iniciales.add(revocado(i, "jti-" + i, AHORA.plusSeconds(60))));
+        when(port.buscarDesde(eq(0L), anyInt())).thenReturn(iniciales);
+        when(port.buscarDesde(eq(200L), anyInt()))
+                .thenReturn(List.of(revocado(250, "jti-250", AHORA.plusSeconds(60))));
+        registro = new RegistroRevocaciones(port, 1000, 0.01, Clock.fixed(AHORA, ZoneOffset.UTC));
+        assertThat(registro.estaRevocado("jti-250")).isFalse();
+
+        registro.refrescar();
+
+        assertThat(registro.estaRevocado("jti-250")).isTrue();
+        registro.refrescar();
+        verify(port, times(2)).buscarDesde(eq(200L), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar de inmediato las revocaciones guardadas en este nodo")
+    void shouldApplyLocalRevocationImmediately() {
+        when(port.buscarDesde(eq(0L), anyInt())).thenReturn(List.of());
+        registro = new RegistroRevocaciones(port, 1000, 0.01, Clock.fixed(AHORA, ZoneOffset.UTC));
+        TokenRevocado nuevo = new TokenRevocado("jti-1", AHORA.plusSeconds(60));
+
+        registro.guardar(nuevo);
+
+        verify(port).guardar(nuevo);
+        assertThat(registro.estaRevocado("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("La compactación debe eliminar las expiradas y descartarlas de memoria")
+    void shouldCompactExpiredRevocations() {
+        Instant[] ahora = {AHORA};
+        Clock reloj = mock(Clock.class);
+        when(reloj.instant()).thenAnswer(invocacion -> ahora[0]);
+        when(port.buscarDesde(eq(0L), anyInt())).thenReturn(List.of(
+                revocado(1, "corto", AHORA.plusSeconds(60)), revocado(2, "largo", AHORA.plusSeconds(3600))));
+        registro = new RegistroRevocaciones(port, 1000, 0.01, reloj);
+
+        ahora[0] = AHORA.plusSeconds(120);
+        registro.compactar();
+
+        verify(port).eliminarExpirados(AHORA.plusSeconds(120));
+        assertThat(registro.getCantidadRevocados()).isEqualTo(1);
+        assertThat(registro.estaRevocado("corto")).isFalse();
+        assertThat(registro.estaRevocado("largo")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe seguir operando si la tabla no está disponible")
+    void shouldTolerateStoreFailures() {
+        when(port.buscarDesde(eq(0L), anyInt())).thenThrow(new IllegalStateException("sin conexión"));
+
+        registro = new RegistroRevocaciones(port, 1000, 0.01, Clock.fixed(AHORA, ZoneOffset.UTC));
+        registro.refrescar();
+
+        assertThat(registro.estaRevocado("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("El filtro de Bloom no debe dar falsos negativos y debe respetar la tasa de falsos positivos")
+    void bloomFilterShouldHaveNoFalseNegatives() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filtro.agregar("revocado-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filtro.podriaContener("revocado-" + i))).isTrue();
+        long falsosPositivos = IntStream.range(0, 100_000).filter(i -> filtro.podriaContener("vigente-" + i)).count();
+        assertThat(falsosPositivos).isLessThan(2_000);
+    }
+
+    private static TokenRevocado revocado(long id, String jti, Instant expiraEn) {
+        return new TokenRevocado(id, jti, expiraEn);
+    }
+}
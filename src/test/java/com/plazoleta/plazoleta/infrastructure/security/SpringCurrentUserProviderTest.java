@@ -1,5 +1,7 @@
 package com.plazoleta.plazoleta.infrastructure.security;
 
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
 import com.plazoleta.plazoleta.infraestructure.security.SpringCurrentUserProvider;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,9 +9,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Tests - SpringCurrentUserProvider")
@@ -32,90 +39,63 @@ class SpringCurrentUserProviderTest {
     void shouldReturnNullWhenNoAuthentication() {
         SecurityContextHolder.clearContext();
 
-        assertThat(provider.getCurrentUserId()).isNull();
-        assertThat(provider.getCurrentUserRole()).isNull();
+        assertThat(provider.getUsuarioActual()).isNull();
     }
 
     @Test
-    @DisplayName("Debe retornar userId cuando el principal es Long")
-    void shouldReturnUserIdWhenPrincipalIsLong() {
-        Long userId = 10L;
-        List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_PROPIETARIO"));
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(userId, null, authorities);
-        SecurityContextHolder.getContext().setAuthentication(auth);
+    @DisplayName("Debe retornar el principal tal como lo dejó el filtro JWT")
+    void shouldReturnPrincipal() {
+        UsuarioAutenticado usuario = new UsuarioAutenticado(10L, Rol.PROPIETARIO,
+                Instant.parse("2026-01-01T10:00:00Z"));
+        autenticar(usuario);
 
-        assertThat(provider.getCurrentUserId()).isEqualTo(10L);
-        assertThat(provider.getCurrentUserRole()).isEqualTo("PROPIETARIO");
+        assertThat(provider.getUsuarioActual()).isSameAs(usuario);
     }
 
     @Test
-    @DisplayName("Debe retornar userId cuando el principal es String numérico")
-    void shouldReturnUserIdWhenPrincipalIsNumericString() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken("42", null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMINISTRADOR")));
-        SecurityContextHolder.getContext().setAuthentication(auth);
+    @DisplayName("Debe retornar null cuando el principal no es un usuario autenticado")
+    void shouldReturnNullForOtherPrincipals() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("42", null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMINISTRADOR"))));
 
-        assertThat(provider.getCurrentUserId()).isEqualTo(42L);
-        assertThat(provider.getCurrentUserRole()).isEqualTo("ADMINISTRADOR");
+        assertThat(provider.getUsuarioActual()).isNull();
     }
 
     @Test
-    @DisplayName("Debe retornar null cuando el principal String no es número")
-    void shouldReturnNullWhenPrincipalStringIsNotNumber() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken("invalid", null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
-        SecurityContextHolder.getContext().setAuthentication(auth);
-
-        assertThat(provider.getCurrentUserId()).isNull();
-    }
-
-    @Test
-    @DisplayName("Debe retornar null cuando no hay authorities")
-    void shouldReturnNullRoleWhenNoAuthorities() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(1L, null, Collections.emptyList());
+    @DisplayName("Debe retornar null cuando la autenticación no está autenticada")
+    void shouldReturnNullWhenNotAuthenticated() {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                new UsuarioAutenticado(1L, Rol.CLIENTE, null), null);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        assertThat(provider.getCurrentUserId()).isEqualTo(1L);
-        assertThat(provider.getCurrentUserRole()).isNull();
+        assertThat(provider.getUsuarioActual()).isNull();
     }
 
     @Test
-    @DisplayName("Debe quitar prefijo ROLE_ del rol")
-    void shouldStripRolePrefix() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(5L, null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_EMPLEADO")));
-        SecurityContextHolder.getContext().setAuthentication(auth);
+    @DisplayName("Debe retornar null cuando el principal es null")
+    void shouldReturnNullWhenPrincipalIsNull() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(null, null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))));
 
-        assertThat(provider.getCurrentUserRole()).isEqualTo("EMPLEADO");
+        assertThat(provider.getUsuarioActual()).isNull();
     }
 
     @Test
-    @DisplayName("Debe retornar null cuando la autenticación no está autenticada")
-    void shouldReturnNullWhenNotAuthenticated() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(1L, null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
-        auth.setAuthenticated(false);
-        SecurityContextHolder.getContext().setAuthentication(auth);
-
-        assertThat(provider.getCurrentUserId()).isNull();
-        assertThat(provider.getCurrentUserRole()).isNull();
+    @DisplayName("Debe exponer el usuario en hilos virtuales con el contexto propagado")
+    void shouldExposePrincipalOnVirtualThreads() throws Exception {
+        UsuarioAutenticado usuario = new UsuarioAutenticado(7L, Rol.EMPLEADO, null);
+        autenticar(usuario);
+        SecurityContext contextoOriginal = SecurityContextHolder.getContext();
+
+        try (ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newVirtualThreadPerTaskExecutor())) {
+            assertThat(executor.submit(provider::getUsuarioActual).get()).isSameAs(usuario);
+        }
+        assertThat(SecurityContextHolder.getContext()).isSameAs(contextoOriginal);
     }
 
-    @Test
-    @DisplayName("Debe retornar null cuando el principal es null")
-    void shouldReturnNullWhenPrincipalIsNull() {
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(null, null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
-        SecurityContextHolder.getContext().setAuthentication(auth);
-
-        assertThat(provider.getCurrentUserId()).isNull();
+    private static void autenticar(UsuarioAutenticado usuario) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(usuario, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + usuario.rol().name()))));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.plazoleta.plazoleta.infrastructure.security;
+
+import com.plazoleta.plazoleta.application.security.ICurrentUserProvider;
+import com.plazoleta.plazoleta.domain.model.Rol;
+import com.plazoleta.plazoleta.domain.model.UsuarioAutenticado;
+import com.plazoleta.plazoleta.domain.model.UsuarioModelo;
+import com.plazoleta.plazoleta.domain.spi.UsuarioValidationPort;
+import com.plazoleta.plazoleta.infraestructure.security.ModoVerificacionRol;
+import com.plazoleta.plazoleta.infraestructure.security.UsuarioTokenVerificationAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests Unitarios - UsuarioTokenVerificationAdapter")
+class UsuarioTokenVerificationAdapterTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private UsuarioValidationPort delegate;
+
+    @Mock
+    private ICurrentUserProvider currentUserProvider;
+
+    private Clock clock;
+    private UsuarioModelo remoto;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(AHORA, ZoneOffset.UTC);
+        remoto = new UsuarioModelo(1L, "PROPIETARIO");
+    }
+
+    @Test
+    @DisplayName("En modo remote debe consultar siempre el servicio de usuarios")
+    void remoteModeShouldAlwaysDelegate() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.REMOTE, 0.0, 0.5);
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+        verifyNoInteractions(currentUserProvider);
+    }
+
+    @Test
+    @DisplayName("En modo token debe usar el rol del JWT del usuario autenticado")
+    void tokenModeShouldTrustVerifiedClaim() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.TOKEN, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(1L, Rol.PROPIETARIO, null));
+
+        UsuarioModelo result = adapter.getUserById(1L);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getRole()).isEqualTo("PROPIETARIO");
+        verify(delegate, never()).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("En modo token debe consultar remotamente cuando se pide otro usuario")
+    void tokenModeShouldDelegateForOtherUsers() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.TOKEN, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(99L, Rol.ADMINISTRADOR, null));
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    @Test
+    @DisplayName("En modo token debe consultar remotamente cuando no hay usuario autenticado")
+    void tokenModeShouldDelegateWithoutAuthentication() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.TOKEN, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual()).thenReturn(null);
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    @Test
+    @DisplayName("En modo token debe consultar remotamente cuando el rol del token no es conocido")
+    void tokenModeShouldDelegateForUnknownRole() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.TOKEN, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual()).thenReturn(new UsuarioAutenticado(1L, null, null));
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    @Test
+    @DisplayName("En modo hybrid debe confiar en tokens recientes fuera de la muestra")
+    void hybridModeShouldTrustRecentTokensOutsideSample() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.HYBRID, 0.05, 0.5);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(1L, Rol.PROPIETARIO, AHORA.minus(Duration.ofMinutes(1))));
+
+        assertThat(adapter.getUserById(1L).getRole()).isEqualTo("PROPIETARIO");
+        verify(delegate, never()).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("En modo hybrid debe verificar remotamente las peticiones muestreadas")
+    void hybridModeShouldVerifySampledRequests() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.HYBRID, 0.05, 0.01);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(1L, Rol.PROPIETARIO, AHORA.minus(Duration.ofMinutes(1))));
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    @Test
+    @DisplayName("En modo hybrid debe verificar remotamente los tokens antiguos")
+    void hybridModeShouldVerifyOldTokens() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.HYBRID, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(1L, Rol.PROPIETARIO, AHORA.minus(Duration.ofHours(1))));
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    @Test
+    @DisplayName("En modo hybrid debe verificar remotamente los tokens sin iat")
+    void hybridModeShouldVerifyTokensWithoutIssuedAt() {
+        UsuarioTokenVerificationAdapter adapter = crear(ModoVerificacionRol.HYBRID, 0.0, 0.5);
+        when(currentUserProvider.getUsuarioActual())
+                .thenReturn(new UsuarioAutenticado(1L, Rol.PROPIETARIO, null));
+        when(delegate.getUserById(1L)).thenReturn(remoto);
+
+        assertThat(adapter.getUserById(1L)).isSameAs(remoto);
+    }
+
+    private UsuarioTokenVerificationAdapter crear(ModoVerificacionRol modo, double fraccion, double aleatorio) {
+        return new UsuarioTokenVerificationAdapter(delegate, currentUserProvider, modo, fraccion,
+                Duration.ofMinutes(15), clock, () -> aleatorio);
+    }
+}